@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings.benchmarks;
+
+import java.io.File;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs all benchmarks and writes the results as JSON files, for tracking
+ * results over releases. The single-threaded benchmarks are written to
+ * results.json, the contended benchmarks to results-threads-N.json, one file
+ * for each thread count.
+ *
+ * <p>
+ * Arguments: [outputDir] [threadCounts], defaults: {@code . 1,2,4,8}
+ */
+public class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+        // Utility class.
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        final File outputDir = new File(args.length > 0 ? args[0] : ".");
+        final String threadCounts = args.length > 1 ? args[1] : "1,2,4,8";
+        if (!outputDir.isDirectory() && !outputDir.mkdirs()) {
+            throw new IllegalArgumentException("Can not create output directory " + outputDir);
+        }
+
+        Options single = new OptionsBuilder()
+                .include(CachedSettingsBenchmark.class.getSimpleName())
+                .include(ConfigUtilsBenchmark.class.getSimpleName())
+                .include(EnvironmentStartupBenchmark.class.getSimpleName())
+                .include(ParsingBenchmark.class.getSimpleName())
+                .include(SettingsBenchmark.class.getSimpleName())
+                .include(SubSettingsBenchmark.class.getSimpleName())
+                .resultFormat(ResultFormatType.JSON)
+                .result(new File(outputDir, "results.json").getPath())
+                .build();
+        new Runner(single).run();
+
+        for (String count : threadCounts.split(",")) {
+            final int threads = Integer.parseInt(count.trim());
+            Options contended = new OptionsBuilder()
+                    .include(ContendedReadBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(new File(outputDir, "results-threads-" + threads + ".json").getPath())
+                    .build();
+            new Runner(contended).run();
+        }
+    }
+}
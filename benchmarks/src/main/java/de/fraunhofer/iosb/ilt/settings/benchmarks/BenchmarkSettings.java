@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings.benchmarks;
+
+import de.fraunhofer.iosb.ilt.settings.CachedSettings;
+import de.fraunhofer.iosb.ilt.settings.ConcurrentCachedSettings;
+import de.fraunhofer.iosb.ilt.settings.Settings;
+import de.fraunhofer.iosb.ilt.settings.SnapshotSettings;
+import java.util.Properties;
+
+/**
+ * Helper for creating the Settings implementations used in benchmarks.
+ */
+public class BenchmarkSettings {
+
+    private BenchmarkSettings() {
+        // Utility class.
+    }
+
+    /**
+     * Create properties with keys key0 .. key[count-1], with integer values.
+     *
+     * @param count The number of properties to create.
+     * @return The properties.
+     */
+    public static Properties createProperties(int count) {
+        Properties properties = new Properties();
+        for (int i = 0; i < count; i++) {
+            properties.setProperty("key" + i, Integer.toString(100_000 + i));
+        }
+        return properties;
+    }
+
+    /**
+     * Create the keys of properties created with createProperties, spread
+     * evenly over the property range.
+     *
+     * @param propertyCount The number of properties.
+     * @param keyCount The number of keys to return, must be a power of two.
+     * @return The keys.
+     */
+    public static String[] createKeys(int propertyCount, int keyCount) {
+        String[] keys = new String[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = "key" + ((long) i * propertyCount / keyCount);
+        }
+        return keys;
+    }
+
+    /**
+     * Create a Settings of the given implementation, without environment
+     * variables.
+     *
+     * @param implementation One of settings, cached, concurrent or snapshot.
+     * @param properties The properties to wrap.
+     * @return The Settings.
+     */
+    public static Settings create(String implementation, Properties properties) {
+        switch (implementation) {
+            case "settings":
+                return new Settings(properties, "", false, false);
+            case "cached":
+                return new CachedSettings(properties, "", false, false);
+            case "concurrent":
+                return new ConcurrentCachedSettings(properties, "", false, false);
+            case "snapshot":
+                return new SnapshotSettings(properties, "", false, false);
+            default:
+                throw new IllegalArgumentException("Unknown implementation " + implementation);
+        }
+    }
+}
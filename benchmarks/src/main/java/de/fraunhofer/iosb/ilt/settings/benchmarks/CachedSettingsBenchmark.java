@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings.benchmarks;
+
+import de.fraunhofer.iosb.ilt.settings.CachedSettings;
+import de.fraunhofer.iosb.ilt.settings.Settings;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cache-hit performance of CachedSettings, compared to the boxed per-type
+ * maps of version 1.2. Run with {@code -prof gc} to see allocations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CachedSettingsBenchmark {
+
+    private static final int KEY_COUNT = 128;
+
+    @Param({"slot", "boxed"})
+    public String implementation;
+
+    private Settings settings;
+    private String[] keys;
+    private int index;
+
+    @Setup
+    public void setup() {
+        Properties properties = new Properties();
+        keys = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "key" + i;
+            // Values outside of the Integer cache range.
+            properties.setProperty(keys[i], Integer.toString(100_000 + i));
+        }
+        if ("boxed".equals(implementation)) {
+            settings = new BoxedCachedSettings(properties, "", false, false);
+        } else {
+            settings = new CachedSettings(properties, "", false, false);
+        }
+        for (String key : keys) {
+            settings.get(key);
+            settings.getInt(key);
+            settings.getLong(key);
+            settings.getDouble(key);
+            settings.getBoolean(key);
+        }
+    }
+
+    private String nextKey() {
+        return keys[index++ & (KEY_COUNT - 1)];
+    }
+
+    @Benchmark
+    public String getStringHit() {
+        return settings.get(nextKey());
+    }
+
+    @Benchmark
+    public int getIntHit() {
+        return settings.getInt(nextKey());
+    }
+
+    @Benchmark
+    public long getLongHit() {
+        return settings.getLong(nextKey());
+    }
+
+    @Benchmark
+    public double getDoubleHit() {
+        return settings.getDouble(nextKey());
+    }
+
+    @Benchmark
+    public boolean getBooleanHit() {
+        return settings.getBoolean(nextKey());
+    }
+
+    @Benchmark
+    public long mixedTypesHit() {
+        final String key = nextKey();
+        return settings.getInt(key) + settings.getLong(key) + (long) settings.getDouble(key);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings.benchmarks;
+
+import de.fraunhofer.iosb.ilt.settings.ConfigDefaults;
+import de.fraunhofer.iosb.ilt.settings.ConfigUtils;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Default-value and sensitivity lookups in ConfigDefaults classes of
+ * different sizes, compared to the reflective scans of version 1.2.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigUtilsBenchmark {
+
+    @Param({"10", "50", "150"})
+    public int defaultsSize;
+
+    @Param({"indexed", "scan"})
+    public String implementation;
+
+    private Class<? extends ConfigDefaults> defaultsClass;
+    private String[] tags;
+    private boolean scan;
+    private int index;
+
+    @Setup
+    public void setup() {
+        switch (defaultsSize) {
+            case 10:
+                defaultsClass = Defaults10.class;
+                break;
+            case 50:
+                defaultsClass = Defaults50.class;
+                break;
+            default:
+                defaultsClass = Defaults150.class;
+                break;
+        }
+        tags = new String[defaultsSize];
+        for (int i = 0; i < defaultsSize; i++) {
+            tags[i] = "tag" + i;
+        }
+        scan = "scan".equals(implementation);
+    }
+
+    private String nextTag() {
+        final String tag = tags[index];
+        index = (index + 1) % tags.length;
+        return tag;
+    }
+
+    @Benchmark
+    public String getDefaultValue() {
+        if (scan) {
+            return LinearScanConfigUtils.getDefaultValue(defaultsClass, nextTag());
+        }
+        return ConfigUtils.getDefaultValue(defaultsClass, nextTag());
+    }
+
+    @Benchmark
+    public boolean isSensitive() {
+        if (scan) {
+            return LinearScanConfigUtils.isSensitive(defaultsClass, nextTag());
+        }
+        return ConfigUtils.isSensitive(defaultsClass, nextTag());
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings.benchmarks;
+
+import de.fraunhofer.iosb.ilt.settings.Settings;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Multi-threaded reads from one shared Settings instance. Set the number of
+ * threads with the -t option, or use {@link BenchmarkRunner}. CachedSettings
+ * is not thread-safe, and is not included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContendedReadBenchmark {
+
+    private static final int KEY_COUNT = 128;
+
+    @Param({"1000"})
+    public int propertyCount;
+
+    @Param({"settings", "concurrent", "snapshot"})
+    public String implementation;
+
+    private Settings settings;
+    private String[] keys;
+
+    /**
+     * Per-thread position in the key array.
+     */
+    @State(Scope.Thread)
+    public static class ThreadIndex {
+
+        private int index;
+
+        @Setup
+        public void setup() {
+            index = (int) Thread.currentThread().getId() * 31;
+        }
+
+        int next() {
+            return index++ & (KEY_COUNT - 1);
+        }
+    }
+
+    @Setup
+    public void setup() {
+        settings = BenchmarkSettings.create(implementation, BenchmarkSettings.createProperties(propertyCount));
+        keys = BenchmarkSettings.createKeys(propertyCount, KEY_COUNT);
+    }
+
+    @Benchmark
+    public int sameKey() {
+        return settings.getInt(keys[0]);
+    }
+
+    @Benchmark
+    public int differentKeys(ThreadIndex threadIndex) {
+        return settings.getInt(keys[threadIndex.next()]);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings.benchmarks;
+
+import de.fraunhofer.iosb.ilt.settings.ConfigDefaults;
+import de.fraunhofer.iosb.ilt.settings.annotation.DefaultValue;
+import de.fraunhofer.iosb.ilt.settings.annotation.DefaultValueBoolean;
+import de.fraunhofer.iosb.ilt.settings.annotation.DefaultValueInt;
+import de.fraunhofer.iosb.ilt.settings.annotation.SensitiveValue;
+
+/**
+ * A ConfigDefaults class with 10 tags, for benchmarks.
+ */
+public class Defaults10 implements ConfigDefaults {
+
+    @DefaultValue("value0")
+    public static final String TAG_0 = "tag0";
+    @DefaultValueInt(10)
+    public static final String TAG_1 = "tag1";
+    @DefaultValueBoolean(true)
+    public static final String TAG_2 = "tag2";
+    @DefaultValue("secret3")
+    @SensitiveValue
+    public static final String TAG_3 = "tag3";
+    @DefaultValue("value4")
+    public static final String TAG_4 = "tag4";
+    @DefaultValueInt(50)
+    public static final String TAG_5 = "tag5";
+    @DefaultValueBoolean(false)
+    public static final String TAG_6 = "tag6";
+    @DefaultValue("secret7")
+    @SensitiveValue
+    public static final String TAG_7 = "tag7";
+    @DefaultValue("value8")
+    public static final String TAG_8 = "tag8";
+    @DefaultValueInt(90)
+    public static final String TAG_9 = "tag9";
+
+}
@@ -0,0 +1,374 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings.benchmarks;
+
+import de.fraunhofer.iosb.ilt.settings.ConfigDefaults;
+import de.fraunhofer.iosb.ilt.settings.annotation.DefaultValue;
+import de.fraunhofer.iosb.ilt.settings.annotation.DefaultValueBoolean;
+import de.fraunhofer.iosb.ilt.settings.annotation.DefaultValueInt;
+import de.fraunhofer.iosb.ilt.settings.annotation.SensitiveValue;
+
+/**
+ * A ConfigDefaults class with 150 tags, for benchmarks.
+ */
+public class Defaults150 implements ConfigDefaults {
+
+    @DefaultValue("value0")
+    public static final String TAG_0 = "tag0";
+    @DefaultValueInt(10)
+    public static final String TAG_1 = "tag1";
+    @DefaultValueBoolean(true)
+    public static final String TAG_2 = "tag2";
+    @DefaultValue("secret3")
+    @SensitiveValue
+    public static final String TAG_3 = "tag3";
+    @DefaultValue("value4")
+    public static final String TAG_4 = "tag4";
+    @DefaultValueInt(50)
+    public static final String TAG_5 = "tag5";
+    @DefaultValueBoolean(false)
+    public static final String TAG_6 = "tag6";
+    @DefaultValue("secret7")
+    @SensitiveValue
+    public static final String TAG_7 = "tag7";
+    @DefaultValue("value8")
+    public static final String TAG_8 = "tag8";
+    @DefaultValueInt(90)
+    public static final String TAG_9 = "tag9";
+    @DefaultValueBoolean(true)
+    public static final String TAG_10 = "tag10";
+    @DefaultValue("secret11")
+    @SensitiveValue
+    public static final String TAG_11 = "tag11";
+    @DefaultValue("value12")
+    public static final String TAG_12 = "tag12";
+    @DefaultValueInt(130)
+    public static final String TAG_13 = "tag13";
+    @DefaultValueBoolean(false)
+    public static final String TAG_14 = "tag14";
+    @DefaultValue("secret15")
+    @SensitiveValue
+    public static final String TAG_15 = "tag15";
+    @DefaultValue("value16")
+    public static final String TAG_16 = "tag16";
+    @DefaultValueInt(170)
+    public static final String TAG_17 = "tag17";
+    @DefaultValueBoolean(true)
+    public static final String TAG_18 = "tag18";
+    @DefaultValue("secret19")
+    @SensitiveValue
+    public static final String TAG_19 = "tag19";
+    @DefaultValue("value20")
+    public static final String TAG_20 = "tag20";
+    @DefaultValueInt(210)
+    public static final String TAG_21 = "tag21";
+    @DefaultValueBoolean(false)
+    public static final String TAG_22 = "tag22";
+    @DefaultValue("secret23")
+    @SensitiveValue
+    public static final String TAG_23 = "tag23";
+    @DefaultValue("value24")
+    public static final String TAG_24 = "tag24";
+    @DefaultValueInt(250)
+    public static final String TAG_25 = "tag25";
+    @DefaultValueBoolean(true)
+    public static final String TAG_26 = "tag26";
+    @DefaultValue("secret27")
+    @SensitiveValue
+    public static final String TAG_27 = "tag27";
+    @DefaultValue("value28")
+    public static final String TAG_28 = "tag28";
+    @DefaultValueInt(290)
+    public static final String TAG_29 = "tag29";
+    @DefaultValueBoolean(false)
+    public static final String TAG_30 = "tag30";
+    @DefaultValue("secret31")
+    @SensitiveValue
+    public static final String TAG_31 = "tag31";
+    @DefaultValue("value32")
+    public static final String TAG_32 = "tag32";
+    @DefaultValueInt(330)
+    public static final String TAG_33 = "tag33";
+    @DefaultValueBoolean(true)
+    public static final String TAG_34 = "tag34";
+    @DefaultValue("secret35")
+    @SensitiveValue
+    public static final String TAG_35 = "tag35";
+    @DefaultValue("value36")
+    public static final String TAG_36 = "tag36";
+    @DefaultValueInt(370)
+    public static final String TAG_37 = "tag37";
+    @DefaultValueBoolean(false)
+    public static final String TAG_38 = "tag38";
+    @DefaultValue("secret39")
+    @SensitiveValue
+    public static final String TAG_39 = "tag39";
+    @DefaultValue("value40")
+    public static final String TAG_40 = "tag40";
+    @DefaultValueInt(410)
+    public static final String TAG_41 = "tag41";
+    @DefaultValueBoolean(true)
+    public static final String TAG_42 = "tag42";
+    @DefaultValue("secret43")
+    @SensitiveValue
+    public static final String TAG_43 = "tag43";
+    @DefaultValue("value44")
+    public static final String TAG_44 = "tag44";
+    @DefaultValueInt(450)
+    public static final String TAG_45 = "tag45";
+    @DefaultValueBoolean(false)
+    public static final String TAG_46 = "tag46";
+    @DefaultValue("secret47")
+    @SensitiveValue
+    public static final String TAG_47 = "tag47";
+    @DefaultValue("value48")
+    public static final String TAG_48 = "tag48";
+    @DefaultValueInt(490)
+    public static final String TAG_49 = "tag49";
+    @DefaultValueBoolean(true)
+    public static final String TAG_50 = "tag50";
+    @DefaultValue("secret51")
+    @SensitiveValue
+    public static final String TAG_51 = "tag51";
+    @DefaultValue("value52")
+    public static final String TAG_52 = "tag52";
+    @DefaultValueInt(530)
+    public static final String TAG_53 = "tag53";
+    @DefaultValueBoolean(false)
+    public static final String TAG_54 = "tag54";
+    @DefaultValue("secret55")
+    @SensitiveValue
+    public static final String TAG_55 = "tag55";
+    @DefaultValue("value56")
+    public static final String TAG_56 = "tag56";
+    @DefaultValueInt(570)
+    public static final String TAG_57 = "tag57";
+    @DefaultValueBoolean(true)
+    public static final String TAG_58 = "tag58";
+    @DefaultValue("secret59")
+    @SensitiveValue
+    public static final String TAG_59 = "tag59";
+    @DefaultValue("value60")
+    public static final String TAG_60 = "tag60";
+    @DefaultValueInt(610)
+    public static final String TAG_61 = "tag61";
+    @DefaultValueBoolean(false)
+    public static final String TAG_62 = "tag62";
+    @DefaultValue("secret63")
+    @SensitiveValue
+    public static final String TAG_63 = "tag63";
+    @DefaultValue("value64")
+    public static final String TAG_64 = "tag64";
+    @DefaultValueInt(650)
+    public static final String TAG_65 = "tag65";
+    @DefaultValueBoolean(true)
+    public static final String TAG_66 = "tag66";
+    @DefaultValue("secret67")
+    @SensitiveValue
+    public static final String TAG_67 = "tag67";
+    @DefaultValue("value68")
+    public static final String TAG_68 = "tag68";
+    @DefaultValueInt(690)
+    public static final String TAG_69 = "tag69";
+    @DefaultValueBoolean(false)
+    public static final String TAG_70 = "tag70";
+    @DefaultValue("secret71")
+    @SensitiveValue
+    public static final String TAG_71 = "tag71";
+    @DefaultValue("value72")
+    public static final String TAG_72 = "tag72";
+    @DefaultValueInt(730)
+    public static final String TAG_73 = "tag73";
+    @DefaultValueBoolean(true)
+    public static final String TAG_74 = "tag74";
+    @DefaultValue("secret75")
+    @SensitiveValue
+    public static final String TAG_75 = "tag75";
+    @DefaultValue("value76")
+    public static final String TAG_76 = "tag76";
+    @DefaultValueInt(770)
+    public static final String TAG_77 = "tag77";
+    @DefaultValueBoolean(false)
+    public static final String TAG_78 = "tag78";
+    @DefaultValue("secret79")
+    @SensitiveValue
+    public static final String TAG_79 = "tag79";
+    @DefaultValue("value80")
+    public static final String TAG_80 = "tag80";
+    @DefaultValueInt(810)
+    public static final String TAG_81 = "tag81";
+    @DefaultValueBoolean(true)
+    public static final String TAG_82 = "tag82";
+    @DefaultValue("secret83")
+    @SensitiveValue
+    public static final String TAG_83 = "tag83";
+    @DefaultValue("value84")
+    public static final String TAG_84 = "tag84";
+    @DefaultValueInt(850)
+    public static final String TAG_85 = "tag85";
+    @DefaultValueBoolean(false)
+    public static final String TAG_86 = "tag86";
+    @DefaultValue("secret87")
+    @SensitiveValue
+    public static final String TAG_87 = "tag87";
+    @DefaultValue("value88")
+    public static final String TAG_88 = "tag88";
+    @DefaultValueInt(890)
+    public static final String TAG_89 = "tag89";
+    @DefaultValueBoolean(true)
+    public static final String TAG_90 = "tag90";
+    @DefaultValue("secret91")
+    @SensitiveValue
+    public static final String TAG_91 = "tag91";
+    @DefaultValue("value92")
+    public static final String TAG_92 = "tag92";
+    @DefaultValueInt(930)
+    public static final String TAG_93 = "tag93";
+    @DefaultValueBoolean(false)
+    public static final String TAG_94 = "tag94";
+    @DefaultValue("secret95")
+    @SensitiveValue
+    public static final String TAG_95 = "tag95";
+    @DefaultValue("value96")
+    public static final String TAG_96 = "tag96";
+    @DefaultValueInt(970)
+    public static final String TAG_97 = "tag97";
+    @DefaultValueBoolean(true)
+    public static final String TAG_98 = "tag98";
+    @DefaultValue("secret99")
+    @SensitiveValue
+    public static final String TAG_99 = "tag99";
+    @DefaultValue("value100")
+    public static final String TAG_100 = "tag100";
+    @DefaultValueInt(1010)
+    public static final String TAG_101 = "tag101";
+    @DefaultValueBoolean(false)
+    public static final String TAG_102 = "tag102";
+    @DefaultValue("secret103")
+    @SensitiveValue
+    public static final String TAG_103 = "tag103";
+    @DefaultValue("value104")
+    public static final String TAG_104 = "tag104";
+    @DefaultValueInt(1050)
+    public static final String TAG_105 = "tag105";
+    @DefaultValueBoolean(true)
+    public static final String TAG_106 = "tag106";
+    @DefaultValue("secret107")
+    @SensitiveValue
+    public static final String TAG_107 = "tag107";
+    @DefaultValue("value108")
+    public static final String TAG_108 = "tag108";
+    @DefaultValueInt(1090)
+    public static final String TAG_109 = "tag109";
+    @DefaultValueBoolean(false)
+    public static final String TAG_110 = "tag110";
+    @DefaultValue("secret111")
+    @SensitiveValue
+    public static final String TAG_111 = "tag111";
+    @DefaultValue("value112")
+    public static final String TAG_112 = "tag112";
+    @DefaultValueInt(1130)
+    public static final String TAG_113 = "tag113";
+    @DefaultValueBoolean(true)
+    public static final String TAG_114 = "tag114";
+    @DefaultValue("secret115")
+    @SensitiveValue
+    public static final String TAG_115 = "tag115";
+    @DefaultValue("value116")
+    public static final String TAG_116 = "tag116";
+    @DefaultValueInt(1170)
+    public static final String TAG_117 = "tag117";
+    @DefaultValueBoolean(false)
+    public static final String TAG_118 = "tag118";
+    @DefaultValue("secret119")
+    @SensitiveValue
+    public static final String TAG_119 = "tag119";
+    @DefaultValue("value120")
+    public static final String TAG_120 = "tag120";
+    @DefaultValueInt(1210)
+    public static final String TAG_121 = "tag121";
+    @DefaultValueBoolean(true)
+    public static final String TAG_122 = "tag122";
+    @DefaultValue("secret123")
+    @SensitiveValue
+    public static final String TAG_123 = "tag123";
+    @DefaultValue("value124")
+    public static final String TAG_124 = "tag124";
+    @DefaultValueInt(1250)
+    public static final String TAG_125 = "tag125";
+    @DefaultValueBoolean(false)
+    public static final String TAG_126 = "tag126";
+    @DefaultValue("secret127")
+    @SensitiveValue
+    public static final String TAG_127 = "tag127";
+    @DefaultValue("value128")
+    public static final String TAG_128 = "tag128";
+    @DefaultValueInt(1290)
+    public static final String TAG_129 = "tag129";
+    @DefaultValueBoolean(true)
+    public static final String TAG_130 = "tag130";
+    @DefaultValue("secret131")
+    @SensitiveValue
+    public static final String TAG_131 = "tag131";
+    @DefaultValue("value132")
+    public static final String TAG_132 = "tag132";
+    @DefaultValueInt(1330)
+    public static final String TAG_133 = "tag133";
+    @DefaultValueBoolean(false)
+    public static final String TAG_134 = "tag134";
+    @DefaultValue("secret135")
+    @SensitiveValue
+    public static final String TAG_135 = "tag135";
+    @DefaultValue("value136")
+    public static final String TAG_136 = "tag136";
+    @DefaultValueInt(1370)
+    public static final String TAG_137 = "tag137";
+    @DefaultValueBoolean(true)
+    public static final String TAG_138 = "tag138";
+    @DefaultValue("secret139")
+    @SensitiveValue
+    public static final String TAG_139 = "tag139";
+    @DefaultValue("value140")
+    public static final String TAG_140 = "tag140";
+    @DefaultValueInt(1410)
+    public static final String TAG_141 = "tag141";
+    @DefaultValueBoolean(false)
+    public static final String TAG_142 = "tag142";
+    @DefaultValue("secret143")
+    @SensitiveValue
+    public static final String TAG_143 = "tag143";
+    @DefaultValue("value144")
+    public static final String TAG_144 = "tag144";
+    @DefaultValueInt(1450)
+    public static final String TAG_145 = "tag145";
+    @DefaultValueBoolean(true)
+    public static final String TAG_146 = "tag146";
+    @DefaultValue("secret147")
+    @SensitiveValue
+    public static final String TAG_147 = "tag147";
+    @DefaultValue("value148")
+    public static final String TAG_148 = "tag148";
+    @DefaultValueInt(1490)
+    public static final String TAG_149 = "tag149";
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings.benchmarks;
+
+import de.fraunhofer.iosb.ilt.settings.ConfigDefaults;
+import de.fraunhofer.iosb.ilt.settings.annotation.DefaultValue;
+import de.fraunhofer.iosb.ilt.settings.annotation.DefaultValueBoolean;
+import de.fraunhofer.iosb.ilt.settings.annotation.DefaultValueInt;
+import de.fraunhofer.iosb.ilt.settings.annotation.SensitiveValue;
+
+/**
+ * A ConfigDefaults class with 50 tags, for benchmarks.
+ */
+public class Defaults50 implements ConfigDefaults {
+
+    @DefaultValue("value0")
+    public static final String TAG_0 = "tag0";
+    @DefaultValueInt(10)
+    public static final String TAG_1 = "tag1";
+    @DefaultValueBoolean(true)
+    public static final String TAG_2 = "tag2";
+    @DefaultValue("secret3")
+    @SensitiveValue
+    public static final String TAG_3 = "tag3";
+    @DefaultValue("value4")
+    public static final String TAG_4 = "tag4";
+    @DefaultValueInt(50)
+    public static final String TAG_5 = "tag5";
+    @DefaultValueBoolean(false)
+    public static final String TAG_6 = "tag6";
+    @DefaultValue("secret7")
+    @SensitiveValue
+    public static final String TAG_7 = "tag7";
+    @DefaultValue("value8")
+    public static final String TAG_8 = "tag8";
+    @DefaultValueInt(90)
+    public static final String TAG_9 = "tag9";
+    @DefaultValueBoolean(true)
+    public static final String TAG_10 = "tag10";
+    @DefaultValue("secret11")
+    @SensitiveValue
+    public static final String TAG_11 = "tag11";
+    @DefaultValue("value12")
+    public static final String TAG_12 = "tag12";
+    @DefaultValueInt(130)
+    public static final String TAG_13 = "tag13";
+    @DefaultValueBoolean(false)
+    public static final String TAG_14 = "tag14";
+    @DefaultValue("secret15")
+    @SensitiveValue
+    public static final String TAG_15 = "tag15";
+    @DefaultValue("value16")
+    public static final String TAG_16 = "tag16";
+    @DefaultValueInt(170)
+    public static final String TAG_17 = "tag17";
+    @DefaultValueBoolean(true)
+    public static final String TAG_18 = "tag18";
+    @DefaultValue("secret19")
+    @SensitiveValue
+    public static final String TAG_19 = "tag19";
+    @DefaultValue("value20")
+    public static final String TAG_20 = "tag20";
+    @DefaultValueInt(210)
+    public static final String TAG_21 = "tag21";
+    @DefaultValueBoolean(false)
+    public static final String TAG_22 = "tag22";
+    @DefaultValue("secret23")
+    @SensitiveValue
+    public static final String TAG_23 = "tag23";
+    @DefaultValue("value24")
+    public static final String TAG_24 = "tag24";
+    @DefaultValueInt(250)
+    public static final String TAG_25 = "tag25";
+    @DefaultValueBoolean(true)
+    public static final String TAG_26 = "tag26";
+    @DefaultValue("secret27")
+    @SensitiveValue
+    public static final String TAG_27 = "tag27";
+    @DefaultValue("value28")
+    public static final String TAG_28 = "tag28";
+    @DefaultValueInt(290)
+    public static final String TAG_29 = "tag29";
+    @DefaultValueBoolean(false)
+    public static final String TAG_30 = "tag30";
+    @DefaultValue("secret31")
+    @SensitiveValue
+    public static final String TAG_31 = "tag31";
+    @DefaultValue("value32")
+    public static final String TAG_32 = "tag32";
+    @DefaultValueInt(330)
+    public static final String TAG_33 = "tag33";
+    @DefaultValueBoolean(true)
+    public static final String TAG_34 = "tag34";
+    @DefaultValue("secret35")
+    @SensitiveValue
+    public static final String TAG_35 = "tag35";
+    @DefaultValue("value36")
+    public static final String TAG_36 = "tag36";
+    @DefaultValueInt(370)
+    public static final String TAG_37 = "tag37";
+    @DefaultValueBoolean(false)
+    public static final String TAG_38 = "tag38";
+    @DefaultValue("secret39")
+    @SensitiveValue
+    public static final String TAG_39 = "tag39";
+    @DefaultValue("value40")
+    public static final String TAG_40 = "tag40";
+    @DefaultValueInt(410)
+    public static final String TAG_41 = "tag41";
+    @DefaultValueBoolean(true)
+    public static final String TAG_42 = "tag42";
+    @DefaultValue("secret43")
+    @SensitiveValue
+    public static final String TAG_43 = "tag43";
+    @DefaultValue("value44")
+    public static final String TAG_44 = "tag44";
+    @DefaultValueInt(450)
+    public static final String TAG_45 = "tag45";
+    @DefaultValueBoolean(false)
+    public static final String TAG_46 = "tag46";
+    @DefaultValue("secret47")
+    @SensitiveValue
+    public static final String TAG_47 = "tag47";
+    @DefaultValue("value48")
+    public static final String TAG_48 = "tag48";
+    @DefaultValueInt(490)
+    public static final String TAG_49 = "tag49";
+
+}
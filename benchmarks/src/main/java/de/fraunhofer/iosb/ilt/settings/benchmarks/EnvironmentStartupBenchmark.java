@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings.benchmarks;
+
+import de.fraunhofer.iosb.ilt.settings.EnvironmentProperties;
+import de.fraunhofer.iosb.ilt.settings.Settings;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The cost of creating a Settings that is wrapped in the environment, with a
+ * synthetic environment of different sizes. The copy benchmark is the 1.2
+ * behaviour, that copied the environment for each instance.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnvironmentStartupBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    public int environmentSize;
+
+    private Map<String, String> environment;
+    private Map<String, String> normalised;
+    private Properties properties;
+
+    @Setup
+    public void setup() {
+        environment = new HashMap<>();
+        for (int i = 0; i < environmentSize; i++) {
+            environment.put("SYNTHETIC_SERVICE_VARIABLE_" + i, "value_" + i);
+        }
+        normalised = EnvironmentProperties.normalise(environment);
+        properties = BenchmarkSettings.createProperties(10);
+    }
+
+    @Benchmark
+    public Properties copyPerInstance() {
+        Properties wrapper = new Properties(properties);
+        Map<String, String> sortedEnv = new TreeMap<>(environment);
+        for (Map.Entry<String, String> entry : sortedEnv.entrySet()) {
+            wrapper.setProperty(entry.getKey().replace('_', '.'), entry.getValue());
+        }
+        return wrapper;
+    }
+
+    @Benchmark
+    public Properties shared() {
+        return new EnvironmentProperties(properties, normalised);
+    }
+
+    @Benchmark
+    public Settings settingsWithJvmEnvironment() {
+        return new Settings(properties);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings.benchmarks;
+
+import de.fraunhofer.iosb.ilt.settings.ConfigDefaults;
+import de.fraunhofer.iosb.ilt.settings.annotation.DefaultValue;
+import de.fraunhofer.iosb.ilt.settings.annotation.DefaultValueBoolean;
+import de.fraunhofer.iosb.ilt.settings.annotation.DefaultValueDouble;
+import de.fraunhofer.iosb.ilt.settings.annotation.DefaultValueInt;
+import de.fraunhofer.iosb.ilt.settings.annotation.SensitiveValue;
+import java.lang.reflect.Field;
+
+/**
+ * The reflective field scans of the ConfigUtils of version 1.2, kept as a
+ * baseline for comparisons.
+ */
+public class LinearScanConfigUtils {
+
+    private LinearScanConfigUtils() {
+        // Utility class.
+    }
+
+    public static <T extends ConfigDefaults> boolean isSensitive(Class<T> target, String fieldValue) {
+        for (final Field f : target.getFields()) {
+            try {
+                if (f.isAnnotationPresent(SensitiveValue.class) && f.get(target).toString().equals(fieldValue)) {
+                    return true;
+                }
+            } catch (IllegalArgumentException | IllegalAccessException ex) {
+                // Ignore
+            }
+        }
+        return false;
+    }
+
+    public static <T extends ConfigDefaults> String getDefaultValue(Class<T> target, String fieldValue) {
+        for (final Field f : target.getFields()) {
+            try {
+                if (!fieldValue.equals(f.get(target).toString())) {
+                    continue;
+                }
+                if (f.isAnnotationPresent(DefaultValue.class)) {
+                    return f.getAnnotation(DefaultValue.class).value();
+                } else if (f.isAnnotationPresent(DefaultValueInt.class)) {
+                    return Integer.toString(f.getAnnotation(DefaultValueInt.class).value());
+                } else if (f.isAnnotationPresent(DefaultValueBoolean.class)) {
+                    return Boolean.toString(f.getAnnotation(DefaultValueBoolean.class).value());
+                } else if (f.isAnnotationPresent(DefaultValueDouble.class)) {
+                    return Double.toString(f.getAnnotation(DefaultValueDouble.class).value());
+                }
+            } catch (IllegalAccessException e) {
+                // Ignore
+            }
+        }
+        throw new IllegalArgumentException(target.getName() + " has no default-annotated field " + fieldValue);
+    }
+}
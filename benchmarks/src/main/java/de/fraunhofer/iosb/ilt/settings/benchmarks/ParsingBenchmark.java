@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings.benchmarks;
+
+import de.fraunhofer.iosb.ilt.settings.ValueParsers;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing values with ValueParsers, compared to the JDK parsers. The values
+ * are stored in one ByteBuffer, like in a memory-mapped snapshot; the JDK
+ * variants first decode each value to a String. The String variants parse
+ * values that already are Strings. Run with {@code -prof gc} to see
+ * allocations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParsingBenchmark {
+
+    private static final int VALUE_COUNT = 128;
+
+    /**
+     * The kind of double values: short decimals take the fast path, long ones
+     * the fallback to the JDK.
+     */
+    @Param({"short", "long"})
+    public String doubles;
+
+    private String[] ints;
+    private String[] doubleValues;
+    private String[] booleans;
+    private ByteBuffer buffer;
+    private int[] intStarts;
+    private int[] intEnds;
+    private int[] doubleStarts;
+    private int[] doubleEnds;
+    private int[] booleanStarts;
+    private int[] booleanEnds;
+    private int index;
+
+    @Setup
+    public void setup() {
+        ints = new String[VALUE_COUNT];
+        doubleValues = new String[VALUE_COUNT];
+        booleans = new String[VALUE_COUNT];
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            ints[i] = Integer.toString(100_000 + i * 7919);
+            doubleValues[i] = "short".equals(doubles)
+                    ? (i * 13) + "." + (i % 100)
+                    : Double.toString(Math.PI * (i + 1) / 7);
+            booleans[i] = (i & 1) == 0 ? "true" : "false";
+        }
+        StringBuilder all = new StringBuilder();
+        intStarts = new int[VALUE_COUNT];
+        intEnds = new int[VALUE_COUNT];
+        doubleStarts = new int[VALUE_COUNT];
+        doubleEnds = new int[VALUE_COUNT];
+        booleanStarts = new int[VALUE_COUNT];
+        booleanEnds = new int[VALUE_COUNT];
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            intStarts[i] = all.length();
+            intEnds[i] = all.append(ints[i]).length();
+            doubleStarts[i] = all.append(';').length();
+            doubleEnds[i] = all.append(doubleValues[i]).length();
+            booleanStarts[i] = all.append(';').length();
+            booleanEnds[i] = all.append(booleans[i]).length();
+            all.append('\n');
+        }
+        final byte[] bytes = all.toString().getBytes(StandardCharsets.UTF_8);
+        buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+    }
+
+    private int next() {
+        return index++ & (VALUE_COUNT - 1);
+    }
+
+    private String decode(int start, int end) {
+        final byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public int intJdkString() {
+        return Integer.parseInt(ints[next()]);
+    }
+
+    @Benchmark
+    public int intParsersString() {
+        return ValueParsers.parseInt(ints[next()]);
+    }
+
+    @Benchmark
+    public int intJdkBuffer() {
+        final int i = next();
+        return Integer.parseInt(decode(intStarts[i], intEnds[i]));
+    }
+
+    @Benchmark
+    public int intParsersBuffer() {
+        final int i = next();
+        return ValueParsers.parseInt(buffer, intStarts[i], intEnds[i]);
+    }
+
+    @Benchmark
+    public long longJdkBuffer() {
+        final int i = next();
+        return Long.parseLong(decode(intStarts[i], intEnds[i]));
+    }
+
+    @Benchmark
+    public long longParsersBuffer() {
+        final int i = next();
+        return ValueParsers.parseLong(buffer, intStarts[i], intEnds[i]);
+    }
+
+    @Benchmark
+    public double doubleJdkString() {
+        return Double.parseDouble(doubleValues[next()]);
+    }
+
+    @Benchmark
+    public double doubleParsersString() {
+        return ValueParsers.parseDouble(doubleValues[next()]);
+    }
+
+    @Benchmark
+    public double doubleJdkBuffer() {
+        final int i = next();
+        return Double.parseDouble(decode(doubleStarts[i], doubleEnds[i]));
+    }
+
+    @Benchmark
+    public double doubleParsersBuffer() {
+        final int i = next();
+        return ValueParsers.parseDouble(buffer, doubleStarts[i], doubleEnds[i]);
+    }
+
+    @Benchmark
+    public boolean booleanJdkBuffer() {
+        final int i = next();
+        return Boolean.parseBoolean(decode(booleanStarts[i], booleanEnds[i]));
+    }
+
+    @Benchmark
+    public boolean booleanParsersBuffer() {
+        final int i = next();
+        return ValueParsers.parseBoolean(buffer, booleanStarts[i], booleanEnds[i]);
+    }
+}
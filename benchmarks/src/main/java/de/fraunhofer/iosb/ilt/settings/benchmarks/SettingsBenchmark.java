@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings.benchmarks;
+
+import de.fraunhofer.iosb.ilt.settings.Settings;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Single-threaded lookups in the Settings implementations, with different
+ * numbers of properties.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SettingsBenchmark {
+
+    private static final int KEY_COUNT = 128;
+
+    @Param({"10", "1000", "100000"})
+    public int propertyCount;
+
+    @Param({"settings", "cached", "concurrent", "snapshot"})
+    public String implementation;
+
+    private Settings settings;
+    private String[] keys;
+    private String[] missingKeys;
+    private int index;
+
+    @Setup
+    public void setup() {
+        settings = BenchmarkSettings.create(implementation, BenchmarkSettings.createProperties(propertyCount));
+        keys = BenchmarkSettings.createKeys(propertyCount, KEY_COUNT);
+        missingKeys = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            missingKeys[i] = "missing" + i;
+        }
+    }
+
+    private int nextIndex() {
+        return index++ & (KEY_COUNT - 1);
+    }
+
+    @Benchmark
+    public String get() {
+        return settings.get(keys[nextIndex()]);
+    }
+
+    @Benchmark
+    public int getInt() {
+        return settings.getInt(keys[nextIndex()]);
+    }
+
+    @Benchmark
+    public int getIntDefaultMissing() {
+        return settings.getInt(missingKeys[nextIndex()], 42);
+    }
+
+    @Benchmark
+    public boolean containsNameMissing() {
+        return settings.containsName(missingKeys[nextIndex()]);
+    }
+
+    @Benchmark
+    public int getIntDefaultsProvider() {
+        return settings.getInt(Defaults10.TAG_1, Defaults10.class);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings.benchmarks;
+
+import de.fraunhofer.iosb.ilt.settings.Settings;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lookups through chains of sub-settings of different depths.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SubSettingsBenchmark {
+
+    @Param({"1", "4", "8"})
+    public int prefixDepth;
+
+    @Param({"settings", "snapshot"})
+    public String implementation;
+
+    private Settings base;
+    private Settings deepest;
+    private String[] prefixes;
+
+    @Setup
+    public void setup() {
+        prefixes = new String[prefixDepth];
+        StringBuilder fullPrefix = new StringBuilder();
+        for (int i = 0; i < prefixDepth; i++) {
+            prefixes[i] = "level" + i + ".";
+            fullPrefix.append(prefixes[i]);
+        }
+        Properties properties = BenchmarkSettings.createProperties(1000);
+        properties.setProperty(fullPrefix + "value", "42");
+        base = BenchmarkSettings.create(implementation, properties);
+        deepest = createChain();
+    }
+
+    private Settings createChain() {
+        Settings current = base;
+        for (String prefix : prefixes) {
+            current = current.getSubSettings(prefix);
+        }
+        return current;
+    }
+
+    @Benchmark
+    public int getFromChain() {
+        return deepest.getInt("value");
+    }
+
+    @Benchmark
+    public int createChainAndGet() {
+        return createChain().getInt("value");
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Compiles properties into the binary snapshot format read by
+ * {@link MappedSettings}.
+ *
+ * <p>
+ * The format, all integers big-endian:
+ * <ul>
+ * <li>header: magic, format version, entry count, slot count</li>
+ * <li>slots: for each slot the hash of the key and the offset of the entry,
+ * relative to the start of the file; offset 0 marks an empty slot. Keys are
+ * placed using linear probing, the slot count is a power of two at least twice
+ * the entry count.</li>
+ * <li>entries: key length, key bytes, value length, value bytes, as UTF-8</li>
+ * </ul>
+ *
+ * <p>
+ * Can be used from the command line:
+ * {@code BinarySnapshotWriter <output> [--env] [input.properties...]}. Later
+ * inputs override earlier ones, the environment overrides all files.
+ */
+public final class BinarySnapshotWriter {
+
+    static final int MAGIC = 0x53455431;
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int SLOT_SIZE = 8;
+
+    private BinarySnapshotWriter() {
+        // Utility class.
+    }
+
+    static int hash(String key) {
+        final int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Write all String properties of the given Properties, including its
+     * defaults, to the given file.
+     *
+     * @param properties The properties to write.
+     * @param target The file to write to.
+     * @throws IOException If writing fails.
+     */
+    public static void write(Properties properties, Path target) throws IOException {
+        final Map<String, String> values = new TreeMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            values.put(key, properties.getProperty(key));
+        }
+        write(values, target);
+    }
+
+    /**
+     * Write the given values to the given file. The snapshot is written to a
+     * temporary file in the same directory, that then atomically replaces the
+     * target, so that a snapshot that is mapped or being opened is never
+     * changed.
+     *
+     * @param values The values to write.
+     * @param target The file to write to.
+     * @throws IOException If writing fails.
+     */
+    public static void write(Map<String, String> values, Path target) throws IOException {
+        final int count = values.size();
+        int slotCount = 2;
+        while (slotCount < count * 2) {
+            slotCount <<= 1;
+        }
+        final byte[][] keys = new byte[count][];
+        final byte[][] vals = new byte[count][];
+        final int[] hashes = new int[count];
+        int entriesSize = 0;
+        int i = 0;
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            keys[i] = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            vals[i] = entry.getValue().getBytes(StandardCharsets.UTF_8);
+            hashes[i] = hash(entry.getKey());
+            entriesSize += 8 + keys[i].length + vals[i].length;
+            i++;
+        }
+        final int entriesStart = HEADER_SIZE + slotCount * SLOT_SIZE;
+        final ByteBuffer buffer = ByteBuffer.allocate(entriesStart + entriesSize);
+        buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(count).putInt(slotCount);
+        final int mask = slotCount - 1;
+        int offset = entriesStart;
+        for (i = 0; i < count; i++) {
+            int slot = hashes[i] & mask;
+            while (buffer.getInt(HEADER_SIZE + slot * SLOT_SIZE + 4) != 0) {
+                slot = (slot + 1) & mask;
+            }
+            buffer.putInt(HEADER_SIZE + slot * SLOT_SIZE, hashes[i]);
+            buffer.putInt(HEADER_SIZE + slot * SLOT_SIZE + 4, offset);
+            buffer.position(offset);
+            buffer.putInt(keys[i].length).put(keys[i]).putInt(vals[i].length).put(vals[i]);
+            offset = buffer.position();
+        }
+        buffer.rewind();
+        final Path dir = target.toAbsolutePath().getParent();
+        final Path temp = Files.createTempFile(dir, target.getFileName().toString() + ".", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: BinarySnapshotWriter <output> [--env] [input.properties...]");
+            System.exit(1);
+        }
+        boolean env = false;
+        final Properties properties = new Properties();
+        for (int i = 1; i < args.length; i++) {
+            if ("--env".equals(args[i])) {
+                env = true;
+                continue;
+            }
+            try (Reader reader = Files.newBufferedReader(Paths.get(args[i]), StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+        }
+        write(env ? new EnvironmentProperties(properties) : properties, Paths.get(args[0]));
+    }
+}
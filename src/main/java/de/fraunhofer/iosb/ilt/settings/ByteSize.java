@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings;
+
+import java.util.Locale;
+
+/**
+ * A number of bytes, parsed from values like "512", "64KB", "64MiB" or "2g".
+ * The units are binary: K, KB and KiB are all 1024 bytes, and so on for M, G
+ * and T. A value without unit is in bytes.
+ */
+public final class ByteSize implements Comparable<ByteSize> {
+
+    private static final String UNITS = "KMGT";
+
+    private final long bytes;
+
+    private ByteSize(long bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * @param bytes The number of bytes.
+     * @return A ByteSize of the given number of bytes.
+     */
+    public static ByteSize ofBytes(long bytes) {
+        if (bytes < 0) {
+            throw new IllegalArgumentException("Byte size can not be negative: " + bytes);
+        }
+        return new ByteSize(bytes);
+    }
+
+    /**
+     * Parse the given value.
+     *
+     * @param value The value to parse.
+     * @return The parsed size.
+     * @throws IllegalArgumentException If the value is not a valid size.
+     */
+    public static ByteSize parse(String value) {
+        final String trimmed = value.trim();
+        int end = 0;
+        while (end < trimmed.length() && Character.isDigit(trimmed.charAt(end))) {
+            end++;
+        }
+        if (end == 0) {
+            throw new IllegalArgumentException("Not a byte size: " + value);
+        }
+        final long number = Long.parseLong(trimmed.substring(0, end));
+        final String unit = trimmed.substring(end).trim().toUpperCase(Locale.ROOT);
+        if (unit.isEmpty() || unit.equals("B")) {
+            return ofBytes(number);
+        }
+        final int power = UNITS.indexOf(unit.charAt(0)) + 1;
+        final String rest = unit.substring(1);
+        if (power == 0 || !(rest.isEmpty() || rest.equals("B") || rest.equals("IB"))) {
+            throw new IllegalArgumentException("Unknown byte size unit in: " + value);
+        }
+        final int shift = 10 * power;
+        if (number > (Long.MAX_VALUE >> shift)) {
+            throw new IllegalArgumentException("Byte size too large: " + value);
+        }
+        return ofBytes(number << shift);
+    }
+
+    /**
+     * @return The number of bytes.
+     */
+    public long toBytes() {
+        return bytes;
+    }
+
+    @Override
+    public int compareTo(ByteSize other) {
+        return Long.compare(bytes, other.bytes);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof ByteSize && ((ByteSize) obj).bytes == bytes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(bytes);
+    }
+
+    @Override
+    public String toString() {
+        return bytes + "B";
+    }
+}
@@ -22,20 +22,57 @@
  */
 package de.fraunhofer.iosb.ilt.settings;
 
+import de.fraunhofer.iosb.ilt.settings.SettingsMetrics.ValueType;
+import de.fraunhofer.iosb.ilt.settings.jfr.CacheAccessEvent;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 
 /**
  * A caching wrapper around a Settings instance.
+ *
+ * <p>
+ * Each name has a single cache slot, holding the String value and the
+ * primitive values it was requested as. A cache hit is a single map lookup
+ * and does not allocate.
+ *
+ * <p>
+ * When values in the source Settings change through the Settings API, or by
+ * reloading a {@link SnapshotSettings}, only the cached values of the changed
+ * keys are removed. Changes made directly to the underlying Properties are not
+ * seen.
+ *
+ * <p>
+ * Names that have no value are remembered too, so that repeatedly checking
+ * an unset name, for instance by a getter with a default value, does not
+ * search the source Settings again until the name changes.
+ *
+ * <p>
+ * Values set with the set methods are kept only in this cache, and are seen by
+ * all getters of this cache, until the name changes in the source Settings.
  */
 public class CachedSettings extends Settings {
 
-    private final Map<String, String> valuesString = new HashMap<>();
-    private final Map<String, Integer> valuesInt = new HashMap<>();
-    private final Map<String, Long> valuesLong = new HashMap<>();
-    private final Map<String, Boolean> valuesBoolean = new HashMap<>();
-    private final Map<String, Double> valuesDouble = new HashMap<>();
+    private final Map<String, Slot> values = new HashMap<>();
+    /**
+     * The names that have no value in the source Settings.
+     */
+    private final Set<String> missing = new HashSet<>();
+    /**
+     * The values set only in this cache, by key, until the key changes in the
+     * source Settings.
+     */
+    private final Map<String, String> localValues = new HashMap<>();
+    /**
+     * The version of the source Settings the cached values are valid for.
+     */
+    private long seenVersion = super.getVersion();
+    /**
+     * The number of changes made only in this cache.
+     */
+    private long localVersion;
 
     /**
      * Creates a new cached settings, with no prefix, containing only
@@ -65,7 +102,7 @@ public class CachedSettings extends Settings {
      * to the prefix of the parent Settings.
      */
     public CachedSettings(Settings parent, String prefix) {
-        super(parent.getProperties(), parent.getPrefix() + prefix, false, parent.getLogSensitiveData());
+        super(parent, prefix);
     }
 
     /**
@@ -83,190 +120,479 @@ public class CachedSettings extends Settings {
         super(properties, prefix, wrapInEnvironment, logSensitiveData);
     }
 
+    /**
+     * Remove the cached values of the keys that changed in the source Settings
+     * since the cache was last checked.
+     */
+    private void checkChanges() {
+        final long current = super.getVersion();
+        if (current == seenVersion) {
+            return;
+        }
+        final Set<String> changed = getChangedKeys(seenVersion);
+        if (changed == null) {
+            values.clear();
+            missing.clear();
+        } else if (!changed.isEmpty()) {
+            values.keySet().removeIf(name -> changed.contains(getPropertyKey(name)));
+            missing.removeIf(name -> changed.contains(getPropertyKey(name)));
+            localValues.keySet().removeAll(changed);
+        }
+        seenVersion = current;
+    }
+
+    /**
+     * Set a value only in this cache. The cached values of the name are
+     * dropped, so that all getters see the new value.
+     *
+     * @param name The name to set.
+     * @param value The value, or null to use the value of the source again.
+     * @return The new, empty slot of the name.
+     */
+    private Slot setLocal(String name, String value) {
+        final String key = getPropertyKey(name);
+        if (value == null) {
+            localValues.remove(key);
+        } else {
+            localValues.put(key, value);
+        }
+        missing.remove(name);
+        final Slot slot = new Slot();
+        values.put(name, slot);
+        return slot;
+    }
+
+    @Override
+    String getRawValue(String key) {
+        final String local = localValues.get(key);
+        if (local != null) {
+            return local;
+        }
+        return super.getRawValue(key);
+    }
+
+    /**
+     * Count a change that is only made in this cache. The version of the
+     * source Settings is not changed, so other Settings sharing the source do
+     * not see a change.
+     */
+    private void localChange() {
+        localVersion++;
+    }
+
+    /**
+     * Get the version of the values of this Settings. Besides the changes in
+     * the source Settings, this includes the changes made only in this cache.
+     *
+     * @return The current version of the values.
+     */
+    @Override
+    public long getVersion() {
+        return super.getVersion() + localVersion;
+    }
+
+    /**
+     * Get the slot of the given name, if it holds a value of the given type.
+     *
+     * @param name The name to get the slot for.
+     * @param flag The type of value the slot must hold.
+     * @return The slot, or null if there is no value of the type.
+     */
+    private Slot cachedSlot(String name, int flag) {
+        checkChanges();
+        final Slot slot = values.get(name);
+        final boolean hit = slot != null && slot.has(flag);
+        cacheAccessed(name, Slot.VALUE_TYPES[Integer.numberOfTrailingZeros(flag)], hit);
+        return hit ? slot : null;
+    }
+
+    /**
+     * Record a cache lookup in the metrics, and as a flight recorder event.
+     * Shared with {@link ConcurrentCachedSettings}.
+     *
+     * @param name The name that was looked up.
+     * @param type The type of value that was looked up.
+     * @param hit Flag indicating the value was in the cache.
+     */
+    static void cacheAccessed(String name, ValueType type, boolean hit) {
+        Settings.getMetrics().cacheAccess(type, hit);
+        if (CacheAccessEvent.enabled()) {
+            final CacheAccessEvent event = new CacheAccessEvent();
+            if (event.shouldCommit()) {
+                event.name = name;
+                event.valueType = typeName(type);
+                event.hit = hit;
+                event.commit();
+            }
+        }
+    }
+
+    private static String typeName(ValueType type) {
+        switch (type) {
+            case STRING:
+                return "String";
+            case INT:
+                return "int";
+            case LONG:
+                return "long";
+            case DOUBLE:
+                return "double";
+            case BOOLEAN:
+                return "boolean";
+            default:
+                return "Object";
+        }
+    }
+
+    private Slot slotFor(String name) {
+        return values.computeIfAbsent(name, k -> new Slot());
+    }
+
+    @Override
+    public boolean containsName(String name) {
+        checkChanges();
+        if (missing.contains(name)) {
+            return false;
+        }
+        if (super.containsName(name)) {
+            return true;
+        }
+        missing.add(name);
+        return false;
+    }
+
+    @Override
+    String getValueOrNull(String name) {
+        checkChanges();
+        if (missing.contains(name)) {
+            return null;
+        }
+        final String value = super.getValueOrNull(name);
+        if (value == null) {
+            missing.add(name);
+        }
+        return value;
+    }
+
     @Override
     public String get(String name) {
-        if (valuesString.containsKey(name)) {
-            return valuesString.get(name);
+        final Slot slot = cachedSlot(name, Slot.STRING);
+        if (slot != null) {
+            return slot.valueString;
         }
         String value = super.get(name);
-        valuesString.put(name, value);
+        slotFor(name).setString(value);
         return value;
     }
 
     @Override
     public String getSensitive(String name) {
-        if (valuesString.containsKey(name)) {
-            return valuesString.get(name);
+        final Slot slot = cachedSlot(name, Slot.STRING);
+        if (slot != null) {
+            return slot.valueString;
         }
         String value = super.getSensitive(name);
-        valuesString.put(name, value);
+        slotFor(name).setString(value);
         return value;
     }
 
     @Override
     public String get(String name, String defaultValue) {
-        if (valuesString.containsKey(name)) {
-            return valuesString.get(name);
+        final Slot slot = cachedSlot(name, Slot.STRING);
+        if (slot != null) {
+            return slot.valueString;
         }
         String value = super.get(name, defaultValue);
-        valuesString.put(name, value);
+        slotFor(name).setString(value);
         return value;
     }
 
     @Override
     public String getSensitive(String name, String defaultValue) {
-        if (valuesString.containsKey(name)) {
-            return valuesString.get(name);
+        final Slot slot = cachedSlot(name, Slot.STRING);
+        if (slot != null) {
+            return slot.valueString;
         }
         String value = super.getSensitive(name, defaultValue);
-        valuesString.put(name, value);
+        slotFor(name).setString(value);
         return value;
     }
 
     @Override
     public String get(String name, Class<? extends ConfigDefaults> defaultsProvider) {
-        if (valuesString.containsKey(name)) {
-            return valuesString.get(name);
+        final Slot slot = cachedSlot(name, Slot.STRING);
+        if (slot != null) {
+            return slot.valueString;
         }
         String value = super.get(name, defaultsProvider);
-        valuesString.put(name, value);
+        slotFor(name).setString(value);
+        return value;
+    }
+
+    @Override
+    public <T> T getAs(String name, Class<T> type) {
+        final Slot slot = cachedSlot(name, Slot.OBJECT);
+        if (slot != null && slot.objectType == type) {
+            return slot.getObject();
+        }
+        T value = super.getAs(name, type);
+        slotFor(name).setObject(type, value);
+        return value;
+    }
+
+    @Override
+    public <T> T getAs(String name, Class<T> type, T defaultValue) {
+        final Slot slot = cachedSlot(name, Slot.OBJECT);
+        if (slot != null && slot.objectType == type) {
+            return slot.getObject();
+        }
+        T value = super.getAs(name, type, defaultValue);
+        slotFor(name).setObject(type, value);
+        return value;
+    }
+
+    @Override
+    public <T> T getAs(String name, Class<T> type, Class<? extends ConfigDefaults> defaultsProvider) {
+        final Slot slot = cachedSlot(name, Slot.OBJECT);
+        if (slot != null && slot.objectType == type) {
+            return slot.getObject();
+        }
+        T value = super.getAs(name, type, defaultsProvider);
+        slotFor(name).setObject(type, value);
         return value;
     }
 
     @Override
     public void set(String name, String value) {
-        valuesString.put(name, value);
+        checkChanges();
+        final Slot slot = setLocal(name, value);
+        if (value != null) {
+            slot.setString(value);
+        }
+        localChange();
     }
 
     @Override
     public void set(String name, boolean value) {
-        valuesBoolean.put(name, value);
+        checkChanges();
+        final String stringValue = Boolean.toString(value);
+        final Slot slot = setLocal(name, stringValue);
+        slot.setString(stringValue);
+        slot.setBoolean(value);
+        localChange();
     }
 
     @Override
     public void set(String name, int value) {
-        valuesInt.put(name, value);
+        checkChanges();
+        final String stringValue = Integer.toString(value);
+        final Slot slot = setLocal(name, stringValue);
+        slot.setString(stringValue);
+        slot.setInt(value);
+        localChange();
     }
 
     @Override
     public boolean getBoolean(String name) {
-        if (valuesBoolean.containsKey(name)) {
-            return valuesBoolean.get(name);
+        final Slot slot = cachedSlot(name, Slot.BOOLEAN);
+        if (slot != null) {
+            return slot.valueBoolean;
         }
         boolean value = super.getBoolean(name);
-        valuesBoolean.put(name, value);
+        slotFor(name).setBoolean(value);
         return value;
     }
 
     @Override
     public boolean getBoolean(String name, boolean defaultValue) {
-        if (valuesBoolean.containsKey(name)) {
-            return valuesBoolean.get(name);
+        final Slot slot = cachedSlot(name, Slot.BOOLEAN);
+        if (slot != null) {
+            return slot.valueBoolean;
         }
         boolean value = super.getBoolean(name, defaultValue);
-        valuesBoolean.put(name, value);
+        slotFor(name).setBoolean(value);
         return value;
     }
 
     @Override
     public boolean getBoolean(String name, Class<? extends ConfigDefaults> defaultsProvider) {
-        if (valuesBoolean.containsKey(name)) {
-            return valuesBoolean.get(name);
+        final Slot slot = cachedSlot(name, Slot.BOOLEAN);
+        if (slot != null) {
+            return slot.valueBoolean;
         }
         boolean value = super.getBoolean(name, defaultsProvider);
-        valuesBoolean.put(name, value);
+        slotFor(name).setBoolean(value);
         return value;
     }
 
     @Override
     public int getInt(String name) {
-        if (valuesInt.containsKey(name)) {
-            return valuesInt.get(name);
+        final Slot slot = cachedSlot(name, Slot.INT);
+        if (slot != null) {
+            return slot.valueInt;
         }
         int value = super.getInt(name);
-        valuesInt.put(name, value);
+        slotFor(name).setInt(value);
         return value;
     }
 
     @Override
     public int getInt(String name, int defaultValue) {
-        if (valuesInt.containsKey(name)) {
-            return valuesInt.get(name);
+        final Slot slot = cachedSlot(name, Slot.INT);
+        if (slot != null) {
+            return slot.valueInt;
         }
         int value = super.getInt(name, defaultValue);
-        valuesInt.put(name, value);
-        valuesString.put(name, Integer.toString(value));
+        final Slot newSlot = slotFor(name);
+        newSlot.setInt(value);
+        newSlot.setString(Integer.toString(value));
         return value;
     }
 
     @Override
     public int getInt(String name, Class<? extends ConfigDefaults> defaultsProvider) {
-        if (valuesInt.containsKey(name)) {
-            return valuesInt.get(name);
+        final Slot slot = cachedSlot(name, Slot.INT);
+        if (slot != null) {
+            return slot.valueInt;
         }
         int value = super.getInt(name, defaultsProvider);
-        valuesInt.put(name, value);
+        slotFor(name).setInt(value);
         return value;
     }
 
     @Override
     public long getLong(String name) {
-        if (valuesLong.containsKey(name)) {
-            return valuesLong.get(name);
+        final Slot slot = cachedSlot(name, Slot.LONG);
+        if (slot != null) {
+            return slot.valueLong;
         }
         long value = super.getLong(name);
-        valuesLong.put(name, value);
+        slotFor(name).setLong(value);
         return value;
     }
 
     @Override
     public long getLong(String name, long defaultValue) {
-        if (valuesLong.containsKey(name)) {
-            return valuesLong.get(name);
+        final Slot slot = cachedSlot(name, Slot.LONG);
+        if (slot != null) {
+            return slot.valueLong;
         }
         long value = super.getLong(name, defaultValue);
-        valuesLong.put(name, value);
+        slotFor(name).setLong(value);
         return value;
     }
 
     @Override
     public long getLong(String name, Class<? extends ConfigDefaults> defaultsProvider) {
-        if (valuesLong.containsKey(name)) {
-            return valuesLong.get(name);
+        final Slot slot = cachedSlot(name, Slot.LONG);
+        if (slot != null) {
+            return slot.valueLong;
         }
         long value = super.getLong(name, defaultsProvider);
-        valuesLong.put(name, value);
+        slotFor(name).setLong(value);
         return value;
     }
 
     @Override
     public double getDouble(String name) {
-        if (valuesDouble.containsKey(name)) {
-            return valuesDouble.get(name);
+        final Slot slot = cachedSlot(name, Slot.DOUBLE);
+        if (slot != null) {
+            return slot.valueDouble;
         }
         double value = super.getDouble(name);
-        valuesDouble.put(name, value);
+        slotFor(name).setDouble(value);
         return value;
     }
 
     @Override
     public double getDouble(String name, double defaultValue) {
-        if (valuesDouble.containsKey(name)) {
-            return valuesDouble.get(name);
+        final Slot slot = cachedSlot(name, Slot.DOUBLE);
+        if (slot != null) {
+            return slot.valueDouble;
         }
         double value = super.getDouble(name, defaultValue);
-        valuesDouble.put(name, value);
+        slotFor(name).setDouble(value);
         return value;
     }
 
     @Override
     public double getDouble(String name, Class<? extends ConfigDefaults> defaultsProvider) {
-        if (valuesDouble.containsKey(name)) {
-            return valuesDouble.get(name);
+        final Slot slot = cachedSlot(name, Slot.DOUBLE);
+        if (slot != null) {
+            return slot.valueDouble;
         }
         double value = super.getDouble(name, defaultsProvider);
-        valuesDouble.put(name, value);
+        slotFor(name).setDouble(value);
         return value;
     }
 
+    /**
+     * The cached values of one name. The flags indicate which of the values
+     * are set.
+     */
+    private static final class Slot {
+
+        static final int STRING = 1;
+        static final int INT = 2;
+        static final int LONG = 4;
+        static final int DOUBLE = 8;
+        static final int BOOLEAN = 16;
+        static final int OBJECT = 32;
+        /**
+         * The value types, indexed by the position of their flag bit.
+         */
+        static final ValueType[] VALUE_TYPES = {ValueType.STRING, ValueType.INT, ValueType.LONG, ValueType.DOUBLE, ValueType.BOOLEAN, ValueType.OBJECT};
+
+        private int flags;
+        private String valueString;
+        private int valueInt;
+        private long valueLong;
+        private double valueDouble;
+        private boolean valueBoolean;
+        /**
+         * The converted value, and the type it was converted to.
+         */
+        private Object valueObject;
+        private Class<?> objectType;
+
+        boolean has(int flag) {
+            return (flags & flag) != 0;
+        }
+
+        void setString(String value) {
+            valueString = value;
+            flags |= STRING;
+        }
+
+        void setInt(int value) {
+            valueInt = value;
+            flags |= INT;
+        }
+
+        void setLong(long value) {
+            valueLong = value;
+            flags |= LONG;
+        }
+
+        void setDouble(double value) {
+            valueDouble = value;
+            flags |= DOUBLE;
+        }
+
+        void setBoolean(boolean value) {
+            valueBoolean = value;
+            flags |= BOOLEAN;
+        }
+
+        void setObject(Class<?> type, Object value) {
+            objectType = type;
+            valueObject = value;
+            flags |= OBJECT;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> T getObject() {
+            return (T) valueObject;
+        }
+    }
 }
@@ -0,0 +1,546 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings;
+
+import de.fraunhofer.iosb.ilt.settings.SettingsMetrics.ValueType;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * A caching wrapper around a Settings instance, that can safely be shared
+ * between threads. A cache hit is a single lock-free read. On a cache miss the
+ * value is resolved without holding a lock; when several threads miss at the
+ * same time, the first value cached wins.
+ *
+ * <p>
+ * Null values (for instance a null default value) are not cached.
+ *
+ * <p>
+ * When values in the source Settings change through the Settings API, or by
+ * reloading a {@link SnapshotSettings}, only the cached values of the changed
+ * keys are removed.
+ *
+ * <p>
+ * Names that have no value are remembered too, so that repeatedly checking
+ * an unset name, for instance by a getter with a default value, does not
+ * search the source Settings again until the name changes.
+ *
+ * <p>
+ * Values set with the set methods are kept only in this cache, and are seen by
+ * all getters of this cache, until the name changes in the source Settings.
+ */
+public class ConcurrentCachedSettings extends Settings {
+
+    private final Map<String, String> valuesString = new ConcurrentHashMap<>();
+    private final Map<String, Integer> valuesInt = new ConcurrentHashMap<>();
+    private final Map<String, Long> valuesLong = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> valuesBoolean = new ConcurrentHashMap<>();
+    private final Map<String, Double> valuesDouble = new ConcurrentHashMap<>();
+    private final Map<String, Converted> valuesObject = new ConcurrentHashMap<>();
+    /**
+     * The names that have no value in the source Settings.
+     */
+    private final Set<String> missing = ConcurrentHashMap.newKeySet();
+    /**
+     * The values set only in this cache, by key, until the key changes in the
+     * source Settings.
+     */
+    private final Map<String, String> localValues = new ConcurrentHashMap<>();
+    /**
+     * The version of the source Settings the cached values are valid for.
+     */
+    private volatile long seenVersion = super.getVersion();
+    /**
+     * The number of changes made only in this cache.
+     */
+    private volatile long localVersion;
+
+    /**
+     * Creates a new cached settings, with no prefix, containing only
+     * environment variables, not logging sensitive data.
+     */
+    public ConcurrentCachedSettings() {
+        super();
+    }
+
+    /**
+     * Creates a new settings, containing the given properties, and environment
+     * variables, with no prefix and not logging sensitive data.
+     *
+     * @param properties The properties to use. These can be overridden by
+     * environment variables.
+     */
+    public ConcurrentCachedSettings(Properties properties) {
+        super(properties);
+    }
+
+    /**
+     * Creates a new cached settings, based on the parent settings, using the
+     * given prefix.
+     *
+     * @param parent The parent settings to base on.
+     * @param prefix The prefix to apply to all variable names. This is appended
+     * to the prefix of the parent Settings.
+     */
+    public ConcurrentCachedSettings(Settings parent, String prefix) {
+        super(parent, prefix);
+    }
+
+    /**
+     * Creates a new settings, containing the given properties, and environment
+     * variables, with the given prefix.
+     *
+     * @param properties The properties to use.
+     * @param prefix The prefix to use.
+     * @param wrapInEnvironment Flag indicating if environment variables can
+     * override the given properties.
+     * @param logSensitiveData Flag indicating things like passwords should be
+     * logged completely, not hidden.
+     */
+    public ConcurrentCachedSettings(Properties properties, String prefix, boolean wrapInEnvironment, boolean logSensitiveData) {
+        super(properties, prefix, wrapInEnvironment, logSensitiveData);
+    }
+
+    private static <T> T cached(Map<String, T> map, String name, ValueType type) {
+        final T value = map.get(name);
+        CachedSettings.cacheAccessed(name, type, value != null);
+        return value;
+    }
+
+    /**
+     * Cache a value that was resolved from the source Settings at the given
+     * version. If the version changed while resolving, the value may be stale
+     * and the changed keys may already have been removed, so the value is
+     * removed again.
+     */
+    private <T> T cache(Map<String, T> map, String name, T value, long version) {
+        if (value == null) {
+            return null;
+        }
+        final T previous = map.putIfAbsent(name, value);
+        if (previous != null) {
+            return previous;
+        }
+        if (getVersion() != version) {
+            map.remove(name, value);
+        }
+        return value;
+    }
+
+    /**
+     * Remove the cached values of the keys that changed in the source Settings
+     * since the cache was last checked. A single volatile read if nothing
+     * changed.
+     *
+     * @return The version the cache is valid for, to pass to
+     * {@link #cache(Map, String, Object, long)} after resolving a value.
+     */
+    private long checkChanges() {
+        final long version = getVersion();
+        if (super.getVersion() != seenVersion) {
+            applyChanges();
+        }
+        return version;
+    }
+
+    private synchronized void applyChanges() {
+        final long current = super.getVersion();
+        if (current == seenVersion) {
+            return;
+        }
+        final Set<String> changed = getChangedKeys(seenVersion);
+        if (changed == null) {
+            valuesString.clear();
+            valuesInt.clear();
+            valuesLong.clear();
+            valuesBoolean.clear();
+            valuesDouble.clear();
+            valuesObject.clear();
+            missing.clear();
+        } else if (!changed.isEmpty()) {
+            final Predicate<String> isChanged = name -> changed.contains(getPropertyKey(name));
+            valuesString.keySet().removeIf(isChanged);
+            valuesInt.keySet().removeIf(isChanged);
+            valuesLong.keySet().removeIf(isChanged);
+            valuesBoolean.keySet().removeIf(isChanged);
+            valuesDouble.keySet().removeIf(isChanged);
+            valuesObject.keySet().removeIf(isChanged);
+            missing.removeIf(isChanged);
+            localValues.keySet().removeAll(changed);
+        }
+        seenVersion = current;
+    }
+
+    /**
+     * Set a value only in this cache. The cached values of the name are
+     * dropped, so that all getters see the new value.
+     *
+     * <p>
+     * The version is changed before the cached values are dropped. A getter
+     * that read the version before the change and caches an old value after
+     * the values were dropped then sees the version change, and removes the
+     * value again. A getter that read the version after the change already
+     * sees the new value.
+     *
+     * @param name The name to set.
+     * @param value The value, or null to use the value of the source again.
+     */
+    private void setLocal(String name, String value) {
+        final String key = getPropertyKey(name);
+        if (value == null) {
+            localValues.remove(key);
+        } else {
+            localValues.put(key, value);
+        }
+        localChange();
+        missing.remove(name);
+        valuesString.remove(name);
+        valuesInt.remove(name);
+        valuesLong.remove(name);
+        valuesBoolean.remove(name);
+        valuesDouble.remove(name);
+        valuesObject.remove(name);
+    }
+
+    @Override
+    String getRawValue(String key) {
+        final String local = localValues.get(key);
+        if (local != null) {
+            return local;
+        }
+        return super.getRawValue(key);
+    }
+
+    /**
+     * Count a change that is only made in this cache. The version of the
+     * source Settings is not changed, so other Settings sharing the source do
+     * not see a change.
+     */
+    private synchronized void localChange() {
+        localVersion++;
+    }
+
+    /**
+     * Get the version of the values of this Settings. Besides the changes in
+     * the source Settings, this includes the changes made only in this cache.
+     *
+     * @return The current version of the values.
+     */
+    @Override
+    public long getVersion() {
+        return super.getVersion() + localVersion;
+    }
+
+    @Override
+    public boolean containsName(String name) {
+        final long version = checkChanges();
+        if (missing.contains(name)) {
+            return false;
+        }
+        if (super.containsName(name)) {
+            return true;
+        }
+        missing.add(name);
+        if (getVersion() != version) {
+            missing.remove(name);
+        }
+        return false;
+    }
+
+    @Override
+    String getValueOrNull(String name) {
+        final long version = checkChanges();
+        if (missing.contains(name)) {
+            return null;
+        }
+        final String value = super.getValueOrNull(name);
+        if (value == null) {
+            missing.add(name);
+            if (getVersion() != version) {
+                missing.remove(name);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public String get(String name) {
+        final long version = checkChanges();
+        final String cached = cached(valuesString, name, ValueType.STRING);
+        if (cached != null) {
+            return cached;
+        }
+        return cache(valuesString, name, super.get(name), version);
+    }
+
+    @Override
+    public String getSensitive(String name) {
+        final long version = checkChanges();
+        final String cached = cached(valuesString, name, ValueType.STRING);
+        if (cached != null) {
+            return cached;
+        }
+        return cache(valuesString, name, super.getSensitive(name), version);
+    }
+
+    @Override
+    public String get(String name, String defaultValue) {
+        final long version = checkChanges();
+        final String cached = cached(valuesString, name, ValueType.STRING);
+        if (cached != null) {
+            return cached;
+        }
+        return cache(valuesString, name, super.get(name, defaultValue), version);
+    }
+
+    @Override
+    public String getSensitive(String name, String defaultValue) {
+        final long version = checkChanges();
+        final String cached = cached(valuesString, name, ValueType.STRING);
+        if (cached != null) {
+            return cached;
+        }
+        return cache(valuesString, name, super.getSensitive(name, defaultValue), version);
+    }
+
+    @Override
+    public String get(String name, Class<? extends ConfigDefaults> defaultsProvider) {
+        final long version = checkChanges();
+        final String cached = cached(valuesString, name, ValueType.STRING);
+        if (cached != null) {
+            return cached;
+        }
+        return cache(valuesString, name, super.get(name, defaultsProvider), version);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T cachedObject(String name, Class<T> type) {
+        final Converted cached = valuesObject.get(name);
+        final boolean hit = cached != null && cached.type == type;
+        CachedSettings.cacheAccessed(name, ValueType.OBJECT, hit);
+        return hit ? (T) cached.value : null;
+    }
+
+    private <T> T cacheObject(String name, Class<T> type, T value, long version) {
+        if (value != null) {
+            final Converted converted = new Converted(type, value);
+            valuesObject.put(name, converted);
+            if (getVersion() != version) {
+                valuesObject.remove(name, converted);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public <T> T getAs(String name, Class<T> type) {
+        final long version = checkChanges();
+        final T cached = cachedObject(name, type);
+        if (cached != null) {
+            return cached;
+        }
+        return cacheObject(name, type, super.getAs(name, type), version);
+    }
+
+    @Override
+    public <T> T getAs(String name, Class<T> type, T defaultValue) {
+        final long version = checkChanges();
+        final T cached = cachedObject(name, type);
+        if (cached != null) {
+            return cached;
+        }
+        return cacheObject(name, type, super.getAs(name, type, defaultValue), version);
+    }
+
+    @Override
+    public <T> T getAs(String name, Class<T> type, Class<? extends ConfigDefaults> defaultsProvider) {
+        final long version = checkChanges();
+        final T cached = cachedObject(name, type);
+        if (cached != null) {
+            return cached;
+        }
+        return cacheObject(name, type, super.getAs(name, type, defaultsProvider), version);
+    }
+
+    @Override
+    public void set(String name, String value) {
+        checkChanges();
+        setLocal(name, value);
+        if (value != null) {
+            valuesString.put(name, value);
+        }
+    }
+
+    @Override
+    public void set(String name, boolean value) {
+        checkChanges();
+        setLocal(name, Boolean.toString(value));
+        valuesBoolean.put(name, value);
+    }
+
+    @Override
+    public void set(String name, int value) {
+        checkChanges();
+        setLocal(name, Integer.toString(value));
+        valuesInt.put(name, value);
+    }
+
+    @Override
+    public boolean getBoolean(String name) {
+        final long version = checkChanges();
+        final Boolean cached = cached(valuesBoolean, name, ValueType.BOOLEAN);
+        if (cached != null) {
+            return cached;
+        }
+        return cache(valuesBoolean, name, super.getBoolean(name), version);
+    }
+
+    @Override
+    public boolean getBoolean(String name, boolean defaultValue) {
+        final long version = checkChanges();
+        final Boolean cached = cached(valuesBoolean, name, ValueType.BOOLEAN);
+        if (cached != null) {
+            return cached;
+        }
+        return cache(valuesBoolean, name, super.getBoolean(name, defaultValue), version);
+    }
+
+    @Override
+    public boolean getBoolean(String name, Class<? extends ConfigDefaults> defaultsProvider) {
+        final long version = checkChanges();
+        final Boolean cached = cached(valuesBoolean, name, ValueType.BOOLEAN);
+        if (cached != null) {
+            return cached;
+        }
+        return cache(valuesBoolean, name, super.getBoolean(name, defaultsProvider), version);
+    }
+
+    @Override
+    public int getInt(String name) {
+        final long version = checkChanges();
+        final Integer cached = cached(valuesInt, name, ValueType.INT);
+        if (cached != null) {
+            return cached;
+        }
+        return cache(valuesInt, name, super.getInt(name), version);
+    }
+
+    @Override
+    public int getInt(String name, int defaultValue) {
+        final long version = checkChanges();
+        final Integer cached = cached(valuesInt, name, ValueType.INT);
+        if (cached != null) {
+            return cached;
+        }
+        final int value = cache(valuesInt, name, super.getInt(name, defaultValue), version);
+        cache(valuesString, name, Integer.toString(value), version);
+        return value;
+    }
+
+    @Override
+    public int getInt(String name, Class<? extends ConfigDefaults> defaultsProvider) {
+        final long version = checkChanges();
+        final Integer cached = cached(valuesInt, name, ValueType.INT);
+        if (cached != null) {
+            return cached;
+        }
+        return cache(valuesInt, name, super.getInt(name, defaultsProvider), version);
+    }
+
+    @Override
+    public long getLong(String name) {
+        final long version = checkChanges();
+        final Long cached = cached(valuesLong, name, ValueType.LONG);
+        if (cached != null) {
+            return cached;
+        }
+        return cache(valuesLong, name, super.getLong(name), version);
+    }
+
+    @Override
+    public long getLong(String name, long defaultValue) {
+        final long version = checkChanges();
+        final Long cached = cached(valuesLong, name, ValueType.LONG);
+        if (cached != null) {
+            return cached;
+        }
+        return cache(valuesLong, name, super.getLong(name, defaultValue), version);
+    }
+
+    @Override
+    public long getLong(String name, Class<? extends ConfigDefaults> defaultsProvider) {
+        final long version = checkChanges();
+        final Long cached = cached(valuesLong, name, ValueType.LONG);
+        if (cached != null) {
+            return cached;
+        }
+        return cache(valuesLong, name, super.getLong(name, defaultsProvider), version);
+    }
+
+    @Override
+    public double getDouble(String name) {
+        final long version = checkChanges();
+        final Double cached = cached(valuesDouble, name, ValueType.DOUBLE);
+        if (cached != null) {
+            return cached;
+        }
+        return cache(valuesDouble, name, super.getDouble(name), version);
+    }
+
+    @Override
+    public double getDouble(String name, double defaultValue) {
+        final long version = checkChanges();
+        final Double cached = cached(valuesDouble, name, ValueType.DOUBLE);
+        if (cached != null) {
+            return cached;
+        }
+        return cache(valuesDouble, name, super.getDouble(name, defaultValue), version);
+    }
+
+    @Override
+    public double getDouble(String name, Class<? extends ConfigDefaults> defaultsProvider) {
+        final long version = checkChanges();
+        final Double cached = cached(valuesDouble, name, ValueType.DOUBLE);
+        if (cached != null) {
+            return cached;
+        }
+        return cache(valuesDouble, name, super.getDouble(name, defaultsProvider), version);
+    }
+
+    /**
+     * A converted value, with the type it was converted to.
+     */
+    private static final class Converted {
+
+        private final Class<?> type;
+        private final Object value;
+
+        private Converted(Class<?> type, Object value) {
+            this.type = type;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings;
+
+import de.fraunhofer.iosb.ilt.settings.annotation.DefaultValue;
+import de.fraunhofer.iosb.ilt.settings.annotation.DefaultValueBoolean;
+import de.fraunhofer.iosb.ilt.settings.annotation.DefaultValueDouble;
+import de.fraunhofer.iosb.ilt.settings.annotation.DefaultValueInt;
+import de.fraunhofer.iosb.ilt.settings.annotation.SensitiveValue;
+import de.fraunhofer.iosb.ilt.settings.jfr.MetadataBuildEvent;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The annotation metadata of a ConfigDefaults class, indexed by tag. The
+ * metadata is built once per class and cached for the lifetime of the class.
+ * If a {@link GeneratedConfigMetadata} is registered for the class, that is
+ * used, otherwise the metadata is built using reflection.
+ */
+abstract class ConfigMetadata {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConfigMetadata.class);
+
+    private static final ClassValue<ConfigMetadata> METADATA = new ClassValue<>() {
+        @Override
+        protected ConfigMetadata computeValue(Class<?> type) {
+            final MetadataBuildEvent event = new MetadataBuildEvent();
+            event.begin();
+            final GeneratedConfigMetadata generated = findGenerated(type);
+            final ConfigMetadata result = generated == null ? Reflective.build(type) : new Generated(generated);
+            if (event.shouldCommit()) {
+                event.target = type;
+                event.generated = generated != null;
+                event.tagCount = result.tags().length;
+                event.commit();
+            }
+            return result;
+        }
+    };
+
+    /**
+     * Get the metadata of the given class.
+     *
+     * @param target The class to get the metadata for.
+     * @return The (cached) metadata of the given class.
+     */
+    static ConfigMetadata of(Class<?> target) {
+        return METADATA.get(target);
+    }
+
+    /**
+     * Get the metadata of the given tag.
+     *
+     * @param tag The tag (the value of the annotated field) to get the
+     * metadata for.
+     * @return The metadata for the tag, or null if the class has no such tag.
+     */
+    abstract Tag get(String tag);
+
+    /**
+     * Get all tags of the class, indexed by their ordinal. Tags are the values
+     * of the public static fields with a default value or sensitive
+     * annotation, ordered by name.
+     *
+     * @return The tags, by ordinal. The returned array must not be changed.
+     */
+    abstract Tag[] tags();
+
+    /**
+     * Number the given tags in the order of their names, so that the ordinals
+     * do not depend on whether the metadata was generated or reflected.
+     */
+    private static Tag[] numbered(Collection<Tag> source) {
+        final Tag[] result = source.toArray(Tag[]::new);
+        Arrays.sort(result, Comparator.comparing(Tag::getName));
+        for (int i = 0; i < result.length; i++) {
+            result[i].ordinal = i;
+        }
+        return result;
+    }
+
+    /**
+     * Find the generated metadata of the given class. The generated class is
+     * loaded directly by the name the processor gives it, from the loader of
+     * the class, so the cost does not depend on the number of generated
+     * classes. The result is cached by {@link #METADATA}, so nothing is held
+     * per ClassLoader.
+     */
+    private static GeneratedConfigMetadata findGenerated(Class<?> target) {
+        final ClassLoader loader = target.getClassLoader();
+        if (loader == null) {
+            return null;
+        }
+        final Class<?> generatedClass;
+        try {
+            generatedClass = Class.forName(generatedName(target), false, loader);
+        } catch (ClassNotFoundException ex) {
+            return null;
+        }
+        if (!GeneratedConfigMetadata.class.isAssignableFrom(generatedClass)) {
+            return null;
+        }
+        try {
+            final GeneratedConfigMetadata generated = (GeneratedConfigMetadata) generatedClass.getConstructor().newInstance();
+            return generated.getTarget() == target ? generated : null;
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError ex) {
+            LOGGER.warn("Failed to load generated config metadata {}: {}", generatedClass.getName(), ex.toString());
+            return null;
+        }
+    }
+
+    /**
+     * The name of the class the ConfigDefaultsProcessor generates for the
+     * given class.
+     */
+    private static String generatedName(Class<?> target) {
+        final String packageName = target.getPackageName();
+        final String binaryName = target.getName();
+        final String localName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        final String className = localName.replace('$', '_') + "_ConfigMetadata";
+        return packageName.isEmpty() ? className : packageName + '.' + className;
+    }
+
+    private static boolean isAnnotated(Field f) {
+        return f.isAnnotationPresent(DefaultValue.class)
+                || f.isAnnotationPresent(DefaultValueInt.class)
+                || f.isAnnotationPresent(DefaultValueBoolean.class)
+                || f.isAnnotationPresent(DefaultValueDouble.class)
+                || f.isAnnotationPresent(SensitiveValue.class);
+    }
+
+    /**
+     * Metadata built using reflection.
+     */
+    private static final class Reflective extends ConfigMetadata {
+
+        private final Map<String, Tag> tags;
+        private final Tag[] byOrdinal;
+
+        private Reflective(Map<String, Tag> tags) {
+            this.tags = tags;
+            this.byOrdinal = numbered(tags.values());
+        }
+
+        @Override
+        Tag get(String tag) {
+            return tags.get(tag);
+        }
+
+        @Override
+        Tag[] tags() {
+            return byOrdinal;
+        }
+
+        private static Reflective build(Class<?> target) {
+            Map<String, Tag> tags = new LinkedHashMap<>();
+            for (Field f : target.getFields()) {
+                if (!Modifier.isStatic(f.getModifiers()) || !isAnnotated(f)) {
+                    continue;
+                }
+                final Object value;
+                try {
+                    value = f.get(target);
+                } catch (IllegalArgumentException | IllegalAccessException ex) {
+                    LOGGER.warn("Unable to access field '{}' on object: {}.", f.getName(), target);
+                    continue;
+                }
+                if (value != null) {
+                    tags.computeIfAbsent(value.toString(), Tag::new).addField(f);
+                }
+            }
+            return new Reflective(tags);
+        }
+    }
+
+    /**
+     * Metadata backed by a generated perfect-hash table.
+     */
+    private static final class Generated extends ConfigMetadata {
+
+        private final Tag[] slots;
+        private final Tag[] byOrdinal;
+        private final int seed;
+        private final int mask;
+
+        private Generated(GeneratedConfigMetadata generated) {
+            final String[] tags = generated.getTags();
+            final String[] defaults = generated.getDefaultValues();
+            final int[] flags = generated.getFlags();
+            final int[] ints = generated.getDefaultInts();
+            final double[] doubles = generated.getDefaultDoubles();
+            slots = new Tag[tags.length];
+            for (int i = 0; i < tags.length; i++) {
+                if (tags[i] != null) {
+                    slots[i] = new Tag(tags[i], defaults[i], flags[i], ints[i], doubles[i]);
+                }
+            }
+            seed = generated.getHashSeed();
+            mask = tags.length - 1;
+            final List<Tag> present = new ArrayList<>();
+            for (Tag tag : slots) {
+                if (tag != null) {
+                    present.add(tag);
+                }
+            }
+            byOrdinal = numbered(present);
+        }
+
+        @Override
+        Tag[] tags() {
+            return byOrdinal;
+        }
+
+        @Override
+        Tag get(String tag) {
+            if (tag == null) {
+                return null;
+            }
+            final Tag found = slots[GeneratedConfigMetadata.slot(tag.hashCode(), seed, mask)];
+            if (found != null && found.name.equals(tag)) {
+                return found;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * The metadata of one tag. If several fields have the same tag as value,
+     * the first field found for each annotation wins.
+     */
+    static final class Tag {
+
+        private final String name;
+        private int ordinal;
+        private String defaultValue;
+        private boolean sensitive;
+        private boolean hasInt;
+        private int defaultInt;
+        private boolean hasDouble;
+        private double defaultDouble;
+        private boolean hasBoolean;
+        private boolean defaultBoolean;
+
+        private Tag(String name) {
+            this.name = name;
+        }
+
+        private Tag(String name, String defaultValue, int flags, int defaultInt, double defaultDouble) {
+            this.name = name;
+            this.defaultValue = defaultValue;
+            this.sensitive = (flags & GeneratedConfigMetadata.FLAG_SENSITIVE) != 0;
+            this.hasInt = (flags & GeneratedConfigMetadata.FLAG_INT) != 0;
+            this.defaultInt = defaultInt;
+            this.hasDouble = (flags & GeneratedConfigMetadata.FLAG_DOUBLE) != 0;
+            this.defaultDouble = defaultDouble;
+            this.hasBoolean = (flags & GeneratedConfigMetadata.FLAG_BOOLEAN) != 0;
+            this.defaultBoolean = (flags & GeneratedConfigMetadata.FLAG_BOOLEAN_TRUE) != 0;
+        }
+
+        private void addField(Field f) {
+            sensitive = sensitive || f.isAnnotationPresent(SensitiveValue.class);
+            final DefaultValue dv = f.getAnnotation(DefaultValue.class);
+            final DefaultValueInt dvi = f.getAnnotation(DefaultValueInt.class);
+            final DefaultValueBoolean dvb = f.getAnnotation(DefaultValueBoolean.class);
+            final DefaultValueDouble dvd = f.getAnnotation(DefaultValueDouble.class);
+            if (defaultValue == null) {
+                if (dv != null) {
+                    defaultValue = dv.value();
+                } else if (dvi != null) {
+                    defaultValue = Integer.toString(dvi.value());
+                } else if (dvb != null) {
+                    defaultValue = Boolean.toString(dvb.value());
+                } else if (dvd != null) {
+                    defaultValue = Double.toString(dvd.value());
+                }
+            }
+            if (dvi != null && !hasInt) {
+                hasInt = true;
+                defaultInt = dvi.value();
+            }
+            if (dvd != null && !hasDouble) {
+                hasDouble = true;
+                defaultDouble = dvd.value();
+            }
+            if (dvb != null && !hasBoolean) {
+                hasBoolean = true;
+                defaultBoolean = dvb.value();
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return The index of this tag in {@link ConfigMetadata#tags()}.
+         */
+        public int getOrdinal() {
+            return ordinal;
+        }
+
+        /**
+         * @return The default value as a String, or null if the tag has no
+         * default-annotated field.
+         */
+        public String getDefaultValue() {
+            return defaultValue;
+        }
+
+        public boolean isSensitive() {
+            return sensitive;
+        }
+
+        public boolean hasDefaultInt() {
+            return hasInt;
+        }
+
+        public int getDefaultInt() {
+            return defaultInt;
+        }
+
+        public boolean hasDefaultDouble() {
+            return hasDouble;
+        }
+
+        public double getDefaultDouble() {
+            return defaultDouble;
+        }
+
+        public boolean hasDefaultBoolean() {
+            return hasBoolean;
+        }
+
+        public boolean getDefaultBoolean() {
+            return defaultBoolean;
+        }
+    }
+}
@@ -167,16 +167,8 @@ public class ConfigUtils {
      * annotation.
      */
     public static <T extends ConfigDefaults> boolean isSensitive(Class<T> target, String fieldValue) {
-        for (final Field f : target.getFields()) {
-            try {
-                if (f.isAnnotationPresent(SensitiveValue.class) && f.get(target).toString().equals(fieldValue)) {
-                    return true;
-                }
-            } catch (IllegalArgumentException | IllegalAccessException ex) {
-                LOGGER.warn(UNABLE_TO_ACCESS_FIELD_ON_OBJECT, f.getName(), target);
-            }
-        }
-        return false;
+        final ConfigMetadata.Tag tag = ConfigMetadata.of(target).get(fieldValue);
+        return tag != null && tag.isSensitive();
     }
 
     /**
@@ -192,28 +184,11 @@ public class ConfigUtils {
      * field, an IllegalArgumentException is thrown.
      */
     public static <T extends ConfigDefaults> String getDefaultValue(Class<T> target, String fieldValue) {
-        for (final Field f : target.getFields()) {
-            try {
-                if (!fieldValue.equals(f.get(target).toString())) {
-                    continue;
-                }
-                if (f.isAnnotationPresent(DefaultValue.class)) {
-                    return f.getAnnotation(DefaultValue.class).value();
-
-                } else if (f.isAnnotationPresent(DefaultValueInt.class)) {
-                    return Integer.toString(f.getAnnotation(DefaultValueInt.class).value());
-
-                } else if (f.isAnnotationPresent(DefaultValueBoolean.class)) {
-                    return Boolean.toString(f.getAnnotation(DefaultValueBoolean.class).value());
-
-                } else if (f.isAnnotationPresent(DefaultValueDouble.class)) {
-                    return Double.toString(f.getAnnotation(DefaultValueDouble.class).value());
-                }
-            } catch (IllegalAccessException e) {
-                LOGGER.warn(UNABLE_TO_ACCESS_FIELD_ON_OBJECT, f.getName(), target);
-            }
+        final ConfigMetadata.Tag tag = ConfigMetadata.of(target).get(fieldValue);
+        if (tag == null || tag.getDefaultValue() == null) {
+            throw new IllegalArgumentException(target.getName() + " has no default-annotated field " + fieldValue);
         }
-        throw new IllegalArgumentException(target.getName() + " has no default-annotated field " + fieldValue);
+        return tag.getDefaultValue();
     }
 
     /**
@@ -227,18 +202,11 @@ public class ConfigUtils {
      * field, an IllegalArgumentException is thrown.
      */
     public static <T extends ConfigDefaults> int getDefaultValueInt(Class<T> target, String fieldValue) {
-        for (final Field f : target.getFields()) {
-            if (f.isAnnotationPresent(DefaultValueInt.class)) {
-                try {
-                    if (f.get(target).toString().equals(fieldValue)) {
-                        return f.getAnnotation(DefaultValueInt.class).value();
-                    }
-                } catch (IllegalAccessException e) {
-                    LOGGER.warn(UNABLE_TO_ACCESS_FIELD_ON_OBJECT, f.getName(), target);
-                }
-            }
+        final ConfigMetadata.Tag tag = ConfigMetadata.of(target).get(fieldValue);
+        if (tag == null || !tag.hasDefaultInt()) {
+            throw new IllegalArgumentException(target.getName() + " has no integer-default-annotated field " + fieldValue);
         }
-        throw new IllegalArgumentException(target.getName() + " has no integer-default-annotated field " + fieldValue);
+        return tag.getDefaultInt();
     }
 
     /**
@@ -252,18 +220,11 @@ public class ConfigUtils {
      * field, an IllegalArgumentException is thrown.
      */
     public static <T extends ConfigDefaults> double getDefaultValueDouble(Class<T> target, String fieldValue) {
-        for (final Field f : target.getFields()) {
-            if (f.isAnnotationPresent(DefaultValueDouble.class)) {
-                try {
-                    if (f.get(target).toString().equals(fieldValue)) {
-                        return f.getAnnotation(DefaultValueDouble.class).value();
-                    }
-                } catch (IllegalAccessException e) {
-                    LOGGER.warn(UNABLE_TO_ACCESS_FIELD_ON_OBJECT, f.getName(), target);
-                }
-            }
+        final ConfigMetadata.Tag tag = ConfigMetadata.of(target).get(fieldValue);
+        if (tag == null || !tag.hasDefaultDouble()) {
+            throw new IllegalArgumentException(target.getName() + " has no double-default-annotated field " + fieldValue);
         }
-        throw new IllegalArgumentException(target.getName() + " has no double-default-annotated field " + fieldValue);
+        return tag.getDefaultDouble();
     }
 
     /**
@@ -277,17 +238,10 @@ public class ConfigUtils {
      * field, an IllegalArgumentException is thrown.
      */
     public static <T extends ConfigDefaults> boolean getDefaultValueBoolean(Class<T> target, String fieldValue) {
-        for (final Field f : target.getFields()) {
-            if (f.isAnnotationPresent(DefaultValueBoolean.class)) {
-                try {
-                    if (f.get(target).toString().equals(fieldValue)) {
-                        return f.getAnnotation(DefaultValueBoolean.class).value();
-                    }
-                } catch (IllegalAccessException e) {
-                    LOGGER.warn(UNABLE_TO_ACCESS_FIELD_ON_OBJECT, f.getName(), target);
-                }
-            }
+        final ConfigMetadata.Tag tag = ConfigMetadata.of(target).get(fieldValue);
+        if (tag == null || !tag.hasDefaultBoolean()) {
+            throw new IllegalArgumentException(target.getName() + " has no boolean-default-annotated field " + fieldValue);
         }
-        throw new IllegalArgumentException(target.getName() + " has no boolean-default-annotated field " + fieldValue);
+        return tag.getDefaultBoolean();
     }
 }
@@ -0,0 +1,286 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * The registry of {@link ValueConverter}s used by
+ * {@link Settings#getAs(String, Class)}. The converter of a type is resolved
+ * once and cached per class, so a conversion does not search the registry.
+ *
+ * <p>
+ * Built in are converters for String, the primitive wrappers, {@link Duration},
+ * {@link ByteSize}, {@link URI}, {@link InetSocketAddress}, {@link Path} and
+ * all enums. Other types can be added with
+ * {@link #register(Class, ValueConverter)}. All built-in converters, except
+ * the one for String, ignore leading and trailing whitespace.
+ */
+public final class Converters {
+
+    private static final Map<Class<?>, ValueConverter<?>> REGISTERED = new ConcurrentHashMap<>();
+
+    private static final ClassValue<ValueConverter<?>> RESOLVED = new ClassValue<>() {
+        @Override
+        protected ValueConverter<?> computeValue(Class<?> type) {
+            final ValueConverter<?> registered = REGISTERED.get(type);
+            if (registered != null) {
+                return registered;
+            }
+            if (type.isEnum()) {
+                return anyEnumConverter(type);
+            }
+            return null;
+        }
+    };
+
+    static {
+        register(String.class, value -> value);
+        register(Integer.class, new Checked<>(Parsing::isInt, Integer::valueOf));
+        register(Long.class, new Checked<>(Parsing::isLong, Long::valueOf));
+        register(Double.class, new Checked<>(Parsing::isDouble, Double::valueOf));
+        register(Boolean.class, trimmed(Boolean::valueOf));
+        register(int.class, new Checked<>(Parsing::isInt, Integer::valueOf));
+        register(long.class, new Checked<>(Parsing::isLong, Long::valueOf));
+        register(double.class, new Checked<>(Parsing::isDouble, Double::valueOf));
+        register(boolean.class, trimmed(Boolean::valueOf));
+        register(Duration.class, Converters::parseDuration);
+        register(ByteSize.class, ByteSize::parse);
+        register(URI.class, trimmed(URI::create));
+        register(InetSocketAddress.class, Converters::parseSocketAddress);
+        register(Path.class, trimmed(Path::of));
+    }
+
+    private Converters() {
+        // Utility class.
+    }
+
+    /**
+     * Register the converter for the given type, replacing any built-in or
+     * previously registered converter.
+     *
+     * @param <T> The type to convert to.
+     * @param type The type to convert to.
+     * @param converter The converter to use.
+     */
+    public static <T> void register(Class<T> type, ValueConverter<T> converter) {
+        REGISTERED.put(type, converter);
+        RESOLVED.remove(type);
+    }
+
+    /**
+     * Get the converter for the given type.
+     *
+     * @param <T> The type to convert to.
+     * @param type The type to convert to.
+     * @return The converter for the type.
+     * @throws IllegalArgumentException If there is no converter for the type.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ValueConverter<T> forType(Class<T> type) {
+        final ValueConverter<T> converter = (ValueConverter<T>) RESOLVED.get(type);
+        if (converter == null) {
+            throw new IllegalArgumentException("No converter registered for " + type.getName());
+        }
+        return converter;
+    }
+
+    /**
+     * Convert a comma-separated list. The elements are trimmed, empty elements
+     * are skipped.
+     *
+     * @param <T> The type of the elements.
+     * @param value The value to convert.
+     * @param elementConverter The converter for the elements.
+     * @return An unmodifiable list of the converted elements.
+     */
+    public static <T> List<T> convertList(String value, ValueConverter<T> elementConverter) {
+        final List<T> result = new ArrayList<>();
+        for (String element : value.split(",")) {
+            final String trimmed = element.trim();
+            if (!trimmed.isEmpty()) {
+                result.add(elementConverter.convert(trimmed));
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Check if the given converter accepts the given value, without throwing.
+     * Built-in number converters check the value like the number getters of
+     * {@link Settings}; other converters are assumed to accept all values, and
+     * signal a value they can not convert by throwing.
+     *
+     * @param converter The converter to check with.
+     * @param value The value to check.
+     * @return false if the converter is known to reject the value.
+     */
+    static boolean accepts(ValueConverter<?> converter, String value) {
+        if (converter instanceof Checked) {
+            return ((Checked<?>) converter).validator.test(value.trim());
+        }
+        return true;
+    }
+
+    /**
+     * Get a converter for comma-separated lists, as converted by
+     * {@link #convertList(String, ValueConverter)}. If the element converter
+     * can check values without throwing, so can the list converter.
+     *
+     * @param <T> The type of the elements.
+     * @param elementConverter The converter for the elements.
+     * @return The converter for lists.
+     */
+    static <T> ValueConverter<List<T>> listConverter(ValueConverter<T> elementConverter) {
+        final ValueConverter<List<T>> converter = value -> convertList(value, elementConverter);
+        if (!(elementConverter instanceof Checked)) {
+            return converter;
+        }
+        return new Checked<>(value -> {
+            for (String element : value.split(",")) {
+                final String trimmed = element.trim();
+                if (!trimmed.isEmpty() && !accepts(elementConverter, trimmed)) {
+                    return false;
+                }
+            }
+            return true;
+        }, converter);
+    }
+
+    /**
+     * Wrap a converter that does not ignore whitespace itself.
+     */
+    private static <T> ValueConverter<T> trimmed(ValueConverter<T> converter) {
+        return value -> converter.convert(value.trim());
+    }
+
+    /**
+     * Create the converter of an enum type that is only known as a class.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ValueConverter<?> anyEnumConverter(Class<?> type) {
+        return enumConverter((Class) type);
+    }
+
+    private static <E extends Enum<E>> ValueConverter<E> enumConverter(Class<E> type) {
+        final E[] constants = type.getEnumConstants();
+        return value -> {
+            final String trimmed = value.trim();
+            for (E constant : constants) {
+                if (constant.name().equalsIgnoreCase(trimmed)) {
+                    return constant;
+                }
+            }
+            throw new IllegalArgumentException("No constant " + value + " in " + type.getName());
+        };
+    }
+
+    /**
+     * Parse a duration, either in ISO-8601 format like "PT30S", or as a number
+     * with a unit: ns, us, ms, s, m, h or d. A number without unit is in
+     * milliseconds.
+     */
+    static Duration parseDuration(String value) {
+        final String trimmed = value.trim();
+        if (!trimmed.isEmpty() && (trimmed.charAt(0) == 'P' || trimmed.charAt(0) == 'p')) {
+            try {
+                return Duration.parse(trimmed);
+            } catch (DateTimeParseException ex) {
+                throw new IllegalArgumentException("Not a duration: " + value, ex);
+            }
+        }
+        int end = trimmed.startsWith("-") ? 1 : 0;
+        while (end < trimmed.length() && Character.isDigit(trimmed.charAt(end))) {
+            end++;
+        }
+        final long amount = Long.parseLong(trimmed.substring(0, end));
+        final String unit = trimmed.substring(end).trim().toLowerCase(Locale.ROOT);
+        switch (unit) {
+            case "ns":
+                return Duration.ofNanos(amount);
+            case "us":
+                return Duration.ofNanos(Math.multiplyExact(amount, 1000));
+            case "":
+            case "ms":
+                return Duration.ofMillis(amount);
+            case "s":
+                return Duration.ofSeconds(amount);
+            case "m":
+                return Duration.ofMinutes(amount);
+            case "h":
+                return Duration.ofHours(amount);
+            case "d":
+                return Duration.ofDays(amount);
+            default:
+                throw new IllegalArgumentException("Unknown duration unit in: " + value);
+        }
+    }
+
+    /**
+     * Parse a socket address like "host:port" or "[::1]:port". The address is
+     * not resolved.
+     */
+    static InetSocketAddress parseSocketAddress(String value) {
+        final String trimmed = value.trim();
+        final int colon = trimmed.lastIndexOf(':');
+        if (colon <= 0 || colon == trimmed.length() - 1) {
+            throw new IllegalArgumentException("Not a host:port address: " + value);
+        }
+        String host = trimmed.substring(0, colon);
+        if (host.startsWith("[") && host.endsWith("]")) {
+            host = host.substring(1, host.length() - 1);
+        }
+        return InetSocketAddress.createUnresolved(host, Integer.parseInt(trimmed.substring(colon + 1)));
+    }
+
+    /**
+     * A built-in converter that trims the value, and can check a value
+     * without throwing.
+     */
+    private static final class Checked<T> implements ValueConverter<T> {
+
+        private final Predicate<String> validator;
+        private final ValueConverter<T> converter;
+
+        private Checked(Predicate<String> validator, ValueConverter<T> converter) {
+            this.validator = validator;
+            this.converter = converter;
+        }
+
+        @Override
+        public T convert(String value) {
+            return converter.convert(value.trim());
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * SettingsMetrics that counts in striped counters, so that recording does not
+ * make threads contend. The counters can be read directly, or through JMX
+ * after calling {@link #registerMBean()}.
+ *
+ * <pre>{@code
+ * CountingSettingsMetrics metrics = new CountingSettingsMetrics();
+ * Settings.setMetrics(metrics);
+ * metrics.registerMBean();
+ * }</pre>
+ */
+public class CountingSettingsMetrics implements SettingsMetrics, CountingSettingsMetricsMXBean {
+
+    /**
+     * The ObjectName used by {@link #registerMBean()}.
+     */
+    public static final String OBJECT_NAME = "de.fraunhofer.iosb.ilt.settings:type=SettingsMetrics";
+
+    private static final int HISTOGRAM_BUCKETS = 64;
+    private static final ValueType[] VALUE_TYPES = ValueType.values();
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder lookupMisses = new LongAdder();
+    private final LongAdder lookupNanos = new LongAdder();
+    private final LongAdder[] lookupLatency = adders(HISTOGRAM_BUCKETS);
+    private final LongAdder[] cacheHits = adders(VALUE_TYPES.length);
+    private final LongAdder[] cacheMisses = adders(VALUE_TYPES.length);
+    private final LongAdder defaultFallbacks = new LongAdder();
+    private final LongAdder parseFailures = new LongAdder();
+
+    private static LongAdder[] adders(int count) {
+        final LongAdder[] result = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = new LongAdder();
+        }
+        return result;
+    }
+
+    private static long[] sums(LongAdder[] adders) {
+        final long[] result = new long[adders.length];
+        for (int i = 0; i < adders.length; i++) {
+            result[i] = adders[i].sum();
+        }
+        return result;
+    }
+
+    private static Map<String, Long> byType(LongAdder[] adders) {
+        final Map<String, Long> result = new LinkedHashMap<>();
+        for (ValueType type : VALUE_TYPES) {
+            result.put(type.name(), adders[type.ordinal()].sum());
+        }
+        return result;
+    }
+
+    @Override
+    public void lookup(boolean found, long nanos) {
+        lookups.increment();
+        if (!found) {
+            lookupMisses.increment();
+        }
+        final long positive = Math.max(0, nanos);
+        lookupNanos.add(positive);
+        lookupLatency[Math.min(HISTOGRAM_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(positive))].increment();
+    }
+
+    @Override
+    public void cacheAccess(ValueType type, boolean hit) {
+        if (hit) {
+            cacheHits[type.ordinal()].increment();
+        } else {
+            cacheMisses[type.ordinal()].increment();
+        }
+    }
+
+    @Override
+    public void defaultUsed() {
+        defaultFallbacks.increment();
+    }
+
+    @Override
+    public void parseFailure(Class<?> type) {
+        parseFailures.increment();
+    }
+
+    @Override
+    public long getLookups() {
+        return lookups.sum();
+    }
+
+    @Override
+    public long getLookupMisses() {
+        return lookupMisses.sum();
+    }
+
+    @Override
+    public long getLookupNanos() {
+        return lookupNanos.sum();
+    }
+
+    @Override
+    public long[] getLookupLatencyHistogram() {
+        return sums(lookupLatency);
+    }
+
+    /**
+     * @param type The type of value.
+     * @return The cache hits for the given type of value.
+     */
+    public long getCacheHits(ValueType type) {
+        return cacheHits[type.ordinal()].sum();
+    }
+
+    /**
+     * @param type The type of value.
+     * @return The cache misses for the given type of value.
+     */
+    public long getCacheMisses(ValueType type) {
+        return cacheMisses[type.ordinal()].sum();
+    }
+
+    @Override
+    public Map<String, Long> getCacheHits() {
+        return byType(cacheHits);
+    }
+
+    @Override
+    public Map<String, Long> getCacheMisses() {
+        return byType(cacheMisses);
+    }
+
+    @Override
+    public long getDefaultFallbacks() {
+        return defaultFallbacks.sum();
+    }
+
+    @Override
+    public long getParseFailures() {
+        return parseFailures.sum();
+    }
+
+    @Override
+    public void reset() {
+        lookups.reset();
+        lookupMisses.reset();
+        lookupNanos.reset();
+        defaultFallbacks.reset();
+        parseFailures.reset();
+        for (LongAdder adder : lookupLatency) {
+            adder.reset();
+        }
+        for (int i = 0; i < VALUE_TYPES.length; i++) {
+            cacheHits[i].reset();
+            cacheMisses[i].reset();
+        }
+    }
+
+    /**
+     * Register these metrics in the platform MBeanServer, under
+     * {@link #OBJECT_NAME}.
+     *
+     * @return The name the metrics are registered under.
+     * @throws JMException If registering failed, for instance because other
+     * metrics are already registered.
+     */
+    public ObjectName registerMBean() throws JMException {
+        final ObjectName name = new ObjectName(OBJECT_NAME);
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+        return name;
+    }
+
+    /**
+     * Remove these metrics from the platform MBeanServer, if they are
+     * registered.
+     *
+     * @throws JMException If unregistering failed.
+     */
+    public void unregisterMBean() throws JMException {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName(OBJECT_NAME);
+        if (server.isRegistered(name)) {
+            server.unregisterMBean(name);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings;
+
+import java.util.Map;
+
+/**
+ * The JMX view of a {@link CountingSettingsMetrics}.
+ */
+public interface CountingSettingsMetricsMXBean {
+
+    /**
+     * @return The number of raw value lookups.
+     */
+    long getLookups();
+
+    /**
+     * @return The number of raw value lookups for keys without a value.
+     */
+    long getLookupMisses();
+
+    /**
+     * @return The total time spent in raw value lookups, in nanoseconds.
+     */
+    long getLookupNanos();
+
+    /**
+     * Get the histogram of lookup latencies. Bucket i counts the lookups that
+     * took less than 2<sup>i</sup> nanoseconds, and at least
+     * 2<sup>i-1</sup>.
+     *
+     * @return The counts per bucket.
+     */
+    long[] getLookupLatencyHistogram();
+
+    /**
+     * @return The cache hits, by value type.
+     */
+    Map<String, Long> getCacheHits();
+
+    /**
+     * @return The cache misses, by value type.
+     */
+    Map<String, Long> getCacheMisses();
+
+    /**
+     * @return The number of times a default value was returned.
+     */
+    long getDefaultFallbacks();
+
+    /**
+     * @return The number of values that could not be parsed.
+     */
+    long getParseFailures();
+
+    /**
+     * Set all counters to zero.
+     */
+    void reset();
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Properties that layer the environment variables over a set of default
+ * properties, without copying the environment. The normalised view of the
+ * environment is built once per JVM and shared by all instances.
+ *
+ * <p>
+ * Lookups first check the values set on this Properties, then the environment
+ * variables, then the defaults. Only {@link #getProperty(String)},
+ * {@link #getProperty(String, String)}, {@link #stringPropertyNames()} and
+ * {@link #propertyNames()} see the environment variables; the Map methods,
+ * {@link #store(java.io.Writer, String)} and {@link #list(java.io.PrintStream)}
+ * only see the values set on this Properties.
+ *
+ * <p>
+ * The environment is not serialised. Instead, an instance is serialised as a
+ * plain Properties holding all values it resolves, including those of the
+ * environment and the defaults.
+ */
+public class EnvironmentProperties extends Properties {
+
+    private static final long serialVersionUID = 1L;
+    private static final Logger LOGGER = LoggerFactory.getLogger(EnvironmentProperties.class);
+
+    /**
+     * The environment of this instance, with normalised keys.
+     */
+    private final transient Map<String, String> environment;
+
+    /**
+     * Holder for the shared, normalised environment of the JVM, built on first
+     * use.
+     */
+    private static final class Environment {
+
+        private static final Map<String, String> NORMALISED = normalise(System.getenv());
+
+        private Environment() {
+            // Holder class.
+        }
+    }
+
+    /**
+     * Create new Properties, layering the environment of the JVM over the
+     * given defaults.
+     *
+     * @param defaults The defaults, can be overridden by environment variables.
+     */
+    public EnvironmentProperties(Properties defaults) {
+        this(defaults, Environment.NORMALISED);
+    }
+
+    /**
+     * Create new Properties, layering the given environment over the given
+     * defaults.
+     *
+     * @param defaults The defaults, can be overridden by environment variables.
+     * @param environment The environment to use, with keys normalised using
+     * {@link #normalise(Map)}. This map is used as-is and must not change.
+     */
+    public EnvironmentProperties(Properties defaults, Map<String, String> environment) {
+        super(defaults);
+        this.environment = environment;
+    }
+
+    /**
+     * Create an immutable, normalised view of the given environment. In the
+     * keys, underscores are replaced by dots. If two variables normalise to the
+     * same key, the one that sorts last wins.
+     *
+     * @param environment The environment variables to normalise.
+     * @return The normalised environment.
+     */
+    public static Map<String, String> normalise(Map<String, String> environment) {
+        final Map<String, String> normalised = new HashMap<>(environment.size() * 2);
+        for (Map.Entry<String, String> entry : new TreeMap<>(environment).entrySet()) {
+            String key = entry.getKey().replace('_', '.');
+            LOGGER.debug("Added environment variable: {}", key);
+            normalised.put(key, entry.getValue());
+        }
+        return Collections.unmodifiableMap(normalised);
+    }
+
+    /**
+     * @return The normalised environment used by this Properties.
+     */
+    public Map<String, String> getEnvironment() {
+        return environment;
+    }
+
+    @Override
+    public String getProperty(String key) {
+        final Object own = super.get(key);
+        if (own instanceof String) {
+            return (String) own;
+        }
+        final String env = environment.get(key);
+        if (env != null) {
+            return env;
+        }
+        return defaults == null ? null : defaults.getProperty(key);
+    }
+
+    @Override
+    public String getProperty(String key, String defaultValue) {
+        final String value = getProperty(key);
+        return value == null ? defaultValue : value;
+    }
+
+    @Override
+    public Set<String> stringPropertyNames() {
+        final Set<String> names = new HashSet<>();
+        if (defaults != null) {
+            names.addAll(defaults.stringPropertyNames());
+        }
+        names.addAll(environment.keySet());
+        for (Map.Entry<Object, Object> entry : entrySet()) {
+            if (entry.getKey() instanceof String && entry.getValue() instanceof String) {
+                names.add((String) entry.getKey());
+            }
+        }
+        return Collections.unmodifiableSet(names);
+    }
+
+    @Override
+    public Enumeration<?> propertyNames() {
+        return Collections.enumeration(stringPropertyNames());
+    }
+
+    /**
+     * Replace this instance by a plain Properties with all resolved values
+     * when serialising, since the environment is not serialised.
+     *
+     * @return The Properties to serialise instead of this instance.
+     */
+    protected Object writeReplace() {
+        final Properties copy = new Properties();
+        for (String name : stringPropertyNames()) {
+            copy.setProperty(name, getProperty(name));
+        }
+        return copy;
+    }
+
+}
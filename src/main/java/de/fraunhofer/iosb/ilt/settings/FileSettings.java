@@ -0,0 +1,231 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A Settings that reads its values from a properties file, and can reload the
+ * file when it changes. A reload parses the file completely before publishing
+ * the new values as one snapshot, so readers never block and never see a
+ * partially applied change. Caches based on this Settings only drop the
+ * values of the keys that changed.
+ *
+ * <p>
+ * Values changed using {@link #set(String, String)} are kept over reloads if
+ * the Settings is wrapped in the environment, and are replaced by the file
+ * contents otherwise.
+ *
+ * <p>
+ * The watcher waits for changes to settle before reloading, but a file that
+ * is edited in place can still be read while it is being written. Replace the
+ * file atomically, by writing a new file and moving it over the old one, to
+ * never read a partially written file.
+ */
+public class FileSettings extends SnapshotSettings implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileSettings.class);
+    /**
+     * The time to wait for more changes after a change is seen, so that a
+     * file that is being written is not read half-way.
+     */
+    private static final long SETTLE_DELAY_MS = 50;
+
+    private final Path file;
+    private final FileProperties fileProperties;
+    private WatchService watchService;
+    private Thread watchThread;
+
+    /**
+     * Creates a new file settings, reading the given file, wrapped in the
+     * environment variables, with no prefix.
+     *
+     * @param file The properties file to read.
+     * @throws IOException If the file can not be read.
+     */
+    public FileSettings(Path file) throws IOException {
+        this(file, "", true, false);
+    }
+
+    /**
+     * Creates a new file settings, reading the given file, with the given
+     * prefix.
+     *
+     * @param file The properties file to read.
+     * @param prefix The prefix to use.
+     * @param wrapInEnvironment Flag indicating if environment variables can
+     * override the values in the file.
+     * @param logSensitiveData Flag indicating things like passwords should be
+     * logged completely, not hidden.
+     * @throws IOException If the file can not be read.
+     */
+    public FileSettings(Path file, String prefix, boolean wrapInEnvironment, boolean logSensitiveData) throws IOException {
+        this(file, new FileProperties(load(file)), prefix, wrapInEnvironment, logSensitiveData);
+    }
+
+    private FileSettings(Path file, FileProperties fileProperties, String prefix, boolean wrapInEnvironment, boolean logSensitiveData) {
+        super(fileProperties, prefix, wrapInEnvironment, logSensitiveData);
+        this.file = file.toAbsolutePath();
+        this.fileProperties = fileProperties;
+    }
+
+    private static Properties load(Path file) throws IOException {
+        final Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return properties;
+    }
+
+    /**
+     * @return The file this Settings reads its values from.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Read the file again, and publish the new values. If the file can not be
+     * read, the current values are kept.
+     *
+     * @throws IOException If the file can not be read.
+     */
+    public void reload() throws IOException {
+        final Properties loaded = load(file);
+        synchronized (this) {
+            fileProperties.publish(loaded);
+            refresh();
+        }
+        LOGGER.debug("Reloaded settings from {}", file);
+    }
+
+    /**
+     * Start watching the file for changes. When the file changes, it is
+     * reloaded in a background thread. Calling this more than once has no
+     * effect.
+     *
+     * @throws IOException If the file can not be watched.
+     */
+    public synchronized void startWatching() throws IOException {
+        if (watchService != null) {
+            return;
+        }
+        watchService = file.getFileSystem().newWatchService();
+        file.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+        final WatchService service = watchService;
+        watchThread = new Thread(() -> watch(service), "FileSettings-" + file.getFileName());
+        watchThread.setDaemon(true);
+        watchThread.start();
+    }
+
+    private void watch(WatchService service) {
+        final Path fileName = file.getFileName();
+        try {
+            while (true) {
+                boolean changed = false;
+                WatchKey key = service.take();
+                while (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        // Events were lost, so the file may have changed.
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                                || fileName.equals(event.context())) {
+                            changed = true;
+                        }
+                    }
+                    key.reset();
+                    key = service.poll(SETTLE_DELAY_MS, TimeUnit.MILLISECONDS);
+                }
+                if (changed) {
+                    reloadQuietly();
+                }
+            }
+        } catch (ClosedWatchServiceException ex) {
+            LOGGER.debug("Stopped watching {}", file);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void reloadQuietly() {
+        try {
+            reload();
+        } catch (IOException ex) {
+            LOGGER.warn("Failed to reload settings from {}: {}", file, ex.getMessage());
+        }
+    }
+
+    /**
+     * Stop watching the file for changes.
+     *
+     * @throws IOException If closing the watch service fails.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService == null) {
+            return;
+        }
+        watchService.close();
+        watchService = null;
+        watchThread.interrupt();
+        watchThread = null;
+    }
+
+    /**
+     * The properties of the file. The values read from the file are the
+     * defaults of this Properties, so a reload publishes all new values by
+     * replacing a single reference. Values set through the Settings, when it
+     * is not wrapped in the environment, are stored in this Properties itself.
+     */
+    private static final class FileProperties extends Properties {
+
+        private static final long serialVersionUID = 1L;
+
+        private FileProperties(Properties loaded) {
+            super(loaded);
+        }
+
+        /**
+         * Publish newly loaded values, replacing values that were set.
+         */
+        private void publish(Properties loaded) {
+            defaults = loaded;
+            clear();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings;
+
+/**
+ * Compile-time generated metadata of a ConfigDefaults class. Implementations
+ * are generated by the ConfigDefaultsProcessor next to the class they
+ * describe, and registered as services. ConfigUtils loads them by their name
+ * and uses them instead of reflection when they are present.
+ *
+ * <p>
+ * All arrays are laid out as a perfect-hash table: a tag is stored in the slot
+ * given by {@link #slot(int, int, int)}, unused slots hold null.
+ */
+public interface GeneratedConfigMetadata {
+
+    /**
+     * Flag: the tag is annotated with SensitiveValue.
+     */
+    int FLAG_SENSITIVE = 1;
+    /**
+     * Flag: the tag is annotated with DefaultValueInt.
+     */
+    int FLAG_INT = 2;
+    /**
+     * Flag: the tag is annotated with DefaultValueDouble.
+     */
+    int FLAG_DOUBLE = 4;
+    /**
+     * Flag: the tag is annotated with DefaultValueBoolean.
+     */
+    int FLAG_BOOLEAN = 8;
+    /**
+     * Flag: the DefaultValueBoolean value is true.
+     */
+    int FLAG_BOOLEAN_TRUE = 16;
+
+    /**
+     * Calculates the slot of a tag in the perfect-hash table.
+     *
+     * @param hash The hashCode of the tag.
+     * @param seed The seed of the table.
+     * @param mask The table length - 1.
+     * @return The slot the tag must be in.
+     */
+    static int slot(int hash, int seed, int mask) {
+        final int h = hash * seed;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * @return The ConfigDefaults class this metadata describes.
+     */
+    Class<?> getTarget();
+
+    /**
+     * @return The seed used for calculating slots.
+     */
+    int getHashSeed();
+
+    /**
+     * @return The tags, by slot. The length is a power of two.
+     */
+    String[] getTags();
+
+    /**
+     * @return The default values as String, by slot.
+     */
+    String[] getDefaultValues();
+
+    /**
+     * @return The FLAG_* bits of the tags, by slot.
+     */
+    int[] getFlags();
+
+    /**
+     * @return The DefaultValueInt values, by slot.
+     */
+    int[] getDefaultInts();
+
+    /**
+     * @return The DefaultValueDouble values, by slot.
+     */
+    double[] getDefaultDoubles();
+}
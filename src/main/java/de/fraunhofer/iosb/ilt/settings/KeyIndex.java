@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * An immutable, sorted index of keys. All keys starting with a given prefix
+ * form one range in the index, found with two binary searches, so listing or
+ * counting the keys under a prefix does not scan all keys. Sub-settings share
+ * the index of their source Settings.
+ */
+final class KeyIndex {
+
+    private final long version;
+    private final String[] keys;
+
+    private KeyIndex(long version, String[] keys) {
+        this.version = version;
+        this.keys = keys;
+    }
+
+    /**
+     * Create an index over the given keys.
+     *
+     * @param version The version of the values the keys belong to.
+     * @param keys The keys to index.
+     * @return The index.
+     */
+    static KeyIndex of(long version, Collection<String> keys) {
+        final String[] sorted = keys.toArray(new String[0]);
+        Arrays.sort(sorted);
+        return new KeyIndex(version, sorted);
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return The number of keys in the index.
+     */
+    int size() {
+        return keys.length;
+    }
+
+    /**
+     * Find the first index of a key that is equal to or larger than the given
+     * prefix.
+     */
+    private int start(String prefix) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Find the first index, at or after start, of a key that does not start
+     * with the given prefix.
+     */
+    private int end(String prefix, int start) {
+        int low = start;
+        int high = keys.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (keys[mid].startsWith(prefix)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Count the keys starting with the given prefix.
+     *
+     * @param prefix The prefix.
+     * @return The number of keys starting with the prefix.
+     */
+    int count(String prefix) {
+        final int start = start(prefix);
+        return end(prefix, start) - start;
+    }
+
+    /**
+     * Get the keys starting with the given prefix, with the prefix removed.
+     * The returned list is a view on the index.
+     *
+     * @param prefix The prefix.
+     * @return The sorted names under the prefix.
+     */
+    List<String> names(String prefix) {
+        final int start = start(prefix);
+        final int end = end(prefix, start);
+        final int prefixLength = prefix.length();
+        return new AbstractList<>() {
+            @Override
+            public String get(int index) {
+                if (index < 0 || index >= end - start) {
+                    throw new IndexOutOfBoundsException(index);
+                }
+                return keys[start + index].substring(prefixLength);
+            }
+
+            @Override
+            public int size() {
+                return end - start;
+            }
+        };
+    }
+}
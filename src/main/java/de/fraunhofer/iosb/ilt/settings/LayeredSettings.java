@@ -0,0 +1,365 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * A Settings that merges an ordered chain of {@link SettingsLayer}s, like
+ * ConfigDefaults, files, system properties and the environment, into one flat
+ * table. Later layers override earlier layers. Values changed using
+ * {@link #set(String, String)} override all layers.
+ *
+ * <p>
+ * A lookup is a single probe in the merged table, regardless of the number of
+ * layers. When a layer is reloaded, only the keys that changed in that layer
+ * are resolved again, and caches based on this Settings only drop the values
+ * of the keys whose effective value changed.
+ *
+ * <p>
+ * The provenance of each effective value, see {@link #getProvenance(String)},
+ * is kept as an int per slot next to the merged table, and as an int per slot
+ * next to the table of each layer for the line number, so it costs no objects
+ * per key.
+ *
+ * <pre>{@code
+ * LayeredSettings settings = new LayeredSettings(List.of(
+ *         SettingsLayer.defaults(CoreSettings.class, ""),
+ *         SettingsLayer.file(Path.of("service.properties")),
+ *         SettingsLayer.systemProperties(),
+ *         SettingsLayer.environment()), "", false);
+ * }</pre>
+ */
+public class LayeredSettings extends Settings {
+
+    /**
+     * The name of the pseudo-layer holding the values set on this Settings.
+     */
+    public static final String SET_LAYER = "set";
+
+    private final List<SettingsLayer> layers;
+    /**
+     * The values of the layers, by layer index. The last table holds the
+     * values set on this Settings. Replaced, not changed, when a layer changes.
+     * The metadata of an entry is its line for file layers, and the low 32
+     * bits of the version it was set in for the values set on this Settings.
+     */
+    private volatile StringTable[] tables;
+    /**
+     * The effective values. The metadata of an entry is the index of the layer
+     * it comes from, plus one.
+     */
+    private volatile StringTable merged;
+    /**
+     * The version after each layer was last loaded, by layer index.
+     */
+    private final long[] loadVersions;
+
+    /**
+     * Creates a new layered settings, with no prefix, not logging sensitive
+     * data.
+     *
+     * @param layers The layers, from lowest to highest priority.
+     * @throws IOException If a layer can not be loaded.
+     */
+    public LayeredSettings(List<SettingsLayer> layers) throws IOException {
+        this(layers, "", false);
+    }
+
+    /**
+     * Creates a new layered settings.
+     *
+     * @param layers The layers, from lowest to highest priority.
+     * @param prefix The prefix to use.
+     * @param logSensitiveData Flag indicating things like passwords should be
+     * logged completely, not hidden.
+     * @throws IOException If a layer can not be loaded.
+     */
+    public LayeredSettings(List<SettingsLayer> layers, String prefix, boolean logSensitiveData) throws IOException {
+        super(new Properties(), prefix, false, logSensitiveData);
+        this.layers = Collections.unmodifiableList(new ArrayList<>(layers));
+        final StringTable[] loaded = new StringTable[layers.size() + 1];
+        final StringTable.Builder builder = new StringTable.Builder();
+        for (int i = 0; i < layers.size(); i++) {
+            loaded[i] = loadTable(layers.get(i));
+            final int layerMeta = i + 1;
+            loaded[i].forEach((key, value) -> builder.put(key, value, layerMeta));
+        }
+        loaded[layers.size()] = StringTable.EMPTY;
+        tables = loaded;
+        merged = builder.build();
+        loadVersions = new long[layers.size()];
+    }
+
+    private static StringTable loadTable(SettingsLayer layer) throws IOException {
+        final StringTable.Builder builder = new StringTable.Builder();
+        layer.load(builder::put);
+        return builder.build();
+    }
+
+    /**
+     * @return The layers, from lowest to highest priority.
+     */
+    public List<SettingsLayer> getLayers() {
+        return layers;
+    }
+
+    private int indexOf(String layerName) {
+        for (int i = 0; i < layers.size(); i++) {
+            if (layers.get(i).getName().equals(layerName)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("No layer named " + layerName + " in " + layers);
+    }
+
+    /**
+     * Load the layer with the given name again, and publish the changes. Only
+     * the keys that changed in the layer are resolved again.
+     *
+     * @param layerName The name of the layer to reload.
+     * @throws IOException If the layer can not be loaded. The current values
+     * are kept.
+     */
+    public void reload(String layerName) throws IOException {
+        final int index = indexOf(layerName);
+        final StringTable updated = loadTable(layers.get(index));
+        synchronized (this) {
+            final StringTable old = tables[index];
+            replaceTable(index, updated);
+            final Set<String> changed = remerge(old.changedKeys(updated));
+            loadVersions[index] = changed.isEmpty() ? getVersion() : recordChangeQuietly(changed);
+        }
+        notifyListeners();
+    }
+
+    /**
+     * Load all layers again, and publish the changes.
+     *
+     * @throws IOException If a layer can not be loaded. The layers loaded
+     * before the failing layer are published.
+     */
+    public void reloadAll() throws IOException {
+        for (SettingsLayer layer : layers) {
+            reload(layer.getName());
+        }
+    }
+
+    /**
+     * Get the name of the layer that provides the effective value of the
+     * property with the given name.
+     *
+     * @param name The name of the property, without the prefix.
+     * @return The name of the layer, "set" if the value was set on this
+     * Settings, or null if the property has no value.
+     */
+    public String getLayerOf(String name) {
+        final int index = merged.metaOf(getPropertyKey(name)) - 1;
+        if (index < 0) {
+            return null;
+        }
+        return layerName(index);
+    }
+
+    private String layerName(int index) {
+        return index == layers.size() ? SET_LAYER : layers.get(index).getName();
+    }
+
+    /**
+     * Get the provenance of the effective value of the property with the
+     * given name.
+     *
+     * @param name The name of the property, without the prefix.
+     * @return The provenance, or null if the property has no value.
+     */
+    public Provenance getProvenance(String name) {
+        return provenanceOf(getPropertyKey(name));
+    }
+
+    private synchronized Provenance provenanceOf(String key) {
+        final int index = merged.metaOf(key) - 1;
+        if (index < 0) {
+            return null;
+        }
+        final int keyMeta = tables[index].metaOf(key);
+        if (index == layers.size()) {
+            return new Provenance(key, index, SET_LAYER, 0, setVersionOf(keyMeta));
+        }
+        return new Provenance(key, index, layerName(index), keyMeta, loadVersions[index]);
+    }
+
+    /**
+     * Get the full version a value set on this Settings was recorded in, from
+     * the low 32 bits kept in the set layer. This is the latest version with
+     * those bits, which is exact as long as fewer than 2^32 changes were made
+     * after the value was set.
+     */
+    private long setVersionOf(int versionBits) {
+        final long now = getVersion();
+        return now - Integer.toUnsignedLong((int) now - versionBits);
+    }
+
+    /**
+     * Write all effective values in the properties file format, sorted by key,
+     * each preceded by a comment with its provenance. Sensitive values, as
+     * reported by {@link SettingsLayer#isSensitive(String)} of any layer, are
+     * hidden unless {@link #getLogSensitiveData()} is set.
+     *
+     * @param out The target to write to.
+     * @throws IOException If writing fails.
+     */
+    public void dump(Appendable out) throws IOException {
+        final StringTable current = merged;
+        final List<String> sorted = current.keys();
+        Collections.sort(sorted);
+        final Properties single = new Properties();
+        for (String key : sorted) {
+            final Provenance provenance = provenanceOf(key);
+            if (provenance == null) {
+                continue;
+            }
+            out.append("# ").append(provenance.toString()).append('\n');
+            single.clear();
+            single.setProperty(key, isSensitive(key) && !getLogSensitiveData() ? HIDDEN_VALUE : current.get(key));
+            final StringWriter entry = new StringWriter();
+            single.store(entry, null);
+            entry.getBuffer().delete(0, entry.getBuffer().indexOf("\n") + 1);
+            out.append(entry.getBuffer());
+        }
+    }
+
+    private boolean isSensitive(String key) {
+        for (SettingsLayer layer : layers) {
+            if (layer.isSensitive(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int layerIndexOf(String key) {
+        final StringTable[] current = tables;
+        for (int i = current.length - 1; i >= 0; i--) {
+            if (current[i].get(key) != null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void replaceTable(int index, StringTable table) {
+        final StringTable[] updated = tables.clone();
+        updated[index] = table;
+        tables = updated;
+    }
+
+    /**
+     * Resolve the given keys through all layers again, and publish a new
+     * merged table. Keys that keep their value but now come from a different
+     * layer are updated without being returned as changed. The new merged
+     * table is a copy of the arrays of the current one with only the slots of
+     * the updated keys written, it is not built again from all keys.
+     *
+     * @return The keys whose effective value changed, to be recorded by the
+     * caller.
+     */
+    private Set<String> remerge(Set<String> keys) {
+        final StringTable current = merged;
+        final StringTable[] layerTables = tables;
+        final Map<String, String> updates = new HashMap<>();
+        final Map<String, Integer> updatedLayers = new HashMap<>();
+        final Set<String> changed = new HashSet<>();
+        for (String key : keys) {
+            final int index = layerIndexOf(key);
+            final String value = index < 0 ? null : layerTables[index].get(key);
+            if (!Objects.equals(value, current.get(key))) {
+                updates.put(key, value);
+                updatedLayers.put(key, index + 1);
+                changed.add(key);
+            } else if (value != null && current.metaOf(key) != index + 1) {
+                updates.put(key, value);
+                updatedLayers.put(key, index + 1);
+            }
+        }
+        merged = current.withAll(updates, updatedLayers::get);
+        return changed;
+    }
+
+    @Override
+    protected Collection<String> keys() {
+        return merged.keys();
+    }
+
+    @Override
+    protected String lookup(String key) {
+        return merged.get(key);
+    }
+
+    /**
+     * Store the value in the set layer, with the version the change will be
+     * recorded in. This Settings is its own source, so while holding its lock
+     * no other change can take that version.
+     */
+    @Override
+    protected synchronized void store(String key, String value) {
+        super.store(key, value);
+        final int top = layers.size();
+        replaceTable(top, tables[top].with(key, value, (int) (getVersion() + 1)));
+        merged = merged.with(key, value, top + 1);
+    }
+
+    /**
+     * Store the value and record its version while holding the lock, so that
+     * the provenance never shows a value without its version. Listeners are
+     * notified after releasing the lock.
+     */
+    @Override
+    void storeAndRecord(String key, String value) {
+        synchronized (this) {
+            store(key, value);
+            recordChangeQuietly(Collections.singleton(key));
+        }
+        notifyListeners();
+    }
+
+    @Override
+    public SnapshotSettings freeze() {
+        final Properties values = new Properties();
+        merged.forEach(values::setProperty);
+        final SnapshotSettings snapshot = new SnapshotSettings(values, getPrefix(), false, getLogSensitiveData());
+        snapshot.setLogPolicy(getLogPolicy());
+        snapshot.setLogSampleRate(getLogSampleRate());
+        return snapshot;
+    }
+}
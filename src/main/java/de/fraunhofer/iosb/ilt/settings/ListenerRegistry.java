@@ -0,0 +1,242 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The listeners of a source Settings, indexed in a trie by the key or prefix
+ * they subscribed to. Finding the listeners of a changed key takes one step
+ * per character of the key, independent of the number of listeners.
+ */
+final class ListenerRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ListenerRegistry.class);
+
+    private final Settings settings;
+    private final Node root = new Node();
+    private final Queue<Change> pending = new ArrayDeque<>();
+    private boolean draining;
+    private Executor executor;
+
+    ListenerRegistry(Settings settings) {
+        this.settings = settings;
+    }
+
+    synchronized void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    private Executor getExecutor() {
+        if (executor != null) {
+            return executor;
+        }
+        return DefaultExecutor.INSTANCE;
+    }
+
+    synchronized void add(String key, boolean prefix, SettingsListener listener) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+        }
+        if (prefix) {
+            node.prefixListeners.add(listener);
+        } else {
+            node.keyListeners.add(listener);
+        }
+    }
+
+    synchronized void remove(SettingsListener listener) {
+        remove(root, listener);
+    }
+
+    private static boolean remove(Node node, SettingsListener listener) {
+        node.prefixListeners.removeIf(l -> l == listener);
+        node.keyListeners.removeIf(l -> l == listener);
+        node.children.values().removeIf(child -> remove(child, listener));
+        return node.isEmpty();
+    }
+
+    /**
+     * Queue a change for the listeners. Called while holding the lock that
+     * assigns the version, so changes are queued in version order.
+     *
+     * @param version The version after the change.
+     * @param keys The changed keys.
+     */
+    void enqueue(long version, Set<String> keys) {
+        synchronized (pending) {
+            pending.add(new Change(version, keys));
+        }
+    }
+
+    /**
+     * Dispatch the queued changes, in the order they were queued. Only one
+     * thread drains at a time; a thread that finds another one draining leaves
+     * its change to that thread.
+     */
+    void drain() {
+        synchronized (pending) {
+            if (draining) {
+                return;
+            }
+            draining = true;
+        }
+        try {
+            Change change;
+            while ((change = next()) != null) {
+                dispatch(change.version, change.keys);
+            }
+        } catch (RuntimeException ex) {
+            synchronized (pending) {
+                draining = false;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Take the next queued change, or stop draining when there is none.
+     */
+    private Change next() {
+        synchronized (pending) {
+            final Change change = pending.poll();
+            if (change == null) {
+                draining = false;
+            }
+            return change;
+        }
+    }
+
+    /**
+     * Notify the listeners of the given keys. Each listener gets one event,
+     * with all keys it subscribed to.
+     *
+     * @param version The version after the change.
+     * @param keys The changed keys.
+     */
+    private void dispatch(long version, Set<String> keys) {
+        final Map<SettingsListener, Set<String>> matches = new LinkedHashMap<>();
+        final Executor target;
+        synchronized (this) {
+            for (String key : keys) {
+                collect(key, matches);
+            }
+            if (matches.isEmpty()) {
+                return;
+            }
+            target = getExecutor();
+        }
+        for (Map.Entry<SettingsListener, Set<String>> entry : matches.entrySet()) {
+            final SettingsListener listener = entry.getKey();
+            final SettingsChangeEvent event = new SettingsChangeEvent(settings, version, entry.getValue());
+            target.execute(() -> notify(listener, event));
+        }
+    }
+
+    private void collect(String key, Map<SettingsListener, Set<String>> matches) {
+        Node node = root;
+        addAll(node.prefixListeners, key, matches);
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+            if (node != null) {
+                addAll(node.prefixListeners, key, matches);
+            }
+        }
+        if (node != null) {
+            addAll(node.keyListeners, key, matches);
+        }
+    }
+
+    private static void addAll(List<SettingsListener> listeners, String key, Map<SettingsListener, Set<String>> matches) {
+        for (SettingsListener listener : listeners) {
+            matches.computeIfAbsent(listener, l -> new LinkedHashSet<>()).add(key);
+        }
+    }
+
+    private static void notify(SettingsListener listener, SettingsChangeEvent event) {
+        try {
+            listener.settingsChanged(event);
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Settings listener failed", ex);
+        }
+    }
+
+    /**
+     * The executor shared by all registries that have no executor set: a
+     * single daemon thread, created when first used.
+     */
+    private static final class DefaultExecutor {
+
+        private static final ExecutorService INSTANCE = Executors.newSingleThreadExecutor(r -> {
+            final Thread thread = new Thread(r, "SettingsListeners");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        private DefaultExecutor() {
+            // Holder class.
+        }
+    }
+
+    /**
+     * A change waiting to be dispatched.
+     */
+    private static final class Change {
+
+        private final long version;
+        private final Set<String> keys;
+
+        private Change(long version, Set<String> keys) {
+            this.version = version;
+            this.keys = keys;
+        }
+    }
+
+    /**
+     * A node in the trie.
+     */
+    private static final class Node {
+
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<SettingsListener> prefixListeners = new ArrayList<>(0);
+        private final List<SettingsListener> keyListeners = new ArrayList<>(0);
+
+        boolean isEmpty() {
+            return children.isEmpty() && prefixListeners.isEmpty() && keyListeners.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings;
+
+/**
+ * The policy that decides when a Settings logs the values it resolves. In all
+ * policies, values of sensitive settings are hidden unless logging of
+ * sensitive data is enabled.
+ */
+public enum LogPolicy {
+    /**
+     * Log the value every time a setting is read.
+     */
+    ALWAYS,
+    /**
+     * Log the value of each setting only the first time it is read.
+     */
+    ONCE,
+    /**
+     * Log the value of each setting the first time it is read, until the
+     * startup phase is ended using {@link Settings#endStartup()}. After that,
+     * no values are logged.
+     */
+    STARTUP,
+    /**
+     * Log the value of each setting the first time it is read, and after that
+     * on average once every {@link Settings#getLogSampleRate()} reads.
+     */
+    SAMPLED,
+    /**
+     * Never log values.
+     */
+    NONE
+}
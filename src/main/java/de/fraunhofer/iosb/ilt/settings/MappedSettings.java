@@ -0,0 +1,249 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings;
+
+import static de.fraunhofer.iosb.ilt.settings.BinarySnapshotWriter.FORMAT_VERSION;
+import static de.fraunhofer.iosb.ilt.settings.BinarySnapshotWriter.HEADER_SIZE;
+import static de.fraunhofer.iosb.ilt.settings.BinarySnapshotWriter.MAGIC;
+import static de.fraunhofer.iosb.ilt.settings.BinarySnapshotWriter.SLOT_SIZE;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Properties;
+
+/**
+ * A Settings that reads its values directly from a memory-mapped binary
+ * snapshot, written by {@link BinarySnapshotWriter}. Opening the snapshot
+ * checks that all entries lie within the file, but does not decode or copy
+ * the values; a lookup hashes the key, compares it with the bytes in the file,
+ * and only decodes the value that is returned.
+ *
+ * <p>
+ * Values changed with {@link #set(String, String)}, and environment variables
+ * if enabled, are kept in the Properties of this Settings and override the
+ * values in the snapshot.
+ */
+public class MappedSettings extends Settings {
+
+    private final ByteBuffer buffer;
+    private final int slotCount;
+    private final int mask;
+
+    /**
+     * Creates a new mapped settings for the given snapshot file, with no
+     * prefix, without environment variables.
+     *
+     * @param file The snapshot file to map.
+     * @throws IOException If the file can not be mapped, or is not a snapshot.
+     */
+    public MappedSettings(Path file) throws IOException {
+        this(file, "", false, false);
+    }
+
+    /**
+     * Creates a new mapped settings for the given snapshot file.
+     *
+     * @param file The snapshot file to map.
+     * @param prefix The prefix to use.
+     * @param wrapInEnvironment Flag indicating if environment variables can
+     * override the values in the snapshot.
+     * @param logSensitiveData Flag indicating things like passwords should be
+     * logged completely, not hidden.
+     * @throws IOException If the file can not be mapped, or is not a snapshot.
+     */
+    public MappedSettings(Path file, String prefix, boolean wrapInEnvironment, boolean logSensitiveData) throws IOException {
+        super(new Properties(), prefix, wrapInEnvironment, logSensitiveData);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a settings snapshot: " + file);
+        }
+        if (buffer.getInt(4) != FORMAT_VERSION) {
+            throw new IOException("Unsupported snapshot version " + buffer.getInt(4) + " in " + file);
+        }
+        slotCount = buffer.getInt(12);
+        mask = slotCount - 1;
+        if (slotCount <= 0 || Integer.bitCount(slotCount) != 1 || HEADER_SIZE + (long) slotCount * SLOT_SIZE > buffer.capacity()) {
+            throw new IOException("Corrupt settings snapshot: " + file);
+        }
+        validateEntries(file);
+    }
+
+    /**
+     * Check that the offsets and lengths of all entries lie within the file,
+     * so that lookups can not read outside the snapshot, and that there is an
+     * empty slot that ends each probe sequence.
+     */
+    private void validateEntries(Path file) throws IOException {
+        final int capacity = buffer.capacity();
+        final int entriesStart = HEADER_SIZE + slotCount * SLOT_SIZE;
+        int used = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            final int offset = buffer.getInt(HEADER_SIZE + slot * SLOT_SIZE + 4);
+            if (offset == 0) {
+                continue;
+            }
+            used++;
+            if (offset < entriesStart || offset > capacity - 4) {
+                throw new IOException("Corrupt settings snapshot " + file + ": entry offset " + offset + " of slot " + slot + " out of bounds");
+            }
+            final int keyLength = buffer.getInt(offset);
+            final long valuePos = offset + 4L + keyLength;
+            if (keyLength < 0 || valuePos > capacity - 4) {
+                throw new IOException("Corrupt settings snapshot " + file + ": key length " + keyLength + " at offset " + offset + " out of bounds");
+            }
+            final int valueLength = buffer.getInt((int) valuePos);
+            if (valueLength < 0 || valuePos + 4 + valueLength > capacity) {
+                throw new IOException("Corrupt settings snapshot " + file + ": value length " + valueLength + " at offset " + valuePos + " out of bounds");
+            }
+        }
+        if (used == slotCount || used != buffer.getInt(8)) {
+            throw new IOException("Corrupt settings snapshot " + file + ": entry count " + buffer.getInt(8) + " does not match " + used + " used slots");
+        }
+    }
+
+    /**
+     * @return The number of entries in the snapshot.
+     */
+    public int getSnapshotSize() {
+        return buffer.getInt(8);
+    }
+
+    @Override
+    protected String lookup(String key) {
+        final String override = super.lookup(key);
+        if (override != null) {
+            return override;
+        }
+        return lookupMapped(key);
+    }
+
+    private String lookupMapped(String key) {
+        final int hash = BinarySnapshotWriter.hash(key);
+        int slot = hash & mask;
+        while (true) {
+            final int slotPos = HEADER_SIZE + slot * SLOT_SIZE;
+            final int offset = buffer.getInt(slotPos + 4);
+            if (offset == 0) {
+                return null;
+            }
+            if (buffer.getInt(slotPos) == hash) {
+                final int keyLength = buffer.getInt(offset);
+                if (keyEquals(offset + 4, keyLength, key)) {
+                    final int valuePos = offset + 4 + keyLength;
+                    final byte[] value = new byte[buffer.getInt(valuePos)];
+                    buffer.get(valuePos + 4, value);
+                    return new String(value, StandardCharsets.UTF_8);
+                }
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Compare the UTF-8 bytes at the given position with the given key,
+     * encoding the key on the fly.
+     */
+    private boolean keyEquals(int start, int length, String key) {
+        int pos = start;
+        final int end = start + length;
+        for (int i = 0; i < key.length(); i++) {
+            final int cp = key.codePointAt(i);
+            if (Character.isSupplementaryCodePoint(cp)) {
+                i++;
+            }
+            if (cp < 0x80) {
+                if (pos >= end || buffer.get(pos++) != (byte) cp) {
+                    return false;
+                }
+            } else if (cp < 0x800) {
+                if (pos + 2 > end
+                        || buffer.get(pos++) != (byte) (0xC0 | (cp >> 6))
+                        || buffer.get(pos++) != (byte) (0x80 | (cp & 0x3F))) {
+                    return false;
+                }
+            } else if (cp < 0x10000) {
+                if (pos + 3 > end
+                        || buffer.get(pos++) != (byte) (0xE0 | (cp >> 12))
+                        || buffer.get(pos++) != (byte) (0x80 | ((cp >> 6) & 0x3F))
+                        || buffer.get(pos++) != (byte) (0x80 | (cp & 0x3F))) {
+                    return false;
+                }
+            } else if (pos + 4 > end
+                    || buffer.get(pos++) != (byte) (0xF0 | (cp >> 18))
+                    || buffer.get(pos++) != (byte) (0x80 | ((cp >> 12) & 0x3F))
+                    || buffer.get(pos++) != (byte) (0x80 | ((cp >> 6) & 0x3F))
+                    || buffer.get(pos++) != (byte) (0x80 | (cp & 0x3F))) {
+                return false;
+            }
+        }
+        return pos == end;
+    }
+
+    /**
+     * Copy all entries of the snapshot, overridden by the values in the
+     * Properties of this Settings, into the given Properties.
+     *
+     * @param target The Properties to copy into.
+     * @return The given Properties.
+     */
+    public Properties copyTo(Properties target) {
+        for (int slot = 0; slot < slotCount; slot++) {
+            final int offset = buffer.getInt(HEADER_SIZE + slot * SLOT_SIZE + 4);
+            if (offset == 0) {
+                continue;
+            }
+            final byte[] keyBytes = new byte[buffer.getInt(offset)];
+            buffer.get(offset + 4, keyBytes);
+            final int valuePos = offset + 4 + keyBytes.length;
+            final byte[] valueBytes = new byte[buffer.getInt(valuePos)];
+            buffer.get(valuePos + 4, valueBytes);
+            target.setProperty(new String(keyBytes, StandardCharsets.UTF_8), new String(valueBytes, StandardCharsets.UTF_8));
+        }
+        final Properties overrides = getProperties();
+        for (String key : overrides.stringPropertyNames()) {
+            target.setProperty(key, overrides.getProperty(key));
+        }
+        return target;
+    }
+
+    @Override
+    protected Collection<String> keys() {
+        return copyTo(new Properties()).stringPropertyNames();
+    }
+
+    @Override
+    public SnapshotSettings freeze() {
+        final SnapshotSettings snapshot = new SnapshotSettings(copyTo(new Properties()), getPrefix(), false, getLogSensitiveData());
+        snapshot.setLogPolicy(getLogPolicy());
+        snapshot.setLogSampleRate(getLogSampleRate());
+        return snapshot;
+    }
+
+}
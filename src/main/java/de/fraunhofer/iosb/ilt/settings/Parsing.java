@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings;
+
+/**
+ * Checks if values can be parsed as numbers, without throwing exceptions. Each
+ * check accepts exactly the values the corresponding JDK parse method accepts,
+ * so a value that passes can be parsed without a NumberFormatException.
+ */
+final class Parsing {
+
+    private Parsing() {
+        // Utility class.
+    }
+
+    /**
+     * @param value The value to check.
+     * @return true if {@link Integer#parseInt(String)} accepts the value.
+     */
+    static boolean isInt(String value) {
+        return isInteger(value, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param value The value to check.
+     * @return true if {@link Long#parseLong(String)} accepts the value.
+     */
+    static boolean isLong(String value) {
+        return isInteger(value, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Check an integer in the given range, accumulating negatively like
+     * {@link Long#parseLong(String)}, so that the minimum value does not
+     * overflow.
+     */
+    private static boolean isInteger(String value, long min, long max) {
+        final int length = value.length();
+        if (length == 0) {
+            return false;
+        }
+        int i = 0;
+        boolean negative = false;
+        final char first = value.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i = 1;
+            if (length == 1) {
+                return false;
+            }
+        }
+        final long limit = negative ? min : -max;
+        final long multMin = limit / 10;
+        long result = 0;
+        for (; i < length; i++) {
+            final int digit = Character.digit(value.charAt(i), 10);
+            if (digit < 0 || result < multMin) {
+                return false;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return false;
+            }
+            result -= digit;
+        }
+        return true;
+    }
+
+    /**
+     * @param value The value to check.
+     * @return true if {@link Double#parseDouble(String)} accepts the value.
+     */
+    static boolean isDouble(String value) {
+        final String trimmed = value.trim();
+        final int length = trimmed.length();
+        int i = 0;
+        if (i < length && (trimmed.charAt(i) == '-' || trimmed.charAt(i) == '+')) {
+            i++;
+        }
+        if (trimmed.startsWith("NaN", i) || trimmed.startsWith("Infinity", i)) {
+            final int end = i + (trimmed.charAt(i) == 'N' ? 3 : 8);
+            return end == length;
+        }
+        if (trimmed.startsWith("0x", i) || trimmed.startsWith("0X", i)) {
+            return isHexDouble(trimmed);
+        }
+        int digits = 0;
+        while (i < length && isAsciiDigit(trimmed.charAt(i))) {
+            i++;
+            digits++;
+        }
+        if (i < length && trimmed.charAt(i) == '.') {
+            i++;
+            while (i < length && isAsciiDigit(trimmed.charAt(i))) {
+                i++;
+                digits++;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        if (i < length && (trimmed.charAt(i) == 'e' || trimmed.charAt(i) == 'E')) {
+            i++;
+            if (i < length && (trimmed.charAt(i) == '-' || trimmed.charAt(i) == '+')) {
+                i++;
+            }
+            final int exponentStart = i;
+            while (i < length && isAsciiDigit(trimmed.charAt(i))) {
+                i++;
+            }
+            if (i == exponentStart) {
+                return false;
+            }
+        }
+        if (i < length && "fFdD".indexOf(trimmed.charAt(i)) >= 0) {
+            i++;
+        }
+        return i == length;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Hexadecimal floating point values are rare in settings, they are checked
+     * by parsing them.
+     */
+    private static boolean isHexDouble(String value) {
+        try {
+            Double.parseDouble(value);
+            return true;
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+}
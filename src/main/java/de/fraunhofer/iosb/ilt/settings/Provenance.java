@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings;
+
+/**
+ * Where the effective value of a key in a {@link LayeredSettings} comes from.
+ * Provenance is stored compactly per key, instances are only created when
+ * queried.
+ */
+public final class Provenance {
+
+    private final String key;
+    private final int sourceId;
+    private final String source;
+    private final int line;
+    private final long version;
+
+    Provenance(String key, int sourceId, String source, int line, long version) {
+        this.key = key;
+        this.sourceId = sourceId;
+        this.source = source;
+        this.line = line;
+        this.version = version;
+    }
+
+    /**
+     * @return The key, including the prefix.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return The index of the layer the value comes from. Values set on the
+     * Settings have the index one past the last layer.
+     */
+    public int getSourceId() {
+        return sourceId;
+    }
+
+    /**
+     * @return The name of the layer the value comes from, or "set" if the
+     * value was set on the Settings.
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * @return The (1-based) line in the source the value is defined on, or 0
+     * if the source has no lines.
+     */
+    public int getLine() {
+        return line;
+    }
+
+    /**
+     * @return The version of the Settings when the value was loaded: the
+     * version after the layer was last (re)loaded, or after the value was set.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public String toString() {
+        return key + " from " + source + (line > 0 ? ":" + line : "") + " (version " + version + ")";
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+
+/**
+ * Binds the values of a Settings to a record. Each component of the record is
+ * read from the property with the name of the component, under the prefix of
+ * the Settings. If a ConfigDefaults class is given, and it has a tag with the
+ * name of the component, the sensitivity of that tag is used. If the tag also
+ * has a default of the type of the component ({@code @DefaultValueInt} for
+ * int and long, {@code @DefaultValueDouble} for double,
+ * {@code @DefaultValueBoolean} for boolean, any default for String), that
+ * default is used, otherwise the property is required.
+ *
+ * <p>
+ * The record is created through a method handle on its canonical constructor,
+ * so the accessors of the bound instance are plain field reads. The instance
+ * is cached, and replaced atomically by a new instance when the version of the
+ * Settings changes.
+ *
+ * <p>
+ * Supported component types are String, int, long, double and boolean, and
+ * their boxed variants.
+ *
+ * @param <R> The type of the record.
+ */
+public final class RecordBinding<R extends Record> {
+
+    /**
+     * Reads the value of one component.
+     */
+    @FunctionalInterface
+    private interface ComponentReader {
+
+        Object read(Settings settings);
+    }
+
+    private final Settings settings;
+    private final Class<R> type;
+    private final ComponentReader[] readers;
+    private final MethodHandle constructor;
+
+    private volatile Bound<R> current;
+
+    RecordBinding(Settings settings, Class<R> type, Class<? extends ConfigDefaults> defaultsProvider) {
+        if (!type.isRecord()) {
+            throw new IllegalArgumentException(type.getName() + " is not a record");
+        }
+        this.settings = settings;
+        this.type = type;
+        final RecordComponent[] components = type.getRecordComponents();
+        final Class<?>[] types = new Class<?>[components.length];
+        readers = new ComponentReader[components.length];
+        for (int i = 0; i < components.length; i++) {
+            types[i] = components[i].getType();
+            readers[i] = createReader(components[i].getName(), types[i], defaultsProvider);
+        }
+        try {
+            final Constructor<R> canonical = type.getDeclaredConstructor(types);
+            canonical.setAccessible(true);
+            constructor = MethodHandles.lookup()
+                    .unreflectConstructor(canonical)
+                    .asSpreader(Object[].class, types.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException ex) {
+            throw new IllegalArgumentException("Can not access the canonical constructor of " + type.getName(), ex);
+        }
+    }
+
+    private static ComponentReader createReader(String name, Class<?> type, Class<? extends ConfigDefaults> defaultsProvider) {
+        final ConfigMetadata.Tag tag = defaultsProvider == null ? null : ConfigMetadata.of(defaultsProvider).get(name);
+        if (type == String.class) {
+            if (tag != null && tag.getDefaultValue() != null) {
+                return s -> s.get(name, defaultsProvider);
+            }
+            return tag != null && tag.isSensitive() ? s -> s.getSensitive(name) : s -> s.get(name);
+        }
+        if (type == int.class || type == Integer.class) {
+            return tag != null && tag.hasDefaultInt() ? s -> s.getInt(name, defaultsProvider) : s -> s.getInt(name);
+        }
+        if (type == long.class || type == Long.class) {
+            return tag != null && tag.hasDefaultInt() ? s -> s.getLong(name, defaultsProvider) : s -> s.getLong(name);
+        }
+        if (type == double.class || type == Double.class) {
+            return tag != null && tag.hasDefaultDouble() ? s -> s.getDouble(name, defaultsProvider) : s -> s.getDouble(name);
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return tag != null && tag.hasDefaultBoolean() ? s -> s.getBoolean(name, defaultsProvider) : s -> s.getBoolean(name);
+        }
+        throw new IllegalArgumentException("Unsupported type " + type.getName() + " of record component " + name);
+    }
+
+    /**
+     * @return The record type this binding creates.
+     */
+    public Class<R> getType() {
+        return type;
+    }
+
+    /**
+     * Get the bound record. If the version of the Settings changed since the
+     * record was last created, a new record is created.
+     *
+     * @return The bound record.
+     */
+    public R get() {
+        final long version = settings.getVersion();
+        final Bound<R> bound = current;
+        if (bound != null && bound.version == version) {
+            return bound.value;
+        }
+        final R value = create();
+        current = new Bound<>(version, value);
+        return value;
+    }
+
+    private R create() {
+        final Object[] args = new Object[readers.length];
+        for (int i = 0; i < readers.length; i++) {
+            args[i] = readers[i].read(settings);
+        }
+        try {
+            return type.cast((Object) constructor.invokeExact(args));
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException("Failed to create " + type.getName(), ex);
+        }
+    }
+
+    /**
+     * A bound record, with the version it was created for.
+     */
+    private static final class Bound<R> {
+
+        private final long version;
+        private final R value;
+
+        private Bound(long version, R value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings;
+
+import de.fraunhofer.iosb.ilt.settings.exceptions.PropertyTypeException;
+
+/**
+ * The values of all tags of a ConfigDefaults class, resolved in one pass. The
+ * values are stored in arrays, indexed by the ordinal of the tag, and parsed
+ * to the type of their default value annotation when resolved. The view is
+ * immutable and does not change when the Settings it was resolved from
+ * changes.
+ *
+ * <p>
+ * Created by {@link Settings#resolve(Class)}.
+ */
+public final class ResolvedSettings {
+
+    private final Class<? extends ConfigDefaults> defaultsProvider;
+    private final ConfigMetadata metadata;
+    private final ConfigMetadata.Tag[] tags;
+    private final String[] values;
+    private final boolean[] set;
+    private final long[] longs;
+    private final double[] doubles;
+    private final boolean[] booleans;
+    private final long version;
+    private int setCount;
+
+    ResolvedSettings(Settings settings, Class<? extends ConfigDefaults> defaultsProvider) {
+        this.defaultsProvider = defaultsProvider;
+        this.metadata = ConfigMetadata.of(defaultsProvider);
+        this.version = settings.getVersion();
+        tags = metadata.tags();
+        final int count = tags.length;
+        values = new String[count];
+        set = new boolean[count];
+        longs = new long[count];
+        doubles = new double[count];
+        booleans = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            resolve(settings, i);
+        }
+    }
+
+    /**
+     * Resolve the value of one tag, like the getters with a ConfigDefaults
+     * class: a value that can not be parsed as the type of the default value is
+     * reported, and the default value is used instead.
+     */
+    private void resolve(Settings settings, int ordinal) {
+        final ConfigMetadata.Tag tag = tags[ordinal];
+        final String raw = settings.getRawValueOf(tag.getName());
+        boolean valid = raw != null;
+        if (tag.hasDefaultInt()) {
+            longs[ordinal] = tag.getDefaultInt();
+            if (raw != null) {
+                if (Parsing.isLong(raw)) {
+                    longs[ordinal] = Long.parseLong(raw);
+                } else {
+                    valid = false;
+                    settings.malformedValue(tag.getName(), raw, Long.class, tag.isSensitive());
+                }
+            }
+        }
+        if (tag.hasDefaultDouble()) {
+            doubles[ordinal] = tag.getDefaultDouble();
+            if (raw != null) {
+                if (Parsing.isDouble(raw)) {
+                    doubles[ordinal] = Double.parseDouble(raw);
+                } else {
+                    valid = false;
+                    settings.malformedValue(tag.getName(), raw, Double.class, tag.isSensitive());
+                }
+            }
+        }
+        if (tag.hasDefaultBoolean()) {
+            booleans[ordinal] = raw == null ? tag.getDefaultBoolean() : Boolean.parseBoolean(raw);
+        }
+        values[ordinal] = valid ? raw : tag.getDefaultValue();
+        set[ordinal] = valid;
+        if (valid) {
+            setCount++;
+        }
+    }
+
+    /**
+     * @return The ConfigDefaults class the values were resolved for.
+     */
+    public Class<? extends ConfigDefaults> getDefaultsProvider() {
+        return defaultsProvider;
+    }
+
+    /**
+     * @return The version of the Settings the values were resolved from.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return The number of tags.
+     */
+    public int size() {
+        return tags.length;
+    }
+
+    /**
+     * @return The number of tags that have a valid value in the Settings, and
+     * do not use their default value.
+     */
+    public int getSetCount() {
+        return setCount;
+    }
+
+    /**
+     * Get the ordinal of the given tag.
+     *
+     * @param tag The tag to get the ordinal of.
+     * @return The ordinal of the tag.
+     * @throws IllegalArgumentException if the class has no such tag.
+     */
+    public int ordinal(String tag) {
+        final ConfigMetadata.Tag found = metadata.get(tag);
+        if (found == null) {
+            throw new IllegalArgumentException(defaultsProvider.getName() + " has no tag " + tag);
+        }
+        return found.getOrdinal();
+    }
+
+    /**
+     * @param ordinal The ordinal of the tag.
+     * @return The name of the tag with the given ordinal.
+     */
+    public String getName(int ordinal) {
+        return tags[ordinal].getName();
+    }
+
+    /**
+     * @param ordinal The ordinal of the tag.
+     * @return true if the tag has a valid value in the Settings, false if it
+     * uses its default value.
+     */
+    public boolean isSet(int ordinal) {
+        return set[ordinal];
+    }
+
+    /**
+     * @param ordinal The ordinal of the tag.
+     * @return true if the tag is annotated as sensitive.
+     */
+    public boolean isSensitive(int ordinal) {
+        return tags[ordinal].isSensitive();
+    }
+
+    /**
+     * @param ordinal The ordinal of the tag.
+     * @return The value of the tag, or its default value if not set.
+     */
+    public String get(int ordinal) {
+        return values[ordinal];
+    }
+
+    /**
+     * @param tag The tag.
+     * @return The value of the tag, or its default value if not set.
+     */
+    public String get(String tag) {
+        return get(ordinal(tag));
+    }
+
+    /**
+     * @param ordinal The ordinal of the tag.
+     * @return The value of the tag as int, or the default value of the tag if
+     * the value is out of the int range.
+     * @throws PropertyTypeException if the value is not an int, and the tag
+     * has no int default value.
+     */
+    public int getInt(int ordinal) {
+        final long value = getLong(ordinal);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            if (tags[ordinal].hasDefaultInt()) {
+                return tags[ordinal].getDefaultInt();
+            }
+            throw new PropertyTypeException(getName(ordinal), Integer.class);
+        }
+        return (int) value;
+    }
+
+    /**
+     * @param tag The tag.
+     * @return The value of the tag as int, or the default value of the tag if
+     * the value is out of the int range.
+     * @throws PropertyTypeException if the value is not an int, and the tag
+     * has no int default value.
+     */
+    public int getInt(String tag) {
+        return getInt(ordinal(tag));
+    }
+
+    /**
+     * @param ordinal The ordinal of the tag.
+     * @return The value of the tag as long.
+     * @throws PropertyTypeException if the value is not a long.
+     */
+    public long getLong(int ordinal) {
+        if (tags[ordinal].hasDefaultInt()) {
+            return longs[ordinal];
+        }
+        try {
+            return Long.parseLong(values[ordinal]);
+        } catch (NumberFormatException | NullPointerException ex) {
+            throw new PropertyTypeException(getName(ordinal), Long.class, ex);
+        }
+    }
+
+    /**
+     * @param tag The tag.
+     * @return The value of the tag as long.
+     * @throws PropertyTypeException if the value is not a long.
+     */
+    public long getLong(String tag) {
+        return getLong(ordinal(tag));
+    }
+
+    /**
+     * @param ordinal The ordinal of the tag.
+     * @return The value of the tag as double.
+     * @throws PropertyTypeException if the value is not a double.
+     */
+    public double getDouble(int ordinal) {
+        if (tags[ordinal].hasDefaultDouble()) {
+            return doubles[ordinal];
+        }
+        try {
+            return Double.parseDouble(values[ordinal]);
+        } catch (NumberFormatException | NullPointerException ex) {
+            throw new PropertyTypeException(getName(ordinal), Double.class, ex);
+        }
+    }
+
+    /**
+     * @param tag The tag.
+     * @return The value of the tag as double.
+     * @throws PropertyTypeException if the value is not a double.
+     */
+    public double getDouble(String tag) {
+        return getDouble(ordinal(tag));
+    }
+
+    /**
+     * @param ordinal The ordinal of the tag.
+     * @return The value of the tag as boolean.
+     */
+    public boolean getBoolean(int ordinal) {
+        if (tags[ordinal].hasDefaultBoolean()) {
+            return booleans[ordinal];
+        }
+        return Boolean.parseBoolean(values[ordinal]);
+    }
+
+    /**
+     * @param tag The tag.
+     * @return The value of the tag as boolean.
+     */
+    public boolean getBoolean(String tag) {
+        return getBoolean(ordinal(tag));
+    }
+
+}
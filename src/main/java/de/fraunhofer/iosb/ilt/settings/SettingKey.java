@@ -0,0 +1,241 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * A typed handle for one setting of a ConfigDefaults class. The name, default
+ * value and sensitivity of the setting are resolved once, when the handle is
+ * created. The parsed value is cached in the handle, and only read again from
+ * the Settings when the version of the Settings changes.
+ *
+ * <p>
+ * Handles are thread-safe and are meant to be kept in static fields:
+ *
+ * <pre>
+ * private static final SettingKey&lt;Integer&gt; PORT = SettingKey.ofInt(SettingsHolder.class, SettingsHolder.NAME_VAR_PORT);
+ * ...
+ * int port = PORT.get(settings);
+ * </pre>
+ *
+ * A handle caches the value for the last Settings it was read from. Reading
+ * the same handle from different Settings in turn works, but does not benefit
+ * from the cache. The handle only weakly refers to that Settings, so a handle
+ * in a static field does not keep a discarded Settings reachable.
+ *
+ * @param <T> The type of the value of the setting.
+ */
+public final class SettingKey<T> {
+
+    /**
+     * Reads the value of a setting from a Settings, using the resolved default
+     * value and sensitivity of the handle.
+     *
+     * @param <T> The type of the value.
+     */
+    @FunctionalInterface
+    private interface Reader<T> {
+
+        T read(SettingKey<T> key, Settings settings);
+    }
+
+    private final Class<? extends ConfigDefaults> defaultsProvider;
+    private final String name;
+    private final Class<T> type;
+    private final boolean sensitive;
+    private final T defaultValue;
+    private final Reader<T> reader;
+
+    private volatile Cached<T> cached;
+
+    private SettingKey(Class<? extends ConfigDefaults> defaultsProvider, String name, Class<T> type, T defaultValue, Reader<T> reader) {
+        this.defaultsProvider = defaultsProvider;
+        this.name = name;
+        this.type = type;
+        this.sensitive = ConfigUtils.isSensitive(defaultsProvider, name);
+        this.defaultValue = defaultValue;
+        this.reader = reader;
+    }
+
+    /**
+     * Create a handle for a String setting.
+     *
+     * @param defaultsProvider The ConfigDefaults class that defines the tag.
+     * @param name The tag of the setting.
+     * @return The handle.
+     * @throws IllegalArgumentException if the tag has no default value.
+     */
+    public static SettingKey<String> ofString(Class<? extends ConfigDefaults> defaultsProvider, String name) {
+        return new SettingKey<>(defaultsProvider, name, String.class,
+                ConfigUtils.getDefaultValue(defaultsProvider, name),
+                (key, settings) -> key.sensitive
+                ? settings.getSensitive(key.name, key.defaultValue)
+                : settings.get(key.name, key.defaultValue));
+    }
+
+    /**
+     * Create a handle for an int setting.
+     *
+     * @param defaultsProvider The ConfigDefaults class that defines the tag.
+     * @param name The tag of the setting.
+     * @return The handle.
+     * @throws IllegalArgumentException if the tag has no int default value.
+     */
+    public static SettingKey<Integer> ofInt(Class<? extends ConfigDefaults> defaultsProvider, String name) {
+        return new SettingKey<>(defaultsProvider, name, Integer.class,
+                ConfigUtils.getDefaultValueInt(defaultsProvider, name),
+                (key, settings) -> key.sensitive
+                ? settings.getInt(key.name, key.defaultsProvider)
+                : settings.getInt(key.name, key.defaultValue));
+    }
+
+    /**
+     * Create a handle for a long setting.
+     *
+     * @param defaultsProvider The ConfigDefaults class that defines the tag.
+     * @param name The tag of the setting.
+     * @return The handle.
+     * @throws IllegalArgumentException if the tag has no int default value.
+     */
+    public static SettingKey<Long> ofLong(Class<? extends ConfigDefaults> defaultsProvider, String name) {
+        return new SettingKey<>(defaultsProvider, name, Long.class,
+                (long) ConfigUtils.getDefaultValueInt(defaultsProvider, name),
+                (key, settings) -> key.sensitive
+                ? settings.getLong(key.name, key.defaultsProvider)
+                : settings.getLong(key.name, key.defaultValue));
+    }
+
+    /**
+     * Create a handle for a double setting.
+     *
+     * @param defaultsProvider The ConfigDefaults class that defines the tag.
+     * @param name The tag of the setting.
+     * @return The handle.
+     * @throws IllegalArgumentException if the tag has no double default value.
+     */
+    public static SettingKey<Double> ofDouble(Class<? extends ConfigDefaults> defaultsProvider, String name) {
+        return new SettingKey<>(defaultsProvider, name, Double.class,
+                ConfigUtils.getDefaultValueDouble(defaultsProvider, name),
+                (key, settings) -> key.sensitive
+                ? settings.getDouble(key.name, key.defaultsProvider)
+                : settings.getDouble(key.name, key.defaultValue));
+    }
+
+    /**
+     * Create a handle for a boolean setting.
+     *
+     * @param defaultsProvider The ConfigDefaults class that defines the tag.
+     * @param name The tag of the setting.
+     * @return The handle.
+     * @throws IllegalArgumentException if the tag has no boolean default
+     * value.
+     */
+    public static SettingKey<Boolean> ofBoolean(Class<? extends ConfigDefaults> defaultsProvider, String name) {
+        return new SettingKey<>(defaultsProvider, name, Boolean.class,
+                ConfigUtils.getDefaultValueBoolean(defaultsProvider, name),
+                (key, settings) -> key.sensitive
+                ? settings.getBoolean(key.name, key.defaultsProvider)
+                : settings.getBoolean(key.name, key.defaultValue));
+    }
+
+    /**
+     * Get the value of this setting from the given Settings. The value is
+     * read from the Settings only if it was not read before, or the version
+     * of the Settings changed since. It is read with the default value and
+     * sensitivity resolved when the handle was created. Only sensitive
+     * numbers and booleans are read through the ConfigDefaults class, since
+     * Settings has no typed getter that takes a default and hides the value.
+     *
+     * @param settings The Settings to get the value from.
+     * @return The value of the setting, or the default value if it is not
+     * set.
+     */
+    public T get(Settings settings) {
+        final long version = settings.getVersion();
+        final Cached<T> current = cached;
+        if (current != null && current.version == version && current.settings.get() == settings) {
+            return current.value;
+        }
+        final T value = reader.read(this, settings);
+        cached = new Cached<>(settings, version, value);
+        return value;
+    }
+
+    /**
+     * @return The ConfigDefaults class that defines this setting.
+     */
+    public Class<? extends ConfigDefaults> getDefaultsProvider() {
+        return defaultsProvider;
+    }
+
+    /**
+     * @return The name (tag) of this setting.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The type of the value of this setting.
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * @return true if this setting is annotated as sensitive.
+     */
+    public boolean isSensitive() {
+        return sensitive;
+    }
+
+    /**
+     * @return The default value of this setting.
+     */
+    public T getDefaultValue() {
+        return defaultValue;
+    }
+
+    @Override
+    public String toString() {
+        return "SettingKey{" + name + " : " + type.getSimpleName() + '}';
+    }
+
+    /**
+     * A value, with the Settings and the version it was read from. The
+     * Settings is weakly referenced.
+     */
+    private static final class Cached<T> {
+
+        private final WeakReference<Settings> settings;
+        private final long version;
+        private final T value;
+
+        private Cached(Settings settings, long version, T value) {
+            this.settings = new WeakReference<>(settings);
+            this.version = version;
+            this.value = value;
+        }
+    }
+}
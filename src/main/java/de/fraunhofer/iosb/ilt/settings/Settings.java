@@ -25,9 +25,21 @@ package de.fraunhofer.iosb.ilt.settings;
 import de.fraunhofer.iosb.ilt.settings.annotation.SensitiveValue;
 import de.fraunhofer.iosb.ilt.settings.exceptions.PropertyMissingException;
 import de.fraunhofer.iosb.ilt.settings.exceptions.PropertyTypeException;
+import de.fraunhofer.iosb.ilt.settings.jfr.DefaultFallbackEvent;
+import de.fraunhofer.iosb.ilt.settings.jfr.ParseFailureEvent;
+import de.fraunhofer.iosb.ilt.settings.jfr.ResolutionEvent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
-import java.util.TreeMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,24 +53,76 @@ public class Settings {
     private static final String NOT_SET_NO_DEFAULT_VALUE = "Not set {}, and no default value!";
     private static final String ERROR_GETTING_SETTINGS_VALUE = "error getting settings value";
     private static final String SETTING_HAS_VALUE = "Setting {}{} has value '{}'.";
-    private static final String HIDDEN_VALUE = "*****";
+    static final String HIDDEN_VALUE = "*****";
+    private static final String MALFORMED_USING_DEFAULT_VALUE = "Setting {}{} has value '{}', which is not a valid {}, using default value.";
+    private static final String RESOLVED_SUMMARY = "Resolved {} settings of {} with prefix '{}': {} set, {} using default value.";
+    private static final int DEFAULT_LOG_SAMPLE_RATE = 1000;
+    /**
+     * The maximum number of resolved keys cached per Settings.
+     */
+    private static final int MAX_CACHED_KEYS = 4096;
+    /**
+     * The maximum number of changes remembered for invalidating caches.
+     */
+    private static final int MAX_CHANGES = 64;
+    /**
+     * The maximum number of sub-settings cached per Settings.
+     */
+    private static final int MAX_SUB_SETTINGS = 256;
+
+    /**
+     * The metrics of all Settings.
+     */
+    private static volatile SettingsMetrics metrics = SettingsMetrics.NONE;
 
     private final Properties properties;
+    /**
+     * The Settings that holds the values. This is this Settings itself, or
+     * the source of the Settings this Settings was derived from.
+     */
+    private final Settings source;
     private boolean logSensitiveData;
-    private String prefix;
-
-    private static Properties addEnvironment(Properties wrapped) {
-        Map<String, String> environment = System.getenv();
-        Properties wrapper = new Properties(wrapped);
-
-        Map<String, String> sortedEnv = new TreeMap<>(environment);
-        for (Map.Entry<String, String> entry : sortedEnv.entrySet()) {
-            String key = entry.getKey().replace('_', '.');
-            LOGGER.debug("Added environment variable: {}", key);
-            wrapper.setProperty(key, entry.getValue());
-        }
-        return wrapper;
-    }
+    private LogPolicy logPolicy = LogPolicy.ALWAYS;
+    private int logSampleRate = DEFAULT_LOG_SAMPLE_RATE;
+    /**
+     * The keys that have been logged, used by the policies that log each key
+     * only once. Only used on the source Settings.
+     */
+    private final Set<String> loggedKeys;
+    /**
+     * The values that failed to parse, by key, used to warn about each value
+     * only once. Only used on the source Settings.
+     */
+    private final Map<String, String> malformedValues;
+    private volatile boolean startupEnded;
+    /**
+     * The version of the values, incremented on each change. Only used on the
+     * source Settings.
+     */
+    private final AtomicLong version;
+    /**
+     * The most recent changes to the values. Only used on the source Settings.
+     */
+    private volatile ChangeHistory changes = ChangeHistory.EMPTY;
+    /**
+     * The listeners, created when the first listener is added. Only used on
+     * the source Settings.
+     */
+    private volatile ListenerRegistry listeners;
+    /**
+     * The sorted index of all keys, built on first use and rebuilt when the
+     * version changes. Only used on the source Settings.
+     */
+    private volatile KeyIndex keyIndex;
+    private final String prefix;
+    /**
+     * The resolved keys, by property name.
+     */
+    private final Map<String, String> keyCache = new ConcurrentHashMap<>();
+    /**
+     * The sub-settings, by prefix.
+     */
+    private final Map<String, SubSettings> subSettings = new ConcurrentHashMap<>();
 
     /**
      * Creates a new settings, containing only environment variables.
@@ -94,14 +158,38 @@ public class Settings {
             throw new IllegalArgumentException("properties must be non-null");
         }
         if (wrapInEnvironment) {
-            this.properties = addEnvironment(properties);
+            this.properties = new EnvironmentProperties(properties);
         } else {
             this.properties = properties;
         }
+        this.source = this;
+        this.loggedKeys = ConcurrentHashMap.newKeySet();
+        this.malformedValues = new ConcurrentHashMap<>();
+        this.version = new AtomicLong();
         this.prefix = (prefix == null ? "" : prefix);
         this.logSensitiveData = logSensitiveData;
     }
 
+    /**
+     * Creates a new settings, that reads its values from the given parent
+     * settings, with the given prefix appended to the prefix of the parent.
+     *
+     * @param parent The parent settings to base on.
+     * @param prefix The prefix to apply to all variable names. This is appended
+     * to the prefix of the parent Settings.
+     */
+    protected Settings(Settings parent, String prefix) {
+        this.properties = parent.properties;
+        this.source = parent.source;
+        this.loggedKeys = null;
+        this.malformedValues = null;
+        this.version = null;
+        this.prefix = parent.prefix + (prefix == null ? "" : prefix);
+        this.logSensitiveData = parent.logSensitiveData;
+        this.logPolicy = parent.logPolicy;
+        this.logSampleRate = parent.logSampleRate;
+    }
+
     /**
      * Get the prefix used in this Settings.
      *
@@ -113,8 +201,17 @@ public class Settings {
 
     /**
      * Get the properties used in this Settings. This is the properties
-     * configured when creating this Settings, optionally wrapped in a
-     * properties containing all environment variables.
+     * configured when creating this Settings, optionally wrapped in an
+     * {@link EnvironmentProperties} that layers the environment variables over
+     * them.
+     *
+     * <p>
+     * The environment variables are not copied into the wrapping properties.
+     * They are seen by {@link Properties#getProperty(String)} and
+     * {@link Properties#stringPropertyNames()}, but not by the Map methods
+     * like {@link Properties#keySet()} and {@link Properties#entrySet()}, nor
+     * by {@link Properties#store(java.io.Writer, String)} and
+     * {@link Properties#list(java.io.PrintStream)}.
      *
      * @return The properties used in this Settings.
      */
@@ -123,16 +220,65 @@ public class Settings {
     }
 
     /**
-     * Create a sub-settings, based on this Settings, with the given prefix
-     * appended to the prefix of this Settings.
+     * Get a sub-settings, based on this Settings, with the given prefix
+     * appended to the prefix of this Settings. Sub-settings are cached per
+     * prefix, so repeated calls with the same prefix return the same instance,
+     * with its cached values. Since the instance can be shared between
+     * threads, it is thread-safe. When values change in the source Settings,
+     * the changed values are removed from the caches of all sub-settings.
+     *
+     * <p>
+     * A sub-settings takes the logging configuration of this Settings when it
+     * is created. Changing the logging configuration of this Settings drops the
+     * cached sub-settings, so later calls return a new sub-settings with the new
+     * configuration. At most 256 sub-settings are cached per Settings; when
+     * more are requested, the least recently used one is dropped.
      *
      * @param prefix The prefix to use for the new settings. This is appended to
      * the prefix of this Settings.
-     * @return A new Settings, with the given prefix appended to the prefix of
-     * this Settings.
+     * @return A Settings, with the given prefix appended to the prefix of this
+     * Settings.
      */
     public Settings getSubSettings(String prefix) {
-        return new CachedSettings(this, prefix);
+        final String key = prefix == null ? "" : prefix;
+        final SubSettings cached = subSettings.get(key);
+        if (cached != null) {
+            return cached.use();
+        }
+        if (subSettings.size() >= MAX_SUB_SETTINGS) {
+            evictSubSettings();
+        }
+        final SubSettings created = new SubSettings(createSubSettings(key));
+        final SubSettings existing = subSettings.putIfAbsent(key, created);
+        return existing == null ? created.use() : existing.use();
+    }
+
+    /**
+     * Drop the least recently used sub-settings.
+     */
+    private void evictSubSettings() {
+        Map.Entry<String, SubSettings> oldest = null;
+        for (Map.Entry<String, SubSettings> entry : subSettings.entrySet()) {
+            if (oldest == null || entry.getValue().lastUse < oldest.getValue().lastUse) {
+                oldest = entry;
+            }
+        }
+        if (oldest != null) {
+            subSettings.remove(oldest.getKey(), oldest.getValue());
+        }
+    }
+
+    /**
+     * Create a new sub-settings, based on this Settings, with the given prefix
+     * appended to the prefix of this Settings. Called by
+     * {@link #getSubSettings(String)} when there is no cached sub-settings for
+     * the prefix. The returned Settings must be thread-safe.
+     *
+     * @param prefix The prefix to use for the new settings.
+     * @return A new Settings.
+     */
+    protected Settings createSubSettings(String prefix) {
+        return new ConcurrentCachedSettings(this, prefix);
     }
 
     /**
@@ -151,18 +297,456 @@ public class Settings {
      */
     public void setLogSensitiveData(boolean logSensitiveData) {
         this.logSensitiveData = logSensitiveData;
+        subSettings.clear();
+    }
+
+    /**
+     * Get the policy that decides when values are logged.
+     *
+     * @return The current log policy.
+     */
+    public LogPolicy getLogPolicy() {
+        return logPolicy;
+    }
+
+    /**
+     * Change the policy that decides when values are logged. Sub-settings
+     * created after this call inherit the policy.
+     *
+     * @param logPolicy The new log policy.
+     */
+    public void setLogPolicy(LogPolicy logPolicy) {
+        if (logPolicy == null) {
+            throw new IllegalArgumentException("logPolicy must be non-null");
+        }
+        this.logPolicy = logPolicy;
+        subSettings.clear();
+    }
+
+    /**
+     * Get the average number of reads per logged value, when using
+     * {@link LogPolicy#SAMPLED}.
+     *
+     * @return The sample rate.
+     */
+    public int getLogSampleRate() {
+        return logSampleRate;
+    }
+
+    /**
+     * Change the average number of reads per logged value, when using
+     * {@link LogPolicy#SAMPLED}.
+     *
+     * @param logSampleRate The sample rate, must be at least 1.
+     */
+    public void setLogSampleRate(int logSampleRate) {
+        if (logSampleRate < 1) {
+            throw new IllegalArgumentException("logSampleRate must be at least 1");
+        }
+        this.logSampleRate = logSampleRate;
+        subSettings.clear();
+    }
+
+    /**
+     * End the startup phase. When using {@link LogPolicy#STARTUP}, no values
+     * are logged after this call, by this Settings or any Settings sharing its
+     * values.
+     */
+    public void endStartup() {
+        source.startupEnded = true;
     }
 
     /**
      * Get the key as it is used in the config file or environment variables,
      * for the property with the given name. The key is the name, with the
-     * prefix prepended to it.
+     * prefix prepended to it. Resolved keys are cached, so repeated lookups of
+     * the same name do not allocate. The cache is bounded, names beyond the
+     * bound are resolved on each call.
      *
      * @param propertyName The name to get the key for.
      * @return prefix + propertyName
      */
-    private String getPropertyKey(String propertyName) {
-        return prefix + propertyName.replace('_', '.');
+    final String getPropertyKey(String propertyName) {
+        String key = keyCache.get(propertyName);
+        if (key != null) {
+            return key;
+        }
+        final String normalised = propertyName.replace('_', '.');
+        key = prefix.isEmpty() ? normalised : prefix + normalised;
+        if (keyCache.size() < MAX_CACHED_KEYS) {
+            keyCache.putIfAbsent(propertyName, key);
+        }
+        return key;
+    }
+
+    /**
+     * Create an immutable snapshot of the current effective values of this
+     * Settings. Lookups on the snapshot do not lock. Changes made through the
+     * snapshot are written to the properties of this Settings, and published
+     * in a new snapshot.
+     *
+     * @return A snapshot of the current values of this Settings.
+     */
+    public SnapshotSettings freeze() {
+        final SnapshotSettings snapshot = new SnapshotSettings(properties, prefix, false, logSensitiveData);
+        snapshot.setLogPolicy(logPolicy);
+        snapshot.setLogSampleRate(logSampleRate);
+        return snapshot;
+    }
+
+    /**
+     * Look up the raw value for the given key. The key must already contain
+     * the prefix. Only called on the source Settings.
+     *
+     * @param key The key to look up.
+     * @return The value for the key, or null if there is no value.
+     */
+    protected String lookup(String key) {
+        return properties.getProperty(key);
+    }
+
+    /**
+     * Store the raw value for the given key. The key must already contain the
+     * prefix. Only called on the source Settings.
+     *
+     * @param key The key to store the value for.
+     * @param value The value to store.
+     */
+    protected void store(String key, String value) {
+        properties.put(key, value);
+    }
+
+    /**
+     * Get the version of the values of this Settings. The version changes each
+     * time a value is changed through this Settings, or a Settings sharing its
+     * values. Changes made directly to the underlying Properties do not change
+     * the version.
+     *
+     * @return The current version of the values.
+     */
+    public long getVersion() {
+        return source.version.get();
+    }
+
+    /**
+     * Increment the version of the values, to signal that values have changed.
+     * The change is recorded without keys, so caches drop all their values and
+     * listeners are not notified. Use {@link #recordChange(Set)} when the
+     * changed keys are known, so that caches can invalidate only those keys.
+     *
+     * @return The new version.
+     */
+    protected long incrementVersion() {
+        return recordChange(null);
+    }
+
+    /**
+     * Increment the version of the values, and record the keys that changed.
+     *
+     * @param keys The keys (including prefix) that changed, or null if all
+     * keys must be assumed to have changed.
+     * @return The version the change was recorded in.
+     */
+    protected long recordChange(Set<String> keys) {
+        final long newVersion = recordChangeQuietly(keys);
+        notifyListeners();
+        return newVersion;
+    }
+
+    /**
+     * Increment the version of the values, and record the keys that changed,
+     * without notifying the listeners. For subclasses that record a change
+     * while holding a lock; they must call {@link #notifyListeners()} after
+     * releasing it.
+     *
+     * @param keys The keys (including prefix) that changed.
+     * @return The version the change was recorded in.
+     */
+    long recordChangeQuietly(Set<String> keys) {
+        return source.addChange(keys);
+    }
+
+    /**
+     * Notify the listeners of the changes recorded so far.
+     */
+    void notifyListeners() {
+        final ListenerRegistry registry = source.listeners;
+        if (registry != null) {
+            registry.drain();
+        }
+    }
+
+    /**
+     * Store the given value, and record the change. Called on the source
+     * Settings by the set methods.
+     *
+     * @param key The key (including prefix) to set.
+     * @param value The value to set.
+     */
+    void storeAndRecord(String key, String value) {
+        store(key, value);
+        recordChange(Collections.singleton(key));
+    }
+
+    /**
+     * Records the change, and queues it for the listeners while holding the
+     * lock, so that listeners are notified in version order. The listeners are
+     * notified by {@link ListenerRegistry#drain()}, outside the lock. The
+     * keys are copied, since the history and the listeners share them with
+     * other threads.
+     */
+    private synchronized long addChange(Set<String> keys) {
+        final long newVersion = version.incrementAndGet();
+        final Set<String> recorded = keys == null ? null : Collections.unmodifiableSet(new HashSet<>(keys));
+        changes = changes.with(newVersion, recorded);
+        if (listeners != null && recorded != null) {
+            listeners.enqueue(newVersion, recorded);
+        }
+        return newVersion;
+    }
+
+    private ListenerRegistry getListenerRegistry() {
+        ListenerRegistry registry = source.listeners;
+        if (registry == null) {
+            synchronized (source) {
+                registry = source.listeners;
+                if (registry == null) {
+                    registry = new ListenerRegistry(source);
+                    source.listeners = registry;
+                }
+            }
+        }
+        return registry;
+    }
+
+    /**
+     * Add a listener that is notified when the value of the property with the
+     * given name changes. The prefix of this Settings is prepended to the
+     * name.
+     *
+     * @param name The name of the property to listen to.
+     * @param listener The listener to notify.
+     */
+    public void addListener(String name, SettingsListener listener) {
+        getListenerRegistry().add(getPropertyKey(name), false, listener);
+    }
+
+    /**
+     * Add a listener that is notified when the value of any property with a
+     * name starting with the given prefix changes. The prefix of this Settings
+     * is prepended to the given prefix, so an empty prefix subscribes to all
+     * properties of this Settings, like {@link #getSubSettings(String)}.
+     *
+     * @param prefix The prefix of the names to listen to.
+     * @param listener The listener to notify.
+     */
+    public void addPrefixListener(String prefix, SettingsListener listener) {
+        getListenerRegistry().add(getPropertyKey(prefix), true, listener);
+    }
+
+    /**
+     * Remove all subscriptions of the given listener.
+     *
+     * @param listener The listener to remove.
+     */
+    public void removeListener(SettingsListener listener) {
+        getListenerRegistry().remove(listener);
+    }
+
+    /**
+     * Set the executor used for notifying listeners. By default, listeners are
+     * notified on a single daemon thread, shared by all Settings, in the order
+     * of the changes.
+     *
+     * @param executor The executor to use, or null to use the default.
+     */
+    public void setListenerExecutor(Executor executor) {
+        getListenerRegistry().setExecutor(executor);
+    }
+
+    /**
+     * Get the keys that changed after the given version.
+     *
+     * @param sinceVersion The version to get the changes since.
+     * @return The changed keys (including prefix), or null if the changes are
+     * no longer known and all keys must be assumed to have changed.
+     */
+    Set<String> getChangedKeys(long sinceVersion) {
+        return source.changes.since(sinceVersion);
+    }
+
+    /**
+     * Get all keys that have a value. The keys include the prefix. Only called
+     * on the source Settings.
+     *
+     * @return All keys that have a value.
+     */
+    protected Collection<String> keys() {
+        return properties.stringPropertyNames();
+    }
+
+    private KeyIndex getKeyIndex() {
+        final long current = source.version.get();
+        KeyIndex index = source.keyIndex;
+        if (index == null || index.getVersion() != current) {
+            index = KeyIndex.of(current, source.keys());
+            source.keyIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Get the names of all properties that have a value and start with the
+     * prefix of this Settings, with the prefix removed, in sorted order. The
+     * names are listed from a sorted index of all keys, that is shared by all
+     * Settings derived from the same source, and is rebuilt when the version
+     * changes. Changes made directly to the underlying Properties are only
+     * seen after the version changed.
+     *
+     * @return The sorted names of the properties of this Settings.
+     */
+    public List<String> getNames() {
+        return getKeyIndex().names(prefix);
+    }
+
+    /**
+     * Count the properties that have a value and start with the prefix of
+     * this Settings. See {@link #getNames()}.
+     *
+     * @return The number of properties of this Settings.
+     */
+    public int countNames() {
+        return getKeyIndex().count(prefix);
+    }
+
+    /**
+     * Get the raw value of the property with the given name, without logging.
+     *
+     * @param name The name, the prefix is prepended.
+     * @return The raw value, or null.
+     */
+    String getRawValueOf(String name) {
+        return getRawValue(getPropertyKey(name));
+    }
+
+    /**
+     * Resolve the values of all tags of the given ConfigDefaults class in one
+     * pass. The result holds the parsed values in arrays, indexed by the
+     * ordinal of the tag. A single summary is logged, instead of one line per
+     * value.
+     *
+     * @param defaultsProvider The ConfigDefaults class to resolve.
+     * @return The resolved values.
+     */
+    public ResolvedSettings resolve(Class<? extends ConfigDefaults> defaultsProvider) {
+        final ResolvedSettings resolved = new ResolvedSettings(this, defaultsProvider);
+        if (logPolicy != LogPolicy.NONE && LOGGER.isInfoEnabled()) {
+            LOGGER.info(RESOLVED_SUMMARY, resolved.size(), defaultsProvider.getSimpleName(), prefix, resolved.getSetCount(), resolved.size() - resolved.getSetCount());
+            if (LOGGER.isDebugEnabled()) {
+                for (int i = 0; i < resolved.size(); i++) {
+                    final String value = resolved.isSensitive(i) && !logSensitiveData ? HIDDEN_VALUE : resolved.get(i);
+                    LOGGER.debug(SETTING_HAS_VALUE, prefix, resolved.getName(i), value);
+                }
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * Create a binding of this Settings to the given record type. See
+     * {@link RecordBinding}.
+     *
+     * @param <R> The type of the record.
+     * @param type The record class.
+     * @param defaultsProvider The ConfigDefaults class providing default values
+     * for the components, can be null.
+     * @return The binding.
+     */
+    public <R extends Record> RecordBinding<R> binding(Class<R> type, Class<? extends ConfigDefaults> defaultsProvider) {
+        return new RecordBinding<>(this, type, defaultsProvider);
+    }
+
+    /**
+     * Bind the current values of this Settings to a new instance of the given
+     * record type. See {@link RecordBinding}.
+     *
+     * @param <R> The type of the record.
+     * @param type The record class.
+     * @param defaultsProvider The ConfigDefaults class providing default values
+     * for the components, can be null.
+     * @return The new record.
+     */
+    public <R extends Record> R bind(Class<R> type, Class<? extends ConfigDefaults> defaultsProvider) {
+        return binding(type, defaultsProvider).get();
+    }
+
+    /**
+     * Set the metrics that all Settings report lookups to.
+     *
+     * @param metrics The metrics to use, or null to stop recording metrics.
+     */
+    public static void setMetrics(SettingsMetrics metrics) {
+        Settings.metrics = metrics == null ? SettingsMetrics.NONE : metrics;
+    }
+
+    /**
+     * Get the metrics that all Settings report lookups to.
+     *
+     * @return The metrics in use, {@link SettingsMetrics#NONE} by default.
+     */
+    public static SettingsMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Get the raw value of the given key from the source Settings. All lookups
+     * go through this method; caching subclasses override it to serve values
+     * that were set only in the cache.
+     *
+     * @param key The key (including prefix) to look up.
+     * @return The raw value, or null if the key is not set.
+     */
+    String getRawValue(String key) {
+        final SettingsMetrics currentMetrics = metrics;
+        if (currentMetrics == SettingsMetrics.NONE && !ResolutionEvent.enabled()) {
+            return source.lookup(key);
+        }
+        final ResolutionEvent event = new ResolutionEvent();
+        event.begin();
+        final long start = System.nanoTime();
+        final String value = source.lookup(key);
+        currentMetrics.lookup(value != null, System.nanoTime() - start);
+        if (event.shouldCommit()) {
+            event.key = key;
+            event.found = value != null;
+            event.commit();
+        }
+        return value;
+    }
+
+    private void defaultUsed(String name) {
+        metrics.defaultUsed();
+        if (!DefaultFallbackEvent.enabled()) {
+            return;
+        }
+        final DefaultFallbackEvent event = new DefaultFallbackEvent();
+        if (event.shouldCommit()) {
+            event.key = getPropertyKey(name);
+            event.commit();
+        }
+    }
+
+    private void parseFailed(String name, Class<?> type) {
+        metrics.parseFailure(type);
+        if (!ParseFailureEvent.enabled()) {
+            return;
+        }
+        final ParseFailureEvent event = new ParseFailureEvent();
+        if (event.shouldCommit()) {
+            event.key = getPropertyKey(name);
+            event.requestedType = type.getSimpleName();
+            event.commit();
+        }
     }
 
     /**
@@ -174,7 +758,7 @@ public class Settings {
      */
     public boolean containsName(String name) {
         // properties.containsKey ignores properties defaults
-        String val = properties.getProperty(getPropertyKey(name));
+        String val = getRawValue(getPropertyKey(name));
         return val != null;
     }
 
@@ -185,7 +769,7 @@ public class Settings {
      * @param key The key to look up.
      */
     private void checkExists(String key) {
-        if (properties.getProperty(key) != null) {
+        if (getRawValue(key) != null) {
             return;
         }
         LOGGER.error(NOT_SET_NO_DEFAULT_VALUE, key);
@@ -199,7 +783,8 @@ public class Settings {
      * @param value The value to set the variable to.
      */
     public void set(String name, String value) {
-        properties.put(getPropertyKey(name), value);
+        final String key = getPropertyKey(name);
+        source.storeAndRecord(key, value);
     }
 
     /**
@@ -209,7 +794,8 @@ public class Settings {
      * @param value The value to set the variable to.
      */
     public void set(String name, boolean value) {
-        properties.put(getPropertyKey(name), Boolean.toString(value));
+        final String key = getPropertyKey(name);
+        source.storeAndRecord(key, Boolean.toString(value));
     }
 
     /**
@@ -219,7 +805,8 @@ public class Settings {
      * @param value The value to set the variable to.
      */
     public void set(String name, int value) {
-        properties.put(getPropertyKey(name), Integer.toString(value));
+        final String key = getPropertyKey(name);
+        source.storeAndRecord(key, Integer.toString(value));
     }
 
     /**
@@ -252,7 +839,7 @@ public class Settings {
     private String get(String name, boolean sensitiveValue) {
         String key = getPropertyKey(name);
         checkExists(key);
-        String value = properties.getProperty(key);
+        String value = getRawValue(key);
         logHasValue(name, value, sensitiveValue);
         return value;
     }
@@ -289,9 +876,10 @@ public class Settings {
 
     private String get(String name, String defaultValue, boolean sensitive) {
         String key = getPropertyKey(name);
-        String value = properties.getProperty(key);
+        String value = getRawValue(key);
         if (value == null) {
             logDefaultValue(name, defaultValue, sensitive);
+            defaultUsed(name);
             return defaultValue;
         }
         logHasValue(name, value, sensitive);
@@ -312,11 +900,12 @@ public class Settings {
      */
     public String get(String name, Class<? extends ConfigDefaults> defaultsProvider) {
         final String key = getPropertyKey(name);
-        final String value = properties.getProperty(key);
+        final String value = getRawValue(key);
         final boolean sensitive = ConfigUtils.isSensitive(defaultsProvider, name);
         if (value == null) {
             final String defaultValue = ConfigUtils.getDefaultValue(defaultsProvider, name);
             logDefaultValue(name, defaultValue, sensitive);
+            defaultUsed(name);
             return defaultValue;
         }
         logHasValue(name, value, sensitive);
@@ -338,11 +927,11 @@ public class Settings {
     }
 
     private int getInt(String name, boolean sensitive) {
-        try {
-            return Integer.parseInt(get(name, sensitive));
-        } catch (NumberFormatException ex) {
-            throw new PropertyTypeException(name, Integer.class, ex);
+        final String value = get(name, sensitive);
+        if (!Parsing.isInt(value)) {
+            throw typeException(name, value, Integer.class);
         }
+        return Integer.parseInt(value);
     }
 
     /**
@@ -357,14 +946,18 @@ public class Settings {
      * @return The value of the requested property.
      */
     public int getInt(String name, int defaultValue) {
-        if (containsName(name)) {
-            try {
-                return getInt(name);
-            } catch (Exception ex) {
-                LOGGER.trace(ERROR_GETTING_SETTINGS_VALUE, ex);
+        final String value = getValueOrNull(name);
+        if (value != null) {
+            if (Parsing.isInt(value)) {
+                logHasValue(name, value, false);
+                return Integer.parseInt(value);
             }
+            malformedValue(name, value, Integer.class, false);
+        }
+        if (isLogged(name)) {
+            LOGGER.info(NOT_SET_USING_DEFAULT_VALUE, prefix, name, defaultValue);
         }
-        LOGGER.info(NOT_SET_USING_DEFAULT_VALUE, prefix, name, defaultValue);
+        defaultUsed(name);
         return defaultValue;
     }
 
@@ -382,15 +975,19 @@ public class Settings {
      */
     public int getInt(String name, Class<? extends ConfigDefaults> defaultsProvider) {
         final boolean sensitive = ConfigUtils.isSensitive(defaultsProvider, name);
-        if (containsName(name)) {
-            try {
-                return getInt(name, sensitive);
-            } catch (Exception ex) {
-                LOGGER.trace(ERROR_GETTING_SETTINGS_VALUE, ex);
+        final String value = getValueOrNull(name);
+        if (value != null) {
+            if (Parsing.isInt(value)) {
+                logHasValue(name, value, sensitive);
+                return Integer.parseInt(value);
             }
+            malformedValue(name, value, Integer.class, sensitive);
         }
         int defaultValue = ConfigUtils.getDefaultValueInt(defaultsProvider, name);
-        logDefaultValue(name, Integer.toString(defaultValue), sensitive);
+        if (isLogged(name)) {
+            writeDefaultValue(name, Integer.toString(defaultValue), sensitive);
+        }
+        defaultUsed(name);
         return defaultValue;
     }
 
@@ -409,11 +1006,11 @@ public class Settings {
     }
 
     private long getLong(String name, boolean sensitive) {
-        try {
-            return Long.parseLong(get(name, sensitive));
-        } catch (NumberFormatException ex) {
-            throw new PropertyTypeException(name, Long.class, ex);
+        final String value = get(name, sensitive);
+        if (!Parsing.isLong(value)) {
+            throw typeException(name, value, Long.class);
         }
+        return Long.parseLong(value);
     }
 
     /**
@@ -428,14 +1025,18 @@ public class Settings {
      * @return The value of the requested property.
      */
     public long getLong(String name, long defaultValue) {
-        if (containsName(name)) {
-            try {
-                return getLong(name);
-            } catch (Exception ex) {
-                LOGGER.trace(ERROR_GETTING_SETTINGS_VALUE, ex);
+        final String value = getValueOrNull(name);
+        if (value != null) {
+            if (Parsing.isLong(value)) {
+                logHasValue(name, value, false);
+                return Long.parseLong(value);
             }
+            malformedValue(name, value, Long.class, false);
         }
-        LOGGER.info(NOT_SET_USING_DEFAULT_VALUE, prefix, name, defaultValue);
+        if (isLogged(name)) {
+            LOGGER.info(NOT_SET_USING_DEFAULT_VALUE, prefix, name, defaultValue);
+        }
+        defaultUsed(name);
         return defaultValue;
     }
 
@@ -453,15 +1054,19 @@ public class Settings {
      */
     public long getLong(String name, Class<? extends ConfigDefaults> defaultsProvider) {
         final boolean sensitive = ConfigUtils.isSensitive(defaultsProvider, name);
-        if (containsName(name)) {
-            try {
-                return getLong(name, sensitive);
-            } catch (Exception ex) {
-                LOGGER.trace(ERROR_GETTING_SETTINGS_VALUE, ex);
+        final String value = getValueOrNull(name);
+        if (value != null) {
+            if (Parsing.isLong(value)) {
+                logHasValue(name, value, sensitive);
+                return Long.parseLong(value);
             }
+            malformedValue(name, value, Long.class, sensitive);
         }
         int defaultValue = ConfigUtils.getDefaultValueInt(defaultsProvider, name);
-        logDefaultValue(name, Long.toString(defaultValue), sensitive);
+        if (isLogged(name)) {
+            writeDefaultValue(name, Long.toString(defaultValue), sensitive);
+        }
+        defaultUsed(name);
         return defaultValue;
 
     }
@@ -481,11 +1086,11 @@ public class Settings {
     }
 
     private double getDouble(String name, boolean sensitive) {
-        try {
-            return Double.parseDouble(get(name, sensitive));
-        } catch (NumberFormatException ex) {
-            throw new PropertyTypeException(name, Double.class, ex);
+        final String value = get(name, sensitive);
+        if (!Parsing.isDouble(value)) {
+            throw typeException(name, value, Double.class);
         }
+        return Double.parseDouble(value);
     }
 
     /**
@@ -500,14 +1105,18 @@ public class Settings {
      * @return The value of the requested property.
      */
     public double getDouble(String name, double defaultValue) {
-        if (containsName(name)) {
-            try {
-                return getDouble(name);
-            } catch (Exception ex) {
-                LOGGER.trace(ERROR_GETTING_SETTINGS_VALUE, ex);
+        final String value = getValueOrNull(name);
+        if (value != null) {
+            if (Parsing.isDouble(value)) {
+                logHasValue(name, value, false);
+                return Double.parseDouble(value);
             }
+            malformedValue(name, value, Double.class, false);
+        }
+        if (isLogged(name)) {
+            LOGGER.info(NOT_SET_USING_DEFAULT_VALUE, prefix, name, defaultValue);
         }
-        LOGGER.info(NOT_SET_USING_DEFAULT_VALUE, prefix, name, defaultValue);
+        defaultUsed(name);
         return defaultValue;
     }
 
@@ -525,15 +1134,19 @@ public class Settings {
      */
     public double getDouble(String name, Class<? extends ConfigDefaults> defaultsProvider) {
         final boolean sensitive = ConfigUtils.isSensitive(defaultsProvider, name);
-        if (containsName(name)) {
-            try {
-                return getDouble(name, sensitive);
-            } catch (Exception ex) {
-                LOGGER.trace(ERROR_GETTING_SETTINGS_VALUE, ex);
+        final String value = getValueOrNull(name);
+        if (value != null) {
+            if (Parsing.isDouble(value)) {
+                logHasValue(name, value, sensitive);
+                return Double.parseDouble(value);
             }
+            malformedValue(name, value, Double.class, sensitive);
         }
         double defaultValue = ConfigUtils.getDefaultValueDouble(defaultsProvider, name);
-        logDefaultValue(name, Double.toString(defaultValue), sensitive);
+        if (isLogged(name)) {
+            writeDefaultValue(name, Double.toString(defaultValue), sensitive);
+        }
+        defaultUsed(name);
         return defaultValue;
 
     }
@@ -553,13 +1166,7 @@ public class Settings {
     }
 
     private boolean getBooleanPriv(String name, boolean sensitive) {
-        try {
-            return Boolean.parseBoolean(get(name, sensitive));
-        } catch (PropertyMissingException ex) {
-            throw ex;
-        } catch (Exception ex) {
-            throw new PropertyTypeException(name, Boolean.class, ex);
-        }
+        return Boolean.parseBoolean(get(name, sensitive));
     }
 
     /**
@@ -574,14 +1181,15 @@ public class Settings {
      * @return The value of the requested property.
      */
     public boolean getBoolean(String name, boolean defaultValue) {
-        if (containsName(name)) {
-            try {
-                return getBoolean(name);
-            } catch (Exception ex) {
-                LOGGER.trace(ERROR_GETTING_SETTINGS_VALUE, ex);
-            }
+        final String value = getValueOrNull(name);
+        if (value != null) {
+            logHasValue(name, value, false);
+            return Boolean.parseBoolean(value);
         }
-        LOGGER.info(NOT_SET_USING_DEFAULT_VALUE, prefix, name, defaultValue);
+        if (isLogged(name)) {
+            LOGGER.info(NOT_SET_USING_DEFAULT_VALUE, prefix, name, defaultValue);
+        }
+        defaultUsed(name);
         return defaultValue;
     }
 
@@ -599,19 +1207,240 @@ public class Settings {
      */
     public boolean getBoolean(String name, Class<? extends ConfigDefaults> defaultsProvider) {
         final boolean sensitive = ConfigUtils.isSensitive(defaultsProvider, name);
-        if (containsName(name)) {
+        final String value = getValueOrNull(name);
+        if (value != null) {
+            logHasValue(name, value, sensitive);
+            return Boolean.parseBoolean(value);
+        }
+        boolean defaultValue = ConfigUtils.getDefaultValueBoolean(defaultsProvider, name);
+        if (isLogged(name)) {
+            writeDefaultValue(name, Boolean.toString(defaultValue), sensitive);
+        }
+        defaultUsed(name);
+        return defaultValue;
+    }
+
+    /**
+     * Decide if the value of the given key should be logged now, according to
+     * the log policy. Called for each resolved value, when info logging is
+     * enabled.
+     *
+     * @param key The key (including prefix) of the resolved value.
+     * @return true if the value should be logged.
+     */
+    protected boolean shouldLogValue(String key) {
+        switch (logPolicy) {
+            case ALWAYS:
+                return true;
+
+            case ONCE:
+                return source.loggedKeys.add(key);
+
+            case STARTUP:
+                return !source.startupEnded && source.loggedKeys.add(key);
+
+            case SAMPLED:
+                return source.loggedKeys.add(key) || ThreadLocalRandom.current().nextInt(logSampleRate) == 0;
+
+            default:
+                return false;
+        }
+    }
+
+    private boolean isLogged(String name) {
+        if (logPolicy == LogPolicy.NONE || !LOGGER.isInfoEnabled()) {
+            return false;
+        }
+        return shouldLogValue(getPropertyKey(name));
+    }
+
+    /**
+     * Get the value of the property with the given name, converted to the
+     * given type using the converter registered in {@link Converters}. The
+     * value of the property will be logged.
+     *
+     * @param <T> The type to convert to.
+     * @param name The name of the property to get. The prefix will be prepended
+     * to this name.
+     * @param type The type to convert to.
+     * @return The converted value of the requested property. Throws a
+     * {@link PropertyMissingException} if the property is not found, or a
+     * {@link PropertyTypeException} if it can not be converted.
+     */
+    public <T> T getAs(String name, Class<T> type) {
+        return convert(name, type, Converters.forType(type), get(name));
+    }
+
+    /**
+     * Get the value of the property with the given name, converted to the
+     * given type using the converter registered in {@link Converters}.
+     *
+     * @param <T> The type to convert to.
+     * @param name The name of the property to get. The prefix will be prepended
+     * to this name.
+     * @param type The type to convert to.
+     * @param defaultValue The default value to use when the property is not
+     * set, or can not be converted.
+     * @return The converted value of the requested property.
+     */
+    public <T> T getAs(String name, Class<T> type, T defaultValue) {
+        final ValueConverter<T> converter = Converters.forType(type);
+        final String value = getValueOrNull(name);
+        if (value != null) {
+            final T converted = convertOrNull(name, type, converter, value, false);
+            if (converted != null) {
+                return converted;
+            }
+        }
+        if (isLogged(name)) {
+            LOGGER.info(NOT_SET_USING_DEFAULT_VALUE, prefix, name, defaultValue);
+        }
+        defaultUsed(name);
+        return defaultValue;
+    }
+
+    /**
+     * Get the value of the property with the given name, converted to the
+     * given type, using the given ConfigDefaults to provide a default value
+     * and the sensitivity flag. The String default value is converted with the
+     * same converter. The value of the property will be logged unless it is
+     * annotated with {@link SensitiveValue}
+     *
+     * @param <T> The type to convert to.
+     * @param name The name of the property to fetch.
+     * @param type The type to convert to.
+     * @param defaultsProvider The ConfigDefaults to use for supplying a default
+     * value if the property is not set and for supplying the sensitivity flag.
+     * @return The converted value of the property, or the converted value
+     * provided by the defaultsProvider if the property is not set.
+     */
+    public <T> T getAs(String name, Class<T> type, Class<? extends ConfigDefaults> defaultsProvider) {
+        final ValueConverter<T> converter = Converters.forType(type);
+        final boolean sensitive = ConfigUtils.isSensitive(defaultsProvider, name);
+        final String value = getValueOrNull(name);
+        if (value != null) {
+            final T converted = convertOrNull(name, type, converter, value, sensitive);
+            if (converted != null) {
+                return converted;
+            }
+        }
+        final String defaultValue = ConfigUtils.getDefaultValue(defaultsProvider, name);
+        logDefaultValue(name, defaultValue, sensitive);
+        defaultUsed(name);
+        return convert(name, type, converter, defaultValue);
+    }
+
+    /**
+     * Get the comma-separated list value of the property with the given name,
+     * with the elements converted to the given type. Elements are trimmed, and
+     * empty elements are skipped. The value of the property will be logged.
+     *
+     * @param <T> The type of the elements.
+     * @param name The name of the property to get. The prefix will be prepended
+     * to this name.
+     * @param elementType The type to convert the elements to.
+     * @param defaultValue The default value to use when the property is not
+     * set, or can not be converted.
+     * @return An unmodifiable list of the converted elements.
+     */
+    public <T> List<T> getList(String name, Class<T> elementType, List<T> defaultValue) {
+        final ValueConverter<List<T>> converter = Converters.listConverter(Converters.forType(elementType));
+        final String value = getValueOrNull(name);
+        if (value != null) {
+            final List<T> converted = convertOrNull(name, elementType, converter, value, false);
+            if (converted != null) {
+                return converted;
+            }
+        }
+        if (isLogged(name)) {
+            LOGGER.info(NOT_SET_USING_DEFAULT_VALUE, prefix, name, defaultValue);
+        }
+        defaultUsed(name);
+        return defaultValue;
+    }
+
+    private <T, R> R convert(String name, Class<T> type, ValueConverter<R> converter, String value) {
+        try {
+            return converter.convert(value);
+        } catch (RuntimeException ex) {
+            parseFailed(name, type);
+            throw new PropertyTypeException(name, type, ex);
+        }
+    }
+
+    /**
+     * Convert a value for a getter with a default value, without throwing. A
+     * value the converter rejects is reported like a malformed number.
+     *
+     * @return The converted and logged value, or null if the value can not be
+     * converted.
+     */
+    private <R> R convertOrNull(String name, Class<?> type, ValueConverter<R> converter, String value, boolean sensitive) {
+        if (Converters.accepts(converter, value)) {
             try {
-                return getBoolean(name, sensitive);
-            } catch (Exception ex) {
+                final R converted = converter.convert(value);
+                logHasValue(name, value, sensitive);
+                return converted;
+            } catch (RuntimeException ex) {
                 LOGGER.trace(ERROR_GETTING_SETTINGS_VALUE, ex);
             }
         }
-        boolean defaultValue = ConfigUtils.getDefaultValueBoolean(defaultsProvider, name);
-        logDefaultValue(name, Boolean.toString(defaultValue), sensitive);
-        return defaultValue;
+        malformedValue(name, value, type, sensitive);
+        return null;
+    }
+
+    /**
+     * Get the raw value of the given name for a getter with a default value,
+     * without throwing if it is not set. Looks up the value once; caching
+     * subclasses override it to answer for names they know are unset.
+     *
+     * @param name The name to get the value of.
+     * @return The raw value, or null if the name is not set.
+     */
+    String getValueOrNull(String name) {
+        return getRawValue(getPropertyKey(name));
+    }
+
+    /**
+     * Report a value that can not be parsed by a getter with a default value.
+     * A warning is logged once per key and value.
+     */
+    void malformedValue(String name, String value, Class<?> type, boolean sensitive) {
+        parseFailed(name, type);
+        if (firstMalformed(name, value)) {
+            final String shown = (!sensitive || logSensitiveData) ? value : HIDDEN_VALUE;
+            LOGGER.warn(MALFORMED_USING_DEFAULT_VALUE, prefix, name, shown, type.getSimpleName());
+        }
+    }
+
+    /**
+     * Create the exception for a value that can not be parsed by a getter
+     * without a default value. Only the first exception for a key and value
+     * has a stack trace, so a value that is read often does not cause a storm
+     * of expensive exceptions.
+     */
+    private PropertyTypeException typeException(String name, String value, Class<?> type) {
+        parseFailed(name, type);
+        return new PropertyTypeException(name, type, null, firstMalformed(name, value));
+    }
+
+    /**
+     * Record that the given value of the given name can not be parsed.
+     *
+     * @return true if this value was not recorded for the name before.
+     */
+    private boolean firstMalformed(String name, String value) {
+        final Map<String, String> seen = source.malformedValues;
+        if (seen.size() >= MAX_CACHED_KEYS) {
+            seen.clear();
+        }
+        return !value.equals(seen.put(getPropertyKey(name), value));
     }
 
     private void logHasValue(String name, String value, boolean sensitive) {
+        if (!isLogged(name)) {
+            return;
+        }
         if (!sensitive || logSensitiveData) {
             LOGGER.info(SETTING_HAS_VALUE, prefix, name, value);
         } else {
@@ -620,6 +1449,12 @@ public class Settings {
     }
 
     private void logDefaultValue(String name, String defaultValue, boolean sensitive) {
+        if (isLogged(name)) {
+            writeDefaultValue(name, defaultValue, sensitive);
+        }
+    }
+
+    private void writeDefaultValue(String name, String defaultValue, boolean sensitive) {
         if (!sensitive || logSensitiveData) {
             LOGGER.info(NOT_SET_USING_DEFAULT_VALUE, prefix, name, defaultValue);
         } else {
@@ -627,4 +1462,79 @@ public class Settings {
         }
     }
 
+    /**
+     * An immutable list of the most recent changes. The recorded key sets are
+     * never modified; a null set means all keys changed.
+     */
+    private static final class ChangeHistory {
+
+        static final ChangeHistory EMPTY = new ChangeHistory(0, new long[0], Collections.emptyList());
+
+        /**
+         * Changes after this version are all known.
+         */
+        private final long knownSince;
+        private final long[] versions;
+        private final List<Set<String>> keys;
+
+        private ChangeHistory(long knownSince, long[] versions, List<Set<String>> keys) {
+            this.knownSince = knownSince;
+            this.versions = versions;
+            this.keys = keys;
+        }
+
+        ChangeHistory with(long version, Set<String> changed) {
+            final int drop = versions.length >= MAX_CHANGES ? 1 : 0;
+            final int count = versions.length - drop + 1;
+            final long[] newVersions = new long[count];
+            System.arraycopy(versions, drop, newVersions, 0, count - 1);
+            newVersions[count - 1] = version;
+            final List<Set<String>> newKeys = new ArrayList<>(keys.subList(drop, keys.size()));
+            newKeys.add(changed);
+            final long newKnownSince = drop == 0 ? knownSince : versions[0];
+            return new ChangeHistory(newKnownSince, newVersions, newKeys);
+        }
+
+        Set<String> since(long sinceVersion) {
+            if (sinceVersion < knownSince) {
+                return null;
+            }
+            Set<String> result = Collections.emptySet();
+            boolean copied = false;
+            for (int i = versions.length - 1; i >= 0 && versions[i] > sinceVersion; i--) {
+                final Set<String> changed = keys.get(i);
+                if (changed == null) {
+                    return null;
+                }
+                if (result.isEmpty()) {
+                    result = changed;
+                } else if (!changed.isEmpty()) {
+                    if (!copied) {
+                        result = new HashSet<>(result);
+                        copied = true;
+                    }
+                    result.addAll(changed);
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * A cached sub-settings, with the time it was last used.
+     */
+    private static final class SubSettings {
+
+        private final Settings settings;
+        private volatile long lastUse;
+
+        private SubSettings(Settings settings) {
+            this.settings = settings;
+        }
+
+        private Settings use() {
+            lastUse = System.nanoTime();
+            return settings;
+        }
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * A batch of changed keys, delivered to a {@link SettingsListener}.
+ */
+public final class SettingsChangeEvent {
+
+    private final Settings settings;
+    private final long version;
+    private final Set<String> keys;
+
+    SettingsChangeEvent(Settings settings, long version, Set<String> keys) {
+        this.settings = settings;
+        this.version = version;
+        this.keys = Collections.unmodifiableSet(keys);
+    }
+
+    /**
+     * @return The Settings the values changed in.
+     */
+    public Settings getSettings() {
+        return settings;
+    }
+
+    /**
+     * @return The version of the Settings after the change.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return The changed keys, including prefixes, that match the
+     * subscriptions of the listener.
+     */
+    public Set<String> getKeys() {
+        return keys;
+    }
+
+    @Override
+    public String toString() {
+        return "SettingsChangeEvent{version=" + version + ", keys=" + keys + '}';
+    }
+}
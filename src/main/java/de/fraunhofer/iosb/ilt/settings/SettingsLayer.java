@@ -0,0 +1,268 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * One source of values in a {@link LayeredSettings}, like the environment, the
+ * system properties or a file. A layer is loaded when the LayeredSettings is
+ * created, and again each time it is reloaded.
+ */
+public abstract class SettingsLayer {
+
+    private final String name;
+
+    /**
+     * Create a new layer with the given name.
+     *
+     * @param name The name of the layer, unique within a LayeredSettings.
+     */
+    protected SettingsLayer(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return The name of the layer.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Load the current values of this layer.
+     *
+     * @return The values, by key. The keys include the prefix of the
+     * LayeredSettings.
+     * @throws IOException If the values can not be loaded.
+     */
+    public abstract Map<String, String> load() throws IOException;
+
+    /**
+     * Load the current values of this layer, with the line each value is
+     * defined on, if the layer has lines. The default implementation passes
+     * the values of {@link #load()} without line numbers.
+     *
+     * @param consumer The consumer to pass the values to.
+     * @throws IOException If the values can not be loaded.
+     */
+    public void load(ValueConsumer consumer) throws IOException {
+        for (Map.Entry<String, String> entry : load().entrySet()) {
+            if (entry.getValue() != null) {
+                consumer.accept(entry.getKey(), entry.getValue(), 0);
+            }
+        }
+    }
+
+    /**
+     * Check if the value of the given key is sensitive, and should be hidden
+     * when the values are written out. The default implementation returns
+     * false.
+     *
+     * @param key The key, including the prefix of the LayeredSettings.
+     * @return true if the value of the key is sensitive.
+     */
+    public boolean isSensitive(String key) {
+        return false;
+    }
+
+    /**
+     * Receives the values of a layer.
+     */
+    @FunctionalInterface
+    public interface ValueConsumer {
+
+        /**
+         * Receive one value.
+         *
+         * @param key The key of the value.
+         * @param value The value.
+         * @param line The (1-based) line the value is defined on, or 0 if
+         * the layer has no lines.
+         */
+        void accept(String key, String value, int line);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * A layer with the environment variables of the JVM, normalised as
+     * described in {@link EnvironmentProperties#normalise(Map)}.
+     *
+     * @return A layer named "environment".
+     */
+    public static SettingsLayer environment() {
+        return of("environment", new EnvironmentProperties(new Properties()).getEnvironment());
+    }
+
+    /**
+     * A layer with the system properties. Reloading the layer picks up changes
+     * to the system properties.
+     *
+     * @return A layer named "system".
+     */
+    public static SettingsLayer systemProperties() {
+        return new SettingsLayer("system") {
+            @Override
+            public Map<String, String> load() {
+                return toMap(System.getProperties());
+            }
+        };
+    }
+
+    /**
+     * A layer with the contents of a properties file, read as UTF-8.
+     * Reloading the layer reads the file again.
+     *
+     * @param file The file to read.
+     * @return A layer named after the file.
+     */
+    public static SettingsLayer file(Path file) {
+        return new SettingsLayer("file:" + file) {
+            @Override
+            public Map<String, String> load() throws IOException {
+                final Map<String, String> values = new LinkedHashMap<>();
+                load((key, value, line) -> values.put(key, value));
+                return values;
+            }
+
+            @Override
+            public void load(ValueConsumer consumer) throws IOException {
+                loadLines(Files.readAllLines(file, StandardCharsets.UTF_8), consumer);
+            }
+        };
+    }
+
+    /**
+     * Parse the given lines in the properties file format, passing each value
+     * with the line its logical line starts on. Each logical line is parsed by
+     * {@link Properties#load(Reader)} itself, so keys and values are unescaped
+     * exactly as when loading the file in one go. When a key is defined more
+     * than once, each definition is passed, the last one wins.
+     */
+    static void loadLines(List<String> lines, ValueConsumer consumer) throws IOException {
+        final Properties parsed = new Properties();
+        final StringBuilder logical = new StringBuilder();
+        int lineNr = 0;
+        while (lineNr < lines.size()) {
+            final int start = lineNr + 1;
+            final String line = lines.get(lineNr++).stripLeading();
+            if (line.isEmpty() || line.charAt(0) == '#' || line.charAt(0) == '!') {
+                continue;
+            }
+            logical.setLength(0);
+            logical.append(line);
+            while (endsWithContinuation(logical) && lineNr < lines.size()) {
+                logical.setLength(logical.length() - 1);
+                logical.append(lines.get(lineNr++).stripLeading());
+            }
+            parsed.clear();
+            parsed.load(new StringReader(logical.toString()));
+            for (String key : parsed.stringPropertyNames()) {
+                consumer.accept(key, parsed.getProperty(key), start);
+            }
+        }
+    }
+
+    private static boolean endsWithContinuation(CharSequence line) {
+        int backslashes = 0;
+        for (int i = line.length() - 1; i >= 0 && line.charAt(i) == '\\'; i--) {
+            backslashes++;
+        }
+        return backslashes % 2 == 1;
+    }
+
+    /**
+     * A layer with the default values of the given ConfigDefaults class. The
+     * tags annotated with {@link de.fraunhofer.iosb.ilt.settings.annotation.SensitiveValue}
+     * are reported as sensitive.
+     *
+     * @param defaultsProvider The class to take the default values from.
+     * @param prefix The prefix to prepend to the tags of the class.
+     * @return A layer named "defaults:" and the name of the class.
+     */
+    public static SettingsLayer defaults(Class<? extends ConfigDefaults> defaultsProvider, String prefix) {
+        final ConfigMetadata metadata = ConfigMetadata.of(defaultsProvider);
+        final Map<String, String> values = new LinkedHashMap<>();
+        for (ConfigMetadata.Tag tag : metadata.tags()) {
+            if (tag.getDefaultValue() != null) {
+                values.put(prefix + tag.getName(), tag.getDefaultValue());
+            }
+        }
+        final Map<String, String> copy = Collections.unmodifiableMap(values);
+        return new SettingsLayer("defaults:" + defaultsProvider.getName()) {
+            @Override
+            public Map<String, String> load() {
+                return copy;
+            }
+
+            @Override
+            public boolean isSensitive(String key) {
+                if (!key.startsWith(prefix)) {
+                    return false;
+                }
+                final ConfigMetadata.Tag tag = metadata.get(key.substring(prefix.length()));
+                return tag != null && tag.isSensitive();
+            }
+        };
+    }
+
+    /**
+     * A layer with the given, fixed values.
+     *
+     * @param name The name of the layer.
+     * @param values The values of the layer. The map is copied.
+     * @return A layer with the given values.
+     */
+    public static SettingsLayer of(String name, Map<String, String> values) {
+        final Map<String, String> copy = Collections.unmodifiableMap(new HashMap<>(values));
+        return new SettingsLayer(name) {
+            @Override
+            public Map<String, String> load() {
+                return copy;
+            }
+        };
+    }
+
+    private static Map<String, String> toMap(Properties properties) {
+        final Map<String, String> result = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            result.put(key, properties.getProperty(key));
+        }
+        return result;
+    }
+}
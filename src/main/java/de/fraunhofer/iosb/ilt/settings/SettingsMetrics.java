@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings;
+
+/**
+ * Receives counts and timings of Settings lookups. Install an implementation
+ * using {@link Settings#setMetrics(SettingsMetrics)}. By default
+ * {@link #NONE} is used, and lookups are not timed.
+ *
+ * <p>
+ * Implementations are called on the lookup path of all Settings, from many
+ * threads, and must be thread-safe and cheap. See
+ * {@link CountingSettingsMetrics} for an implementation that can be exposed
+ * through JMX.
+ */
+public interface SettingsMetrics {
+
+    /**
+     * The types of value a cache stores values for.
+     */
+    enum ValueType {
+        STRING,
+        INT,
+        LONG,
+        DOUBLE,
+        BOOLEAN,
+        /**
+         * Values converted with {@link Settings#getAs(String, Class)}.
+         */
+        OBJECT
+    }
+
+    /**
+     * The implementation that ignores everything.
+     */
+    SettingsMetrics NONE = new SettingsMetrics() {
+        @Override
+        public void lookup(boolean found, long nanos) {
+            // Nothing to record.
+        }
+
+        @Override
+        public void cacheAccess(ValueType type, boolean hit) {
+            // Nothing to record.
+        }
+
+        @Override
+        public void defaultUsed() {
+            // Nothing to record.
+        }
+
+        @Override
+        public void parseFailure(Class<?> type) {
+            // Nothing to record.
+        }
+    };
+
+    /**
+     * Called after a raw value was looked up in the source of a Settings.
+     *
+     * @param found true if the key has a value.
+     * @param nanos The time the lookup took, in nanoseconds.
+     */
+    void lookup(boolean found, long nanos);
+
+    /**
+     * Called when a cached Settings is queried for a value.
+     *
+     * @param type The type of value requested.
+     * @param hit true if the value was cached.
+     */
+    void cacheAccess(ValueType type, boolean hit);
+
+    /**
+     * Called when a default value is returned, because a name has no (valid)
+     * value.
+     */
+    void defaultUsed();
+
+    /**
+     * Called when a value could not be parsed to the requested type, before a
+     * PropertyTypeException is thrown.
+     *
+     * @param type The requested type.
+     */
+    void parseFailure(Class<?> type);
+}
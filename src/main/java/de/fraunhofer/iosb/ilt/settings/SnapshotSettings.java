@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings;
+
+import java.util.Collection;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * A Settings that serves all lookups from an immutable, flattened snapshot of
+ * its properties. Lookups do not lock, unlike lookups in {@link Properties}.
+ *
+ * <p>
+ * Changes made through {@link #set(String, String)} and its variants are
+ * written to the underlying properties and published in a new snapshot.
+ * Changes made directly to the underlying properties become visible after
+ * calling {@link #refresh()}. Readers always see either the old or the new
+ * snapshot, never a partially applied change.
+ */
+public class SnapshotSettings extends Settings {
+
+    private volatile StringTable snapshot;
+
+    /**
+     * Creates a new snapshot settings, containing only environment variables.
+     */
+    public SnapshotSettings() {
+        this(new Properties(), "", true, false);
+    }
+
+    /**
+     * Creates a new snapshot settings, containing the given properties, and
+     * environment variables, with no prefix.
+     *
+     * @param properties The properties to use. These can be overridden by
+     * environment variables.
+     */
+    public SnapshotSettings(Properties properties) {
+        this(properties, "", true, false);
+    }
+
+    /**
+     * Creates a new snapshot settings, containing the given properties, and
+     * environment variables, with the given prefix.
+     *
+     * @param properties The properties to use.
+     * @param prefix The prefix to use.
+     * @param wrapInEnvironment Flag indicating if environment variables can
+     * override the given properties.
+     * @param logSensitiveData Flag indicating things like passwords should be
+     * logged completely, not hidden.
+     */
+    public SnapshotSettings(Properties properties, String prefix, boolean wrapInEnvironment, boolean logSensitiveData) {
+        super(properties, prefix, wrapInEnvironment, logSensitiveData);
+        refresh();
+    }
+
+    /**
+     * Re-read the underlying properties and publish a new snapshot. The keys
+     * with changed values are recorded, so caches based on this Settings can
+     * invalidate exactly those keys.
+     */
+    public final synchronized void refresh() {
+        final StringTable old = snapshot;
+        final StringTable updated = StringTable.copyOf(getProperties());
+        snapshot = updated;
+        if (old != null) {
+            final Set<String> changed = old.changedKeys(updated);
+            if (!changed.isEmpty()) {
+                recordChange(changed);
+            }
+        }
+    }
+
+    @Override
+    public SnapshotSettings freeze() {
+        return this;
+    }
+
+    @Override
+    protected Collection<String> keys() {
+        return snapshot.keys();
+    }
+
+    @Override
+    protected String lookup(String key) {
+        return snapshot.get(key);
+    }
+
+    @Override
+    protected synchronized void store(String key, String value) {
+        super.store(key, value);
+        snapshot = snapshot.with(key, value);
+    }
+
+}
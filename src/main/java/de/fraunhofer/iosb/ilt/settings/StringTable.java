@@ -0,0 +1,452 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * An immutable String to String map, using open addressing with linear
+ * probing. Lookups do not lock and do not allocate.
+ *
+ * <p>
+ * Each entry can carry an int of metadata, stored in an array parallel to the
+ * keys, so it costs no objects per entry. Tables built without metadata do
+ * not have the array.
+ */
+final class StringTable {
+
+    /**
+     * The empty table.
+     */
+    static final StringTable EMPTY = new StringTable(new String[2], new String[2], null, 0);
+
+    private final String[] keys;
+    private final String[] values;
+    /**
+     * The metadata of the entries, by slot, or null if no entry has metadata.
+     */
+    private final int[] meta;
+    private final int mask;
+    private final int size;
+
+    private StringTable(String[] keys, String[] values, int[] meta, int size) {
+        this.keys = keys;
+        this.values = values;
+        this.meta = meta;
+        this.mask = keys.length - 1;
+        this.size = size;
+    }
+
+    /**
+     * Create a table with all String properties of the given Properties,
+     * including the defaults of the Properties.
+     *
+     * @param properties The properties to copy.
+     * @return A table with the effective values of the properties.
+     */
+    static StringTable copyOf(Properties properties) {
+        final Builder builder = new Builder();
+        for (String key : properties.stringPropertyNames()) {
+            final String value = properties.getProperty(key);
+            if (value != null) {
+                builder.put(key, value);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Create a table with all entries of the given map.
+     *
+     * @param map The map to copy.
+     * @return A table with the entries of the map.
+     */
+    static StringTable copyOf(Map<String, String> map) {
+        final Builder builder = new Builder();
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            if (entry.getValue() != null) {
+                builder.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return builder.build();
+    }
+
+    private static int hash(String key) {
+        final int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int capacityFor(int size) {
+        int capacity = 2;
+        while (capacity < size * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Get the value for the given key.
+     *
+     * @param key The key to look up.
+     * @return The value, or null if the key is not in the table.
+     */
+    String get(String key) {
+        final int idx = slotOf(key);
+        return idx < 0 ? null : values[idx];
+    }
+
+    /**
+     * Get the metadata of the given key.
+     *
+     * @param key The key to look up.
+     * @return The metadata, or 0 if the key is not in the table or has no
+     * metadata.
+     */
+    int metaOf(String key) {
+        if (meta == null) {
+            return 0;
+        }
+        final int idx = slotOf(key);
+        return idx < 0 ? 0 : meta[idx];
+    }
+
+    private int slotOf(String key) {
+        int idx = hash(key) & mask;
+        while (true) {
+            final String candidate = keys[idx];
+            if (candidate == null) {
+                return -1;
+            }
+            if (candidate.equals(key)) {
+                return idx;
+            }
+            idx = (idx + 1) & mask;
+        }
+    }
+
+    /**
+     * @return The number of entries in the table.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Create a copy of this table, with the given key set to the given value.
+     *
+     * @param key The key to set.
+     * @param value The value to set, or null to remove the key.
+     * @return A new table.
+     */
+    StringTable with(String key, String value) {
+        return with(key, value, 0);
+    }
+
+    /**
+     * Create a copy of this table, with the given key set to the given value
+     * and metadata. The arrays are cloned and only the changed slot is
+     * written, the table is only rehashed when it has to grow.
+     *
+     * @param key The key to set.
+     * @param value The value to set, or null to remove the key.
+     * @param keyMeta The metadata of the key.
+     * @return A new table.
+     */
+    StringTable with(String key, String value, int keyMeta) {
+        final int idx = slotOf(key);
+        if (value == null) {
+            return idx < 0 ? this : copy(0).remove(key).build();
+        }
+        if (idx < 0 && keys.length < (size + 1) * 2) {
+            return resized(capacityFor(size + 1)).with(key, value, keyMeta);
+        }
+        final String[] newKeys = keys.clone();
+        final String[] newValues = values.clone();
+        int[] newMeta = meta == null ? null : meta.clone();
+        if (newMeta == null && keyMeta != 0) {
+            newMeta = new int[keys.length];
+        }
+        int slot = idx;
+        if (slot < 0) {
+            slot = hash(key) & mask;
+            while (newKeys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            newKeys[slot] = key;
+        }
+        newValues[slot] = value;
+        if (newMeta != null) {
+            newMeta[slot] = keyMeta;
+        }
+        return new StringTable(newKeys, newValues, newMeta, idx < 0 ? size + 1 : size);
+    }
+
+    /**
+     * Create a copy of this table with the given capacity.
+     */
+    private StringTable resized(int capacity) {
+        final String[] newKeys = new String[capacity];
+        final String[] newValues = new String[capacity];
+        final int[] newMeta = meta == null ? null : new int[capacity];
+        final int newMask = capacity - 1;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                int idx = hash(keys[i]) & newMask;
+                while (newKeys[idx] != null) {
+                    idx = (idx + 1) & newMask;
+                }
+                newKeys[idx] = keys[i];
+                newValues[idx] = values[i];
+                if (newMeta != null) {
+                    newMeta[idx] = meta[i];
+                }
+            }
+        }
+        return new StringTable(newKeys, newValues, newMeta, size);
+    }
+
+    private Builder copy(int extra) {
+        final Builder builder = new Builder(size + extra);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                builder.put(keys[i], values[i], meta == null ? 0 : meta[i]);
+            }
+        }
+        return builder;
+    }
+
+    /**
+     * Create a copy of this table, with the given changes applied.
+     *
+     * @param changes The new values by key, a null value removes the key.
+     * @return A new table, or this table if there are no changes.
+     */
+    StringTable withAll(Map<String, String> changes) {
+        return withAll(changes, key -> 0);
+    }
+
+    /**
+     * Create a copy of this table, with the given changes applied. The arrays
+     * are cloned once and only the slots of the changed keys are written, the
+     * table is only rehashed when it has to grow.
+     *
+     * @param changes The new values by key, a null value removes the key.
+     * @param changedMeta Gives the metadata of the changed keys.
+     * @return A new table, or this table if there are no changes.
+     */
+    StringTable withAll(Map<String, String> changes, ToIntFunction<String> changedMeta) {
+        if (changes.isEmpty()) {
+            return this;
+        }
+        int added = 0;
+        for (Map.Entry<String, String> entry : changes.entrySet()) {
+            if (entry.getValue() != null && slotOf(entry.getKey()) < 0) {
+                added++;
+            }
+        }
+        if (keys.length < (size + added) * 2) {
+            return resized(capacityFor(size + added)).patched(changes, changedMeta);
+        }
+        return patched(changes, changedMeta);
+    }
+
+    /**
+     * Apply the given changes to copies of the arrays of this table, which
+     * must have room for all added keys.
+     */
+    private StringTable patched(Map<String, String> changes, ToIntFunction<String> changedMeta) {
+        final String[] newKeys = keys.clone();
+        final String[] newValues = values.clone();
+        int[] newMeta = meta == null ? null : meta.clone();
+        int newSize = size;
+        for (Map.Entry<String, String> entry : changes.entrySet()) {
+            final String key = entry.getKey();
+            int slot = hash(key) & mask;
+            while (newKeys[slot] != null && !newKeys[slot].equals(key)) {
+                slot = (slot + 1) & mask;
+            }
+            if (entry.getValue() == null) {
+                if (newKeys[slot] != null) {
+                    removeSlot(newKeys, newValues, newMeta, slot);
+                    newSize--;
+                }
+                continue;
+            }
+            if (newKeys[slot] == null) {
+                newKeys[slot] = key;
+                newSize++;
+            }
+            newValues[slot] = entry.getValue();
+            final int keyMeta = changedMeta.applyAsInt(key);
+            if (newMeta == null && keyMeta != 0) {
+                newMeta = new int[newKeys.length];
+            }
+            if (newMeta != null) {
+                newMeta[slot] = keyMeta;
+            }
+        }
+        return new StringTable(newKeys, newValues, newMeta, newSize);
+    }
+
+    /**
+     * Empty the given slot, moving back the entries after it that would no
+     * longer be found by linear probing.
+     */
+    private static void removeSlot(String[] keys, String[] values, int[] meta, int slot) {
+        final int mask = keys.length - 1;
+        int hole = slot;
+        int idx = (slot + 1) & mask;
+        while (keys[idx] != null) {
+            final int home = hash(keys[idx]) & mask;
+            // The entry can move to the hole if the hole is between its home slot and its slot.
+            if (((idx - home) & mask) >= ((idx - hole) & mask)) {
+                keys[hole] = keys[idx];
+                values[hole] = values[idx];
+                if (meta != null) {
+                    meta[hole] = meta[idx];
+                }
+                hole = idx;
+            }
+            idx = (idx + 1) & mask;
+        }
+        keys[hole] = null;
+        values[hole] = null;
+        if (meta != null) {
+            meta[hole] = 0;
+        }
+    }
+
+    /**
+     * @return The keys in the table.
+     */
+    List<String> keys() {
+        final List<String> result = new ArrayList<>(size);
+        for (String key : keys) {
+            if (key != null) {
+                result.add(key);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the keys that have a different value in the given table, or that are
+     * only present in one of the two tables.
+     *
+     * @param other The table to compare with.
+     * @return The keys with different values.
+     */
+    Set<String> changedKeys(StringTable other) {
+        final Set<String> changed = new HashSet<>();
+        forEach((key, value) -> {
+            if (!value.equals(other.get(key))) {
+                changed.add(key);
+            }
+        });
+        other.forEach((key, value) -> {
+            if (get(key) == null) {
+                changed.add(key);
+            }
+        });
+        return changed;
+    }
+
+    /**
+     * Call the given consumer for each entry in the table.
+     *
+     * @param consumer The consumer to call.
+     */
+    void forEach(BiConsumer<String, String> consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * Collects entries for a new table.
+     */
+    static final class Builder {
+
+        private final Map<String, String> entries;
+        private final Map<String, Integer> entryMeta = new HashMap<>();
+
+        Builder() {
+            entries = new LinkedHashMap<>();
+        }
+
+        Builder(int expectedSize) {
+            entries = new LinkedHashMap<>(expectedSize * 2);
+        }
+
+        Builder put(String key, String value) {
+            return put(key, value, 0);
+        }
+
+        Builder put(String key, String value, int keyMeta) {
+            entries.put(key, value);
+            if (keyMeta == 0) {
+                entryMeta.remove(key);
+            } else {
+                entryMeta.put(key, keyMeta);
+            }
+            return this;
+        }
+
+        Builder remove(String key) {
+            entries.remove(key);
+            entryMeta.remove(key);
+            return this;
+        }
+
+        StringTable build() {
+            final int capacity = capacityFor(entries.size());
+            final String[] keys = new String[capacity];
+            final String[] values = new String[capacity];
+            final int[] meta = entryMeta.isEmpty() ? null : new int[capacity];
+            final int mask = capacity - 1;
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                int idx = hash(entry.getKey()) & mask;
+                while (keys[idx] != null) {
+                    idx = (idx + 1) & mask;
+                }
+                keys[idx] = entry.getKey();
+                values[idx] = entry.getValue();
+                if (meta != null) {
+                    meta[idx] = entryMeta.getOrDefault(entry.getKey(), 0);
+                }
+            }
+            return new StringTable(keys, values, meta, entries.size());
+        }
+    }
+}
@@ -0,0 +1,477 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Parses numbers and booleans directly from a range of a CharSequence or a
+ * ByteBuffer, without creating a String for the value. This is meant for
+ * sources that hold their values in buffers, like memory-mapped files.
+ *
+ * <p>
+ * Each method accepts exactly the values the corresponding JDK method accepts
+ * ({@link Integer#parseInt(String)}, {@link Long#parseLong(String)},
+ * {@link Double#parseDouble(String)} and
+ * {@link Boolean#parseBoolean(String)}) and returns the same result. Bytes in
+ * a ByteBuffer are read as single-byte characters, which is correct for the
+ * ASCII range of UTF-8 and ISO-8859-1. Integers with non-ASCII digits, which
+ * the JDK accepts, can thus only be parsed from a CharSequence. Reading from a
+ * ByteBuffer uses absolute indexes and does not change its position.
+ *
+ * <p>
+ * Up to 18 significant digits of a double are collected in a long. A double
+ * with no further significant digits, whose digits form an integer of at most
+ * 2<sup>53</sup> (as all values with at most 15 significant digits do), and
+ * with a small exponent, is parsed exactly with a single floating point
+ * operation. Other doubles, including hexadecimal ones, are handed to
+ * {@link Double#parseDouble(String)}, which does allocate.
+ */
+public final class ValueParsers {
+
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    /**
+     * The largest power of ten that is exactly representable as a double.
+     */
+    private static final int MAX_EXACT_POWER = POWERS_OF_TEN.length - 1;
+    /**
+     * Integers up to this value are exactly representable as a double.
+     */
+    private static final long MAX_EXACT_INTEGER = 1L << 53;
+    /**
+     * The number of significant digits that always fit in a long.
+     */
+    private static final int MAX_MANTISSA_DIGITS = 18;
+    /**
+     * Exponents above this are saturated, they are beyond the range of double.
+     */
+    private static final int MAX_EXPONENT = 100_000;
+
+    private ValueParsers() {
+        // Utility class.
+    }
+
+    /**
+     * Parse the given value as an int.
+     *
+     * @param value The value to parse.
+     * @return The parsed value.
+     * @throws NumberFormatException if the value is not a valid int.
+     */
+    public static int parseInt(CharSequence value) {
+        return parseInt(value, 0, value.length());
+    }
+
+    /**
+     * Parse the given range of the given value as an int.
+     *
+     * @param value The value to parse from.
+     * @param start The index of the first character, inclusive.
+     * @param end The index of the last character, exclusive.
+     * @return The parsed value.
+     * @throws NumberFormatException if the range is not a valid int.
+     */
+    public static int parseInt(CharSequence value, int start, int end) {
+        Objects.checkFromToIndex(start, end, value.length());
+        return (int) parseInteger(new Chars(value), start, end, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Parse the given range of the given buffer as an int.
+     *
+     * @param buffer The buffer to parse from.
+     * @param start The index of the first byte, inclusive.
+     * @param end The index of the last byte, exclusive.
+     * @return The parsed value.
+     * @throws NumberFormatException if the range is not a valid int.
+     */
+    public static int parseInt(ByteBuffer buffer, int start, int end) {
+        Objects.checkFromToIndex(start, end, buffer.limit());
+        return (int) parseInteger(new Bytes(buffer), start, end, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Parse the given value as a long.
+     *
+     * @param value The value to parse.
+     * @return The parsed value.
+     * @throws NumberFormatException if the value is not a valid long.
+     */
+    public static long parseLong(CharSequence value) {
+        return parseLong(value, 0, value.length());
+    }
+
+    /**
+     * Parse the given range of the given value as a long.
+     *
+     * @param value The value to parse from.
+     * @param start The index of the first character, inclusive.
+     * @param end The index of the last character, exclusive.
+     * @return The parsed value.
+     * @throws NumberFormatException if the range is not a valid long.
+     */
+    public static long parseLong(CharSequence value, int start, int end) {
+        Objects.checkFromToIndex(start, end, value.length());
+        return parseInteger(new Chars(value), start, end, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Parse the given range of the given buffer as a long.
+     *
+     * @param buffer The buffer to parse from.
+     * @param start The index of the first byte, inclusive.
+     * @param end The index of the last byte, exclusive.
+     * @return The parsed value.
+     * @throws NumberFormatException if the range is not a valid long.
+     */
+    public static long parseLong(ByteBuffer buffer, int start, int end) {
+        Objects.checkFromToIndex(start, end, buffer.limit());
+        return parseInteger(new Bytes(buffer), start, end, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Parse the given value as a double.
+     *
+     * @param value The value to parse.
+     * @return The parsed value.
+     * @throws NumberFormatException if the value is not a valid double.
+     */
+    public static double parseDouble(CharSequence value) {
+        return parseDouble(value, 0, value.length());
+    }
+
+    /**
+     * Parse the given range of the given value as a double.
+     *
+     * @param value The value to parse from.
+     * @param start The index of the first character, inclusive.
+     * @param end The index of the last character, exclusive.
+     * @return The parsed value.
+     * @throws NumberFormatException if the range is not a valid double.
+     */
+    public static double parseDouble(CharSequence value, int start, int end) {
+        Objects.checkFromToIndex(start, end, value.length());
+        return parseFloatingPoint(new Chars(value), start, end);
+    }
+
+    /**
+     * Parse the given range of the given buffer as a double.
+     *
+     * @param buffer The buffer to parse from.
+     * @param start The index of the first byte, inclusive.
+     * @param end The index of the last byte, exclusive.
+     * @return The parsed value.
+     * @throws NumberFormatException if the range is not a valid double.
+     */
+    public static double parseDouble(ByteBuffer buffer, int start, int end) {
+        Objects.checkFromToIndex(start, end, buffer.limit());
+        return parseFloatingPoint(new Bytes(buffer), start, end);
+    }
+
+    /**
+     * Parse the given value as a boolean.
+     *
+     * @param value The value to parse.
+     * @return true if the value is "true", ignoring case, false otherwise.
+     */
+    public static boolean parseBoolean(CharSequence value) {
+        return value != null && parseBoolean(value, 0, value.length());
+    }
+
+    /**
+     * Parse the given range of the given value as a boolean.
+     *
+     * @param value The value to parse from.
+     * @param start The index of the first character, inclusive.
+     * @param end The index of the last character, exclusive.
+     * @return true if the range is "true", ignoring case, false otherwise.
+     */
+    public static boolean parseBoolean(CharSequence value, int start, int end) {
+        Objects.checkFromToIndex(start, end, value.length());
+        return isTrue(new Chars(value), start, end);
+    }
+
+    /**
+     * Parse the given range of the given buffer as a boolean.
+     *
+     * @param buffer The buffer to parse from.
+     * @param start The index of the first byte, inclusive.
+     * @param end The index of the last byte, exclusive.
+     * @return true if the range is "true", ignoring case, false otherwise.
+     */
+    public static boolean parseBoolean(ByteBuffer buffer, int start, int end) {
+        Objects.checkFromToIndex(start, end, buffer.limit());
+        return isTrue(new Bytes(buffer), start, end);
+    }
+
+    /**
+     * Parse an integer in the given range, accumulating negatively like
+     * {@link Long#parseLong(String)}, so that the minimum value does not
+     * overflow.
+     */
+    private static long parseInteger(Source source, int start, int end, long min, long max) {
+        if (start == end) {
+            throw invalid(source, start, end);
+        }
+        int i = start;
+        boolean negative = false;
+        final char first = source.charAt(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+            if (i == end) {
+                throw invalid(source, start, end);
+            }
+        }
+        final long limit = negative ? min : -max;
+        final long multMin = limit / 10;
+        long result = 0;
+        for (; i < end; i++) {
+            final int digit = Character.digit(source.charAt(i), 10);
+            if (digit < 0 || result < multMin) {
+                throw invalid(source, start, end);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw invalid(source, start, end);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private static double parseFloatingPoint(Source source, int start, int end) {
+        int from = start;
+        int to = end;
+        while (from < to && source.charAt(from) <= ' ') {
+            from++;
+        }
+        while (to > from && source.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        if (from == to) {
+            throw invalid(source, start, end);
+        }
+        int i = from;
+        boolean negative = false;
+        char c = source.charAt(i);
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            i++;
+        }
+        if (regionEquals(source, i, to, "NaN")) {
+            return Double.NaN;
+        }
+        if (regionEquals(source, i, to, "Infinity")) {
+            return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+        if (i + 1 < to && source.charAt(i) == '0' && (source.charAt(i + 1) | 0x20) == 'x') {
+            return slowParseDouble(source, from, to);
+        }
+
+        long mantissa = 0;
+        int significant = 0;
+        int exponent = 0;
+        int digits = 0;
+        boolean exact = true;
+        boolean fraction = false;
+        for (; i < to; i++) {
+            c = source.charAt(i);
+            if (c == '.' && !fraction) {
+                fraction = true;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                break;
+            }
+            digits++;
+            final int digit = c - '0';
+            if (mantissa == 0 && digit == 0) {
+                // Leading zero, not significant.
+            } else if (significant < MAX_MANTISSA_DIGITS) {
+                mantissa = mantissa * 10 + digit;
+                significant++;
+            } else {
+                exact = false;
+            }
+            if (fraction) {
+                exponent--;
+            }
+        }
+        if (digits == 0) {
+            throw invalid(source, start, end);
+        }
+        if (i < to && (c | 0x20) == 'e') {
+            i++;
+            boolean negativeExponent = false;
+            if (i < to && (source.charAt(i) == '-' || source.charAt(i) == '+')) {
+                negativeExponent = source.charAt(i) == '-';
+                i++;
+            }
+            final int exponentStart = i;
+            int explicit = 0;
+            for (; i < to; i++) {
+                c = source.charAt(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                explicit = Math.min(explicit * 10 + (c - '0'), MAX_EXPONENT);
+            }
+            if (i == exponentStart) {
+                throw invalid(source, start, end);
+            }
+            exponent += negativeExponent ? -explicit : explicit;
+        }
+        if (i < to) {
+            c = source.charAt(i);
+            if (c == 'f' || c == 'F' || c == 'd' || c == 'D') {
+                i++;
+            }
+        }
+        if (i != to) {
+            throw invalid(source, start, end);
+        }
+        if (mantissa == 0) {
+            return negative ? -0.0 : 0.0;
+        }
+        if (exact && mantissa <= MAX_EXACT_INTEGER) {
+            final double result = fastPath(mantissa, exponent);
+            if (!Double.isNaN(result)) {
+                return negative ? -result : result;
+            }
+        }
+        return slowParseDouble(source, from, to);
+    }
+
+    /**
+     * Calculate mantissa * 10^exponent, if that can be done with one correctly
+     * rounded operation on exact doubles.
+     *
+     * @return The result, or NaN if the fast path does not apply.
+     */
+    private static double fastPath(long mantissa, int exponent) {
+        if (exponent >= 0 && exponent <= MAX_EXACT_POWER) {
+            return mantissa * POWERS_OF_TEN[exponent];
+        }
+        if (exponent < 0 && exponent >= -MAX_EXACT_POWER) {
+            return mantissa / POWERS_OF_TEN[-exponent];
+        }
+        if (exponent > MAX_EXACT_POWER) {
+            // Move the excess powers of ten into the mantissa, as long as it stays exact.
+            long scaled = mantissa;
+            for (int extra = exponent - MAX_EXACT_POWER; extra > 0; extra--) {
+                if (scaled > MAX_EXACT_INTEGER / 10) {
+                    return Double.NaN;
+                }
+                scaled *= 10;
+            }
+            return scaled * POWERS_OF_TEN[MAX_EXACT_POWER];
+        }
+        return Double.NaN;
+    }
+
+    private static double slowParseDouble(Source source, int start, int end) {
+        return Double.parseDouble(source.text(start, end));
+    }
+
+    private static boolean regionEquals(Source source, int start, int end, String expected) {
+        if (end - start != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (source.charAt(start + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isTrue(Source source, int start, int end) {
+        return end - start == 4
+                && (source.charAt(start) | 0x20) == 't'
+                && (source.charAt(start + 1) | 0x20) == 'r'
+                && (source.charAt(start + 2) | 0x20) == 'u'
+                && (source.charAt(start + 3) | 0x20) == 'e';
+    }
+
+    private static NumberFormatException invalid(Source source, int start, int end) {
+        return new NumberFormatException("For input string: \"" + source.text(start, end) + "\"");
+    }
+
+    /**
+     * The characters of a CharSequence or a ByteBuffer. The accessor is chosen
+     * once per call, so the parsers do not check the type of the source for
+     * each character.
+     */
+    private abstract static class Source {
+
+        abstract char charAt(int index);
+
+        abstract String text(int start, int end);
+    }
+
+    private static final class Chars extends Source {
+
+        private final CharSequence value;
+
+        private Chars(CharSequence value) {
+            this.value = value;
+        }
+
+        @Override
+        char charAt(int index) {
+            return value.charAt(index);
+        }
+
+        @Override
+        String text(int start, int end) {
+            return value.subSequence(start, end).toString();
+        }
+    }
+
+    private static final class Bytes extends Source {
+
+        private final ByteBuffer buffer;
+
+        private Bytes(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        char charAt(int index) {
+            return (char) (buffer.get(index) & 0xFF);
+        }
+
+        @Override
+        String text(int start, int end) {
+            final byte[] bytes = new byte[end - start];
+            buffer.get(start, bytes);
+            return new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+    }
+}
@@ -33,6 +33,18 @@ public abstract class PropertyException extends RuntimeException {
         super(message, cause);
     }
 
+    /**
+     * Create an exception that optionally has no stack trace, for failures
+     * that are expected to repeat often.
+     *
+     * @param message The detail message.
+     * @param cause The cause, can be null.
+     * @param writableStackTrace false to not fill in the stack trace.
+     */
+    protected PropertyException(String message, Throwable cause, boolean writableStackTrace) {
+        super(message, cause, true, writableStackTrace);
+    }
+
     protected PropertyException(String message) {
         super(message);
     }
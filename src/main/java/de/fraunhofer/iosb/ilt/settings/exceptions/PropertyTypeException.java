@@ -32,6 +32,19 @@ public class PropertyTypeException extends PropertyException {
         super(key + " has not expected type" + typeExpected.getName(), cause);
     }
 
+    /**
+     * Create an exception that optionally has no stack trace, for values that
+     * fail to parse repeatedly.
+     *
+     * @param key The key of the property.
+     * @param typeExpected The type the value could not be converted to.
+     * @param cause The cause, can be null.
+     * @param writableStackTrace false to not fill in the stack trace.
+     */
+    public PropertyTypeException(String key, Class<?> typeExpected, Throwable cause, boolean writableStackTrace) {
+        super(key + " has not expected type" + typeExpected.getName(), cause, writableStackTrace);
+    }
+
     public PropertyTypeException(String key, Class<?> typeExpected) {
         this(key, typeExpected, null);
     }
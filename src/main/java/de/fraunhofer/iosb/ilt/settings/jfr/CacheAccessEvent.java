@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A lookup in the cache of a CachedSettings or ConcurrentCachedSettings.
+ */
+@Name("de.fraunhofer.iosb.ilt.settings.CacheAccess")
+@Label("Settings Cache Access")
+@Category("Settings")
+@Description("A lookup in the cache of a CachedSettings or ConcurrentCachedSettings")
+@StackTrace(false)
+public final class CacheAccessEvent extends jdk.jfr.Event {
+
+    /**
+     * Instance used only for checking if the event is enabled, so that no
+     * event is allocated on the hot path when recording is off.
+     */
+    private static final CacheAccessEvent PROBE = new CacheAccessEvent();
+
+    @Label("Name")
+    public String name;
+
+    @Label("Value Type")
+    public String valueType;
+
+    @Label("Hit")
+    public boolean hit;
+
+    /**
+     * @return true if the event is enabled in any running recording.
+     */
+    public static boolean enabled() {
+        return PROBE.isEnabled();
+    }
+}
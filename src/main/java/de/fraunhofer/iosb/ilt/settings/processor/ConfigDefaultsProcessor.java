@@ -0,0 +1,427 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.settings.processor;
+
+import de.fraunhofer.iosb.ilt.settings.ConfigDefaults;
+import de.fraunhofer.iosb.ilt.settings.GeneratedConfigMetadata;
+import de.fraunhofer.iosb.ilt.settings.annotation.DefaultValue;
+import de.fraunhofer.iosb.ilt.settings.annotation.DefaultValueBoolean;
+import de.fraunhofer.iosb.ilt.settings.annotation.DefaultValueDouble;
+import de.fraunhofer.iosb.ilt.settings.annotation.DefaultValueInt;
+import de.fraunhofer.iosb.ilt.settings.annotation.SensitiveValue;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that generates a {@link GeneratedConfigMetadata} for
+ * each class implementing {@link ConfigDefaults}, so ConfigUtils does not have
+ * to use reflection to find tags, defaults and sensitivity.
+ *
+ * <p>
+ * The processor is not registered automatically. Enable it by adding this
+ * artifact to the annotationProcessorPaths of the maven-compiler-plugin and
+ * listing this class in annotationProcessors, or by passing
+ * {@code -processor de.fraunhofer.iosb.ilt.settings.processor.ConfigDefaultsProcessor}
+ * to javac.
+ *
+ * <p>
+ * For a class {@code com.example.Outer.MyDefaults} the class
+ * {@code com.example.Outer_MyDefaults_ConfigMetadata} is generated. Classes
+ * that are not accessible from their package, or that have annotated fields
+ * that are not compile-time constants, are skipped and fall back to
+ * reflection.
+ */
+public class ConfigDefaultsProcessor extends AbstractProcessor {
+
+    /**
+     * The suffix added to the (flattened) binary name of the processed class.
+     */
+    public static final String GENERATED_SUFFIX = "_ConfigMetadata";
+
+    private static final String SERVICE_FILE = "META-INF/services/" + GeneratedConfigMetadata.class.getName();
+    private static final int FIRST_SEED = 0x9E3779B1;
+    private static final int SEEDS_PER_SIZE = 1000;
+    private static final int MAX_TABLE_SIZE = 1 << 16;
+
+    private final Set<String> processed = new HashSet<>();
+    private final List<String> generated = new ArrayList<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        Set<String> types = new LinkedHashSet<>();
+        types.add(DefaultValue.class.getCanonicalName());
+        types.add(DefaultValueBoolean.class.getCanonicalName());
+        types.add(DefaultValueDouble.class.getCanonicalName());
+        types.add(DefaultValueInt.class.getCanonicalName());
+        types.add(SensitiveValue.class.getCanonicalName());
+        return types;
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+        Set<TypeElement> candidates = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD && element.getEnclosingElement() instanceof TypeElement) {
+                    candidates.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+        for (TypeElement type : candidates) {
+            if (isConfigDefaults(type) && processed.add(type.getQualifiedName().toString())) {
+                generate(type);
+            }
+        }
+        return false;
+    }
+
+    private boolean isConfigDefaults(TypeElement type) {
+        final TypeElement configDefaults = processingEnv.getElementUtils().getTypeElement(ConfigDefaults.class.getCanonicalName());
+        if (configDefaults == null) {
+            return false;
+        }
+        final TypeMirror erased = processingEnv.getTypeUtils().erasure(type.asType());
+        return processingEnv.getTypeUtils().isAssignable(erased, configDefaults.asType());
+    }
+
+    private static boolean isAccessibleFromPackage(TypeElement type) {
+        Element current = type;
+        while (current instanceof TypeElement) {
+            final TypeElement currentType = (TypeElement) current;
+            if (currentType.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            final NestingKind nesting = currentType.getNestingKind();
+            if (nesting == NestingKind.LOCAL || nesting == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            current = currentType.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) {
+        if (!isAccessibleFromPackage(type)) {
+            note(type, "not accessible from its package, using reflection.");
+            return;
+        }
+        final Map<String, TagData> tags = new LinkedHashMap<>();
+        for (VariableElement field : ElementFilter.fieldsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            final Set<Modifier> modifiers = field.getModifiers();
+            if (!modifiers.contains(Modifier.PUBLIC) || !modifiers.contains(Modifier.STATIC)) {
+                continue;
+            }
+            final boolean annotated = field.getAnnotation(DefaultValue.class) != null
+                    || field.getAnnotation(DefaultValueInt.class) != null
+                    || field.getAnnotation(DefaultValueBoolean.class) != null
+                    || field.getAnnotation(DefaultValueDouble.class) != null
+                    || field.getAnnotation(SensitiveValue.class) != null;
+            if (!annotated) {
+                continue;
+            }
+            final Object value = field.getConstantValue();
+            if (value == null) {
+                note(type, "field " + field.getSimpleName() + " is not a compile-time constant, using reflection.");
+                return;
+            }
+            tags.computeIfAbsent(value.toString(), TagData::new).addField(field);
+        }
+
+        final List<TagData> tagList = new ArrayList<>(tags.values());
+        final int[] table = findTable(tagList);
+        if (table == null) {
+            note(type, "no perfect hash found, using reflection.");
+            return;
+        }
+        writeSource(type, tagList, table[0], table[1]);
+    }
+
+    /**
+     * Find a table size and seed that place all tags in different slots.
+     *
+     * @param tags The tags to place.
+     * @return {size, seed} or null if no perfect hash could be found.
+     */
+    private static int[] findTable(List<TagData> tags) {
+        int size = 2;
+        while (size < tags.size()) {
+            size <<= 1;
+        }
+        final boolean[] used = new boolean[MAX_TABLE_SIZE];
+        for (; size <= MAX_TABLE_SIZE; size <<= 1) {
+            int seed = FIRST_SEED;
+            for (int attempt = 0; attempt < SEEDS_PER_SIZE; attempt++) {
+                if (isPerfect(tags, size, seed, used)) {
+                    return new int[]{size, seed};
+                }
+                seed = seed * 0x5DEECE6D + 0x2B;
+                seed |= 1;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isPerfect(List<TagData> tags, int size, int seed, boolean[] used) {
+        Arrays.fill(used, 0, size, false);
+        for (TagData tag : tags) {
+            final int slot = GeneratedConfigMetadata.slot(tag.name.hashCode(), seed, size - 1);
+            if (used[slot]) {
+                return false;
+            }
+            used[slot] = true;
+        }
+        return true;
+    }
+
+    private void writeSource(TypeElement type, List<TagData> tags, int size, int seed) {
+        final PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        final String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        final String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        final String localName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)).replace('$', '_');
+        final String className = localName + GENERATED_SUFFIX;
+        final String qualifiedName = packageName.isEmpty() ? className : packageName + '.' + className;
+
+        final TagData[] slots = new TagData[size];
+        for (TagData tag : tags) {
+            slots[GeneratedConfigMetadata.slot(tag.name.hashCode(), seed, size - 1)] = tag;
+        }
+
+        final StringBuilder src = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            src.append("package ").append(packageName).append(";\n\n");
+        }
+        src.append("/**\n * Config metadata for {@link ").append(type.getQualifiedName()).append("}.\n */\n")
+                .append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+                .append("public final class ").append(className)
+                .append(" implements ").append(GeneratedConfigMetadata.class.getCanonicalName()).append(" {\n\n")
+                .append("    private static final int HASH_SEED = ").append(seed).append(";\n");
+        appendArray(src, "String", "TAGS", slots, t -> t == null ? "null" : quote(t.name));
+        appendArray(src, "String", "DEFAULT_VALUES", slots, t -> t == null ? "null" : quote(t.defaultValue));
+        appendArray(src, "int", "FLAGS", slots, t -> t == null ? "0" : Integer.toString(t.flags));
+        appendArray(src, "int", "DEFAULT_INTS", slots, t -> t == null ? "0" : Integer.toString(t.defaultInt));
+        appendArray(src, "double", "DEFAULT_DOUBLES", slots, t -> t == null ? "0.0" : doubleLiteral(t.defaultDouble));
+        appendGetter(src, "Class<?>", "getTarget", type.getQualifiedName() + ".class");
+        appendGetter(src, "int", "getHashSeed", "HASH_SEED");
+        appendGetter(src, "String[]", "getTags", "TAGS");
+        appendGetter(src, "String[]", "getDefaultValues", "DEFAULT_VALUES");
+        appendGetter(src, "int[]", "getFlags", "FLAGS");
+        appendGetter(src, "int[]", "getDefaultInts", "DEFAULT_INTS");
+        appendGetter(src, "double[]", "getDefaultDoubles", "DEFAULT_DOUBLES");
+        src.append("}\n");
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(src.toString());
+            generated.add(qualifiedName);
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write " + qualifiedName + ": " + ex.getMessage(), type);
+        }
+    }
+
+    private static void appendArray(StringBuilder src, String type, String name, TagData[] slots, Function<TagData, String> valueFunction) {
+        src.append("    private static final ").append(type).append("[] ").append(name).append(" = {\n");
+        for (TagData slot : slots) {
+            src.append("        ").append(valueFunction.apply(slot)).append(",\n");
+        }
+        src.append("    };\n");
+    }
+
+    private static void appendGetter(StringBuilder src, String type, String name, String value) {
+        src.append("\n    @Override\n    public ").append(type).append(' ').append(name).append("() {\n")
+                .append("        return ").append(value).append(";\n    }\n");
+    }
+
+    /**
+     * Write the service file, keeping the entries of an existing file, so an
+     * incremental compilation of only some classes does not drop the entries
+     * generated for the others.
+     */
+    private void writeServiceFile() {
+        if (generated.isEmpty()) {
+            return;
+        }
+        final Set<String> entries = readServiceFile();
+        entries.addAll(generated);
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = file.openWriter()) {
+                for (String name : entries) {
+                    writer.write(name);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write " + SERVICE_FILE + ": " + ex.getMessage());
+        }
+    }
+
+    private Set<String> readServiceFile() {
+        final Set<String> entries = new LinkedHashSet<>();
+        try {
+            FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (BufferedReader reader = new BufferedReader(existing.openReader(true))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    final int comment = line.indexOf('#');
+                    final String entry = (comment < 0 ? line : line.substring(0, comment)).trim();
+                    if (!entry.isEmpty()) {
+                        entries.add(entry);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException ex) {
+            // No existing service file.
+        }
+        return entries;
+    }
+
+    private void note(TypeElement type, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, type.getQualifiedName() + ": " + message, type);
+    }
+
+    private static String doubleLiteral(double value) {
+        if (Double.doubleToRawLongBits(value) == 0) {
+            return "0.0";
+        }
+        return "Double.longBitsToDouble(0x" + Long.toHexString(Double.doubleToRawLongBits(value)) + "L)";
+    }
+
+    private static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+        final StringBuilder result = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    result.append("\\\"");
+                    break;
+                case '\\':
+                    result.append("\\\\");
+                    break;
+                case '\n':
+                    result.append("\\n");
+                    break;
+                case '\r':
+                    result.append("\\r");
+                    break;
+                case '\t':
+                    result.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c > 0x7e) {
+                        result.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        result.append(c);
+                    }
+            }
+        }
+        return result.append('"').toString();
+    }
+
+    /**
+     * The annotation data of one tag, merged in the same way as the
+     * reflective metadata: the first field found for each annotation wins.
+     */
+    private static class TagData {
+
+        private final String name;
+        private String defaultValue;
+        private int flags;
+        private int defaultInt;
+        private double defaultDouble;
+
+        TagData(String name) {
+            this.name = name;
+        }
+
+        void addField(VariableElement field) {
+            final DefaultValue dv = field.getAnnotation(DefaultValue.class);
+            final DefaultValueInt dvi = field.getAnnotation(DefaultValueInt.class);
+            final DefaultValueBoolean dvb = field.getAnnotation(DefaultValueBoolean.class);
+            final DefaultValueDouble dvd = field.getAnnotation(DefaultValueDouble.class);
+            if (field.getAnnotation(SensitiveValue.class) != null) {
+                flags |= GeneratedConfigMetadata.FLAG_SENSITIVE;
+            }
+            if (defaultValue == null) {
+                if (dv != null) {
+                    defaultValue = dv.value();
+                } else if (dvi != null) {
+                    defaultValue = Integer.toString(dvi.value());
+                } else if (dvb != null) {
+                    defaultValue = Boolean.toString(dvb.value());
+                } else if (dvd != null) {
+                    defaultValue = Double.toString(dvd.value());
+                }
+            }
+            if (dvi != null && (flags & GeneratedConfigMetadata.FLAG_INT) == 0) {
+                flags |= GeneratedConfigMetadata.FLAG_INT;
+                defaultInt = dvi.value();
+            }
+            if (dvd != null && (flags & GeneratedConfigMetadata.FLAG_DOUBLE) == 0) {
+                flags |= GeneratedConfigMetadata.FLAG_DOUBLE;
+                defaultDouble = dvd.value();
+            }
+            if (dvb != null && (flags & GeneratedConfigMetadata.FLAG_BOOLEAN) == 0) {
+                flags |= GeneratedConfigMetadata.FLAG_BOOLEAN;
+                if (dvb.value()) {
+                    flags |= GeneratedConfigMetadata.FLAG_BOOLEAN_TRUE;
+                }
+            }
+        }
+    }
+}
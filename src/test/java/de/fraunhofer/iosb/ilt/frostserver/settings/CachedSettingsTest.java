@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.frostserver.settings;
+
+import static de.fraunhofer.iosb.ilt.frostserver.settings.MockConfigProvider.TAG_ENABLED;
+import static de.fraunhofer.iosb.ilt.frostserver.settings.MockConfigProvider.TAG_MAX_TOP;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.fraunhofer.iosb.ilt.settings.CachedSettings;
+import de.fraunhofer.iosb.ilt.settings.ConcurrentCachedSettings;
+import de.fraunhofer.iosb.ilt.settings.Settings;
+import de.fraunhofer.iosb.ilt.settings.exceptions.PropertyMissingException;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+
+class CachedSettingsTest {
+
+    @Test
+    void testCachedValues() {
+        Properties properties = new Properties();
+        properties.setProperty(TAG_MAX_TOP, "3000000000");
+        properties.setProperty("ratio", "0.25");
+        CachedSettings settings = new CachedSettings(properties, "", false, false);
+
+        assertEquals(3000000000L, settings.getLong(TAG_MAX_TOP));
+        assertEquals("3000000000", settings.get(TAG_MAX_TOP));
+        assertEquals(0.25, settings.getDouble("ratio"));
+        assertEquals(true, settings.getBoolean(TAG_ENABLED, MockConfigProvider.class));
+
+        // Cached values do not change when the properties change.
+        properties.setProperty(TAG_MAX_TOP, "1");
+        properties.setProperty("ratio", "0.5");
+        assertEquals(3000000000L, settings.getLong(TAG_MAX_TOP));
+        assertEquals("3000000000", settings.get(TAG_MAX_TOP));
+        assertEquals(0.25, settings.getDouble("ratio"));
+        // But types not requested before are read fresh.
+        assertEquals(1, settings.getInt(TAG_MAX_TOP));
+        assertEquals("0.5", settings.get("ratio"));
+    }
+
+    @Test
+    void testCachedDefaults() {
+        CachedSettings settings = new CachedSettings(new Properties(), "", false, false);
+        assertEquals(5, settings.getInt("notSet", 5));
+        assertEquals(5, settings.getInt("notSet", 6));
+        assertEquals("5", settings.get("notSet"));
+        assertNull(settings.get("nullDefault", (String) null));
+        assertNull(settings.get("nullDefault", "notNull"));
+        assertThrows(PropertyMissingException.class, () -> settings.getLong("notSet"));
+    }
+
+    @Test
+    void testSet() {
+        Properties properties = new Properties();
+        CachedSettings settings = new CachedSettings(properties, "", false, false);
+        settings.set("name", "value");
+        settings.set("flag", true);
+        settings.set("count", 42);
+        assertEquals("value", settings.get("name"));
+        assertEquals(true, settings.getBoolean("flag"));
+        assertEquals(42, settings.getInt("count"));
+        assertEquals(0, properties.size());
+    }
+
+    @Test
+    void testSetClearsMissing() {
+        Settings source = new Settings(new Properties(), "", false, false);
+        for (Settings settings : new Settings[]{new CachedSettings(source, ""), new ConcurrentCachedSettings(source, "")}) {
+            assertFalse(settings.containsName("x"));
+            settings.set("x", "5");
+            assertTrue(settings.containsName("x"));
+            assertEquals(5, settings.getInt("x", 1));
+
+            assertFalse(settings.containsName("y"));
+            settings.set("y", 6);
+            assertTrue(settings.containsName("y"));
+            assertEquals("6", settings.get("y", "1"));
+            assertEquals(6L, settings.getLong("y", 1L));
+
+            assertFalse(settings.containsName("z"));
+            settings.set("z", true);
+            assertTrue(settings.containsName("z"));
+            assertEquals(true, settings.getBoolean("z", false));
+
+            // A new value replaces all cached representations of the old one.
+            settings.set("y", "7");
+            assertEquals(7, settings.getInt("y", 1));
+        }
+    }
+
+    @Test
+    void testLocalSetKeepsSourceVersion() {
+        Settings source = new Settings(new Properties(), "", false, false);
+        CachedSettings settings = new CachedSettings(source, "");
+        ConcurrentCachedSettings concurrent = new ConcurrentCachedSettings(source, "");
+        long sourceVersion = source.getVersion();
+        long cachedVersion = settings.getVersion();
+        long concurrentVersion = concurrent.getVersion();
+
+        settings.set("local", 1);
+        concurrent.set("local", 2);
+        assertEquals(sourceVersion, source.getVersion());
+        assertNotEquals(cachedVersion, settings.getVersion());
+        assertNotEquals(concurrentVersion, concurrent.getVersion());
+        assertEquals(1, settings.getInt("local"));
+        assertEquals(2, concurrent.getInt("local"));
+
+        // Changes in the source are still seen by the caches.
+        source.set("shared", 3);
+        assertEquals(3, settings.getInt("shared"));
+        assertEquals(3, concurrent.getInt("shared"));
+        source.set("shared", 4);
+        assertEquals(4, settings.getInt("shared"));
+        assertEquals(4, concurrent.getInt("shared"));
+    }
+
+    @Test
+    void testIncrementVersionFlushesCaches() {
+        Properties properties = new Properties();
+        properties.setProperty("a", "1");
+        BulkChangingSettings source = new BulkChangingSettings(properties);
+        CachedSettings settings = new CachedSettings(source, "");
+        ConcurrentCachedSettings concurrent = new ConcurrentCachedSettings(source, "");
+        source.set("other", 0);
+        assertEquals(1, settings.getInt("a"));
+        assertEquals(1, concurrent.getInt("a"));
+
+        properties.setProperty("a", "2");
+        source.changedAll();
+        source.set("other", 1);
+        assertEquals(2, settings.getInt("a"));
+        assertEquals(2, concurrent.getInt("a"));
+    }
+
+    /**
+     * Settings that change their values without knowing which keys changed.
+     */
+    private static class BulkChangingSettings extends Settings {
+
+        BulkChangingSettings(Properties properties) {
+            super(properties, "", false, false);
+        }
+
+        void changedAll() {
+            incrementVersion();
+        }
+    }
+}
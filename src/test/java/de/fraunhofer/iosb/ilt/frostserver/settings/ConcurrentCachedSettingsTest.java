@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.frostserver.settings;
+
+import static de.fraunhofer.iosb.ilt.frostserver.settings.MockConfigProvider.TAG_MAX_TOP;
+import static de.fraunhofer.iosb.ilt.frostserver.settings.MockConfigProvider.TAG_QOS_LEVEL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.fraunhofer.iosb.ilt.settings.ConcurrentCachedSettings;
+import de.fraunhofer.iosb.ilt.settings.Settings;
+import de.fraunhofer.iosb.ilt.settings.exceptions.PropertyMissingException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentCachedSettingsTest {
+
+    private static final int THREADS = 16;
+    private static final int KEYS_PER_THREAD = 200;
+    private static final int ROUNDS = 50;
+
+    @Test
+    void testValues() {
+        Properties properties = new Properties();
+        properties.setProperty(TAG_MAX_TOP, "123");
+        properties.setProperty("prefix.shared", "sharedValue");
+        Settings settings = new ConcurrentCachedSettings(properties, "", false, false);
+
+        assertEquals(123, settings.getInt(TAG_MAX_TOP));
+        assertEquals(123L, settings.getLong(TAG_MAX_TOP));
+        assertEquals(123.0, settings.getDouble(TAG_MAX_TOP));
+        assertEquals("123", settings.get(TAG_MAX_TOP));
+        assertEquals(2, settings.getInt(TAG_QOS_LEVEL, MockConfigProvider.class));
+        assertEquals(5, settings.getInt("notSet", 5));
+        assertEquals("5", settings.get("notSet"));
+        assertEquals(null, settings.get("notSetEither", (String) null));
+        assertThrows(PropertyMissingException.class, () -> settings.get("missing"));
+
+        Settings sub = settings.getSubSettings("prefix.");
+        assertInstanceOf(ConcurrentCachedSettings.class, sub);
+        assertEquals("sharedValue", sub.get("shared"));
+
+        settings.set(TAG_MAX_TOP, 456);
+        assertEquals(456, settings.getInt(TAG_MAX_TOP));
+    }
+
+    @Test
+    void testConcurrentAccess() throws Exception {
+        Properties properties = new Properties();
+        for (int i = 0; i < KEYS_PER_THREAD; i++) {
+            properties.setProperty("shared.int" + i, Integer.toString(i));
+            properties.setProperty("shared.bool" + i, Boolean.toString(i % 2 == 0));
+        }
+        for (int t = 0; t < THREADS; t++) {
+            for (int i = 0; i < KEYS_PER_THREAD; i++) {
+                properties.setProperty("thread" + t + ".long" + i, Long.toString(t * 1_000_000_000_000L + i));
+            }
+        }
+        final Settings settings = new ConcurrentCachedSettings(properties, "", false, false);
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                final int thread = t;
+                results.add(pool.submit(() -> {
+                    start.await();
+                    int checked = 0;
+                    for (int round = 0; round < ROUNDS; round++) {
+                        for (int i = 0; i < KEYS_PER_THREAD; i++) {
+                            assertEquals(i, settings.getInt("shared.int" + i));
+                            assertEquals(i, settings.getInt("shared.int" + i, -1));
+                            assertEquals(i % 2 == 0, settings.getBoolean("shared.bool" + i));
+                            assertEquals(Integer.toString(i), settings.get("shared.int" + i));
+                            assertEquals(thread * 1_000_000_000_000L + i, settings.getLong("thread" + thread + ".long" + i));
+                            assertEquals(-7, settings.getInt("thread" + thread + ".missing" + i, -7));
+                            checked++;
+                        }
+                    }
+                    return checked;
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> result : results) {
+                assertEquals(ROUNDS * KEYS_PER_THREAD, result.get(60, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+            assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void testConcurrentChanges() throws Exception {
+        final int changes = 20_000;
+        final Settings source = new Settings(new Properties(), "", false, false);
+        source.set("value", 0);
+        final Settings settings = new ConcurrentCachedSettings(source, "");
+        final AtomicBoolean done = new AtomicBoolean();
+        final ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<?>> readers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                readers.add(pool.submit(() -> {
+                    int i = 0;
+                    while (!done.get()) {
+                        settings.getInt("value");
+                        settings.get("value");
+                        settings.containsName("added" + (i++ % 100));
+                    }
+                    return null;
+                }));
+            }
+            for (int i = 1; i <= changes; i++) {
+                source.set("value", i);
+                if (i % 200 == 0) {
+                    source.set("added" + (i / 200 - 1), "yes");
+                }
+            }
+            done.set(true);
+            for (Future<?> reader : readers) {
+                reader.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+            assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        assertEquals(changes, settings.getInt("value"));
+        assertEquals(Integer.toString(changes), settings.get("value"));
+        for (int i = 0; i < 100; i++) {
+            assertTrue(settings.containsName("added" + i), "added" + i);
+        }
+    }
+
+    @Test
+    void testConcurrentLocalChanges() throws Exception {
+        final int changes = 20_000;
+        final Settings source = new Settings(new Properties(), "", false, false);
+        source.set("value", 0);
+        final Settings settings = new ConcurrentCachedSettings(source, "");
+        final AtomicBoolean done = new AtomicBoolean();
+        final ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<?>> readers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                readers.add(pool.submit(() -> {
+                    while (!done.get()) {
+                        settings.get("value");
+                        settings.getLong("value");
+                    }
+                    return null;
+                }));
+            }
+            for (int i = 1; i <= changes; i++) {
+                settings.set("value", i);
+            }
+            done.set(true);
+            for (Future<?> reader : readers) {
+                reader.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+            assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        assertEquals(Integer.toString(changes), settings.get("value"));
+        assertEquals(changes, settings.getLong("value"));
+    }
+}
@@ -37,17 +37,38 @@ import static de.fraunhofer.iosb.ilt.frostserver.settings.MockConfigProvider.TAG
 import static de.fraunhofer.iosb.ilt.frostserver.settings.MockConfigProvider.TAG_TOPIC_NAME;
 import static de.fraunhofer.iosb.ilt.frostserver.settings.MockConfigProvider.TAG_USE_ABSOLUTE_NAVIGATION_LINKS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import de.fraunhofer.iosb.ilt.settings.ConfigDefaults;
 import de.fraunhofer.iosb.ilt.settings.ConfigUtils;
+import de.fraunhofer.iosb.ilt.settings.GeneratedConfigMetadata;
+import de.fraunhofer.iosb.ilt.settings.ResolvedSettings;
+import de.fraunhofer.iosb.ilt.settings.Settings;
+import de.fraunhofer.iosb.ilt.settings.annotation.DefaultValue;
+import de.fraunhofer.iosb.ilt.settings.annotation.DefaultValueDouble;
+import de.fraunhofer.iosb.ilt.settings.annotation.DefaultValueInt;
+import de.fraunhofer.iosb.ilt.settings.annotation.SensitiveValue;
+import de.fraunhofer.iosb.ilt.settings.processor.ConfigDefaultsProcessor;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.ServiceLoader;
 import java.util.Set;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class ConfigDefaultsTest {
 
@@ -294,4 +315,159 @@ class ConfigDefaultsTest {
         assertEquals("2", configDefaults.get(TAG_QOS_LEVEL));
         assertEquals("50", configDefaults.get(TAG_MAX_IN_FLIGHT));
     }
+
+    @Test
+    void testSensitiveLookup() {
+        assertTrue(ConfigUtils.isSensitive(SensitiveConfigProvider.class, SensitiveConfigProvider.TAG_PASSWORD));
+        assertFalse(ConfigUtils.isSensitive(SensitiveConfigProvider.class, SensitiveConfigProvider.TAG_USERNAME));
+        assertFalse(ConfigUtils.isSensitive(SensitiveConfigProvider.class, "NOT_A_VALID_PROPERTY"));
+        assertFalse(ConfigUtils.isSensitive(MockConfigProvider.class, TAG_MQTT_BROKER));
+        assertTrue(new SensitiveConfigProvider().isSensitive(SensitiveConfigProvider.TAG_PASSWORD));
+    }
+
+    @Test
+    void testDefaultValueLookupClassDouble() {
+        Class c = SensitiveConfigProvider.class;
+        assertEquals(0.5, ConfigUtils.getDefaultValueDouble(c, SensitiveConfigProvider.TAG_RATIO));
+        assertEquals("0.5", ConfigUtils.getDefaultValue(c, SensitiveConfigProvider.TAG_RATIO));
+        assertEquals("", ConfigUtils.getDefaultValue(c, SensitiveConfigProvider.TAG_PASSWORD));
+        assertThrows(IllegalArgumentException.class, () -> ConfigUtils.getDefaultValueDouble(c, SensitiveConfigProvider.TAG_USERNAME));
+        assertThrows(IllegalArgumentException.class, () -> ConfigUtils.getDefaultValueInt(c, SensitiveConfigProvider.TAG_RATIO));
+        assertThrows(IllegalArgumentException.class, () -> ConfigUtils.getDefaultValueBoolean(c, SensitiveConfigProvider.TAG_RATIO));
+    }
+
+    @Test
+    void testDefaultValueLookupClassMultipleAnnotations() {
+        Class c = SensitiveConfigProvider.class;
+        assertEquals("many", ConfigUtils.getDefaultValue(c, SensitiveConfigProvider.TAG_COUNT));
+        assertEquals(12, ConfigUtils.getDefaultValueInt(c, SensitiveConfigProvider.TAG_COUNT));
+    }
+
+    @Test
+    void testGeneratedMetadata() {
+        GeneratedConfigMetadata generated = null;
+        for (GeneratedConfigMetadata candidate : ServiceLoader.load(GeneratedConfigMetadata.class)) {
+            if (candidate.getTarget() == MockConfigProvider.class) {
+                generated = candidate;
+            }
+        }
+        assertNotNull(generated, "No metadata generated for MockConfigProvider");
+        Map<String, String> configDefaults = ConfigUtils.getConfigDefaults(MockConfigProvider.class);
+        String[] tags = generated.getTags();
+        int mask = tags.length - 1;
+        int count = 0;
+        for (int i = 0; i < tags.length; i++) {
+            if (tags[i] != null) {
+                assertEquals(i, GeneratedConfigMetadata.slot(tags[i].hashCode(), generated.getHashSeed(), mask));
+                assertEquals(configDefaults.get(tags[i]), generated.getDefaultValues()[i]);
+                count++;
+            }
+        }
+        assertEquals(configDefaults.size(), count);
+    }
+
+    @Test
+    void testReflectiveMetadata() {
+        Class c = ComputedConfigProvider.class;
+        assertEquals(7, ConfigUtils.getDefaultValueInt(c, ComputedConfigProvider.TAG_COMPUTED));
+        assertEquals("7", ConfigUtils.getDefaultValue(c, ComputedConfigProvider.TAG_COMPUTED));
+        assertTrue(ConfigUtils.isSensitive(c, ComputedConfigProvider.TAG_COMPUTED));
+        for (GeneratedConfigMetadata candidate : ServiceLoader.load(GeneratedConfigMetadata.class)) {
+            assertFalse(candidate.getTarget() == ComputedConfigProvider.class, "Metadata should not be generated for non-constant tags");
+        }
+    }
+
+    @Test
+    void testTagsSameForGeneratedAndReflective() {
+        Settings settings = new Settings();
+        ResolvedSettings generated = settings.resolve(SensitiveConfigProvider.class);
+        ResolvedSettings reflected = settings.resolve(ReflectiveSensitiveConfigProvider.class);
+        assertEquals(4, generated.size());
+        assertEquals(generated.size(), reflected.size());
+        for (int i = 0; i < generated.size(); i++) {
+            assertEquals(generated.getName(i), reflected.getName(i));
+            assertEquals(generated.isSensitive(i), reflected.isSensitive(i));
+        }
+        assertEquals("count", generated.getName(0));
+        assertThrows(IllegalArgumentException.class, () -> generated.ordinal(SensitiveConfigProvider.NOT_A_TAG));
+        assertThrows(IllegalArgumentException.class, () -> reflected.ordinal(ReflectiveSensitiveConfigProvider.NOT_A_TAG));
+        assertEquals(1, settings.resolve(ComputedConfigProvider.class).size());
+    }
+
+    @Test
+    void testNullTag() {
+        assertFalse(ConfigUtils.isSensitive(SensitiveConfigProvider.class, null));
+        assertFalse(ConfigUtils.isSensitive(ComputedConfigProvider.class, null));
+    }
+
+    @Test
+    void testServiceFileMerged(@TempDir Path output) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Path sources = Files.createDirectories(output.resolve("src"));
+        Path classes = Files.createDirectories(output.resolve("classes"));
+        for (String name : new String[]{"FirstDefaults", "SecondDefaults"}) {
+            Path source = sources.resolve(name + ".java");
+            Files.writeString(source, "public class " + name + " implements " + ConfigDefaults.class.getName() + " {\n"
+                    + "    @" + DefaultValue.class.getName() + "(\"x\")\n"
+                    + "    public static final String TAG = \"tag\";\n"
+                    + "}\n");
+            int result = compiler.run(null, null, null,
+                    "-proc:only", "-processor", ConfigDefaultsProcessor.class.getName(),
+                    "-cp", System.getProperty("java.class.path"),
+                    "-d", classes.toString(), "-s", sources.toString(),
+                    source.toString());
+            assertEquals(0, result);
+        }
+        List<String> entries = Files.readAllLines(classes.resolve("META-INF/services/" + GeneratedConfigMetadata.class.getName()));
+        assertEquals(List.of("FirstDefaults_ConfigMetadata", "SecondDefaults_ConfigMetadata"), entries);
+    }
+
+    /**
+     * A ConfigDefaults provider with a tag that is not a compile-time
+     * constant, so it falls back to reflection.
+     */
+    public static class ComputedConfigProvider implements ConfigDefaults {
+
+        @DefaultValueInt(7)
+        @SensitiveValue
+        public static final String TAG_COMPUTED = String.valueOf("computed");
+        public static final String NOT_A_TAG = String.valueOf("notATag");
+    }
+
+    /**
+     * A ConfigDefaults provider with sensitive and double-valued fields.
+     */
+    public static class SensitiveConfigProvider implements ConfigDefaults {
+
+        @DefaultValue("admin")
+        public static final String TAG_USERNAME = "username";
+        @DefaultValue("")
+        @SensitiveValue
+        public static final String TAG_PASSWORD = "password";
+        @DefaultValueDouble(0.5)
+        public static final String TAG_RATIO = "ratio";
+        @DefaultValue("many")
+        @DefaultValueInt(12)
+        public static final String TAG_COUNT = "count";
+        public static final String NOT_A_TAG = "notATag";
+    }
+
+    /**
+     * The same tags as SensitiveConfigProvider, but not compile-time
+     * constants, so they are found using reflection.
+     */
+    public static class ReflectiveSensitiveConfigProvider implements ConfigDefaults {
+
+        @DefaultValue("admin")
+        public static final String TAG_USERNAME = String.valueOf("username");
+        @DefaultValue("")
+        @SensitiveValue
+        public static final String TAG_PASSWORD = String.valueOf("password");
+        @DefaultValueDouble(0.5)
+        public static final String TAG_RATIO = String.valueOf("ratio");
+        @DefaultValue("many")
+        @DefaultValueInt(12)
+        public static final String TAG_COUNT = String.valueOf("count");
+        public static final String NOT_A_TAG = String.valueOf("notATag");
+    }
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.frostserver.settings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import de.fraunhofer.iosb.ilt.settings.ByteSize;
+import de.fraunhofer.iosb.ilt.settings.CachedSettings;
+import de.fraunhofer.iosb.ilt.settings.ConcurrentCachedSettings;
+import de.fraunhofer.iosb.ilt.settings.ConfigDefaults;
+import de.fraunhofer.iosb.ilt.settings.Converters;
+import de.fraunhofer.iosb.ilt.settings.Settings;
+import de.fraunhofer.iosb.ilt.settings.annotation.DefaultValue;
+import de.fraunhofer.iosb.ilt.settings.exceptions.PropertyMissingException;
+import de.fraunhofer.iosb.ilt.settings.exceptions.PropertyTypeException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+
+class ConvertersTest {
+
+    public static class DurationDefaults implements ConfigDefaults {
+
+        @DefaultValue("30s")
+        public static final String TAG_TIMEOUT = "timeout";
+        public static final String TAG_NO_DEFAULT = "noDefault";
+    }
+
+    public static final class Point {
+
+        final int x;
+        final int y;
+
+        Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    private static Properties createProperties() {
+        Properties properties = new Properties();
+        properties.setProperty("timeout", "500ms");
+        properties.setProperty("isoTimeout", "PT1M");
+        properties.setProperty("plainTimeout", "250");
+        properties.setProperty("bufferSize", "64MB");
+        properties.setProperty("unit", "minutes");
+        properties.setProperty("uri", "http://localhost:8080/FROST-Server");
+        properties.setProperty("address", "[::1]:1883");
+        properties.setProperty("path", "/tmp/data");
+        properties.setProperty("ports", "1883, 8883,,9001");
+        properties.setProperty("point", "3,4");
+        properties.setProperty("broken", "thirty seconds");
+        return properties;
+    }
+
+    @Test
+    void testBuiltIns() {
+        Settings settings = new Settings(createProperties(), "", false, false);
+        assertEquals(Duration.ofMillis(500), settings.getAs("timeout", Duration.class));
+        assertEquals(Duration.ofMinutes(1), settings.getAs("isoTimeout", Duration.class));
+        assertEquals(Duration.ofMillis(250), settings.getAs("plainTimeout", Duration.class));
+        assertEquals(64L * 1024 * 1024, settings.getAs("bufferSize", ByteSize.class).toBytes());
+        assertEquals(ChronoUnit.MINUTES, settings.getAs("unit", ChronoUnit.class));
+        assertEquals(URI.create("http://localhost:8080/FROST-Server"), settings.getAs("uri", URI.class));
+        InetSocketAddress address = settings.getAs("address", InetSocketAddress.class);
+        assertEquals("::1", address.getHostString());
+        assertEquals(1883, address.getPort());
+        assertEquals(Path.of("/tmp/data"), settings.getAs("path", Path.class));
+        assertEquals(250, settings.getAs("plainTimeout", int.class));
+        assertEquals(List.of(1883, 8883, 9001), settings.getList("ports", Integer.class, List.of()));
+        assertEquals(List.of(1), settings.getList("missing", Integer.class, List.of(1)));
+    }
+
+    @Test
+    void testDefaultsAndErrors() {
+        Settings settings = new Settings(createProperties(), "", false, false);
+        assertThrows(PropertyTypeException.class, () -> settings.getAs("broken", Duration.class));
+        assertThrows(PropertyMissingException.class, () -> settings.getAs("missing", Duration.class));
+        assertThrows(IllegalArgumentException.class, () -> settings.getAs("point", Point.class));
+        assertEquals(Duration.ofSeconds(5), settings.getAs("broken", Duration.class, Duration.ofSeconds(5)));
+
+        Settings sub = new Settings(new Properties(), "", false, false);
+        assertEquals(Duration.ofSeconds(30), sub.getAs(DurationDefaults.TAG_TIMEOUT, Duration.class, DurationDefaults.class));
+        assertThrows(IllegalArgumentException.class, () -> sub.getAs(DurationDefaults.TAG_NO_DEFAULT, Duration.class, DurationDefaults.class));
+        assertEquals(Duration.ofMillis(500), settings.getAs(DurationDefaults.TAG_TIMEOUT, Duration.class, DurationDefaults.class));
+    }
+
+    @Test
+    void testWhitespace() {
+        assertEquals(42, Converters.forType(Integer.class).convert(" 42 "));
+        assertEquals(42, Converters.forType(int.class).convert("42\t"));
+        assertEquals(42L, Converters.forType(Long.class).convert(" 42"));
+        assertEquals(42L, Converters.forType(long.class).convert(" 42"));
+        assertEquals(1.5, Converters.forType(Double.class).convert(" 1.5 "));
+        assertEquals(true, Converters.forType(Boolean.class).convert(" true "));
+        assertEquals(true, Converters.forType(boolean.class).convert("true "));
+        assertEquals(URI.create("http://localhost"), Converters.forType(URI.class).convert(" http://localhost "));
+        assertEquals(Path.of("/tmp"), Converters.forType(Path.class).convert("/tmp "));
+        assertEquals(ChronoUnit.DAYS, Converters.forType(ChronoUnit.class).convert(" days "));
+        assertEquals(" kept ", Converters.forType(String.class).convert(" kept "));
+    }
+
+    @Test
+    void testByteSize() {
+        assertEquals(512, ByteSize.parse("512").toBytes());
+        assertEquals(2048, ByteSize.parse("2k").toBytes());
+        assertEquals(3L << 30, ByteSize.parse("3 GiB").toBytes());
+        assertThrows(IllegalArgumentException.class, () -> ByteSize.parse("3 XB"));
+        assertThrows(IllegalArgumentException.class, () -> ByteSize.parse("MB"));
+        assertThrows(IllegalArgumentException.class, () -> ByteSize.parse("9999999999T"));
+    }
+
+    @Test
+    void testRegisterAndCache() {
+        Converters.register(Point.class, value -> {
+            String[] parts = value.split(",");
+            return new Point(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        });
+        for (Settings settings : new Settings[]{
+            new CachedSettings(createProperties(), "", false, false),
+            new ConcurrentCachedSettings(createProperties(), "", false, false)}) {
+            Point point = settings.getAs("point", Point.class);
+            assertEquals(3, point.x);
+            assertSame(point, settings.getAs("point", Point.class));
+            assertEquals(Duration.ofMillis(500), settings.getAs("timeout", Duration.class));
+            assertSame(settings.getAs("timeout", Duration.class), settings.getAs("timeout", Duration.class, Duration.ZERO));
+
+            settings.set("point", "5,6");
+            assertEquals(5, settings.getAs("point", Point.class).x);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.frostserver.settings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.fraunhofer.iosb.ilt.settings.EnvironmentProperties;
+import de.fraunhofer.iosb.ilt.settings.Settings;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class EnvironmentPropertiesTest {
+
+    @Test
+    void testLayering() {
+        Map<String, String> env = EnvironmentProperties.normalise(Map.of(
+                "DB_URL", "jdbc:env",
+                "ONLY_ENV", "env"));
+        assertEquals("jdbc:env", env.get("DB.URL"));
+
+        Properties defaults = new Properties();
+        defaults.setProperty("DB.URL", "jdbc:file");
+        defaults.setProperty("only.file", "file");
+        EnvironmentProperties properties = new EnvironmentProperties(defaults, env);
+
+        assertEquals("jdbc:env", properties.getProperty("DB.URL"));
+        assertEquals("env", properties.getProperty("ONLY.ENV"));
+        assertEquals("file", properties.getProperty("only.file"));
+        assertNull(properties.getProperty("missing"));
+        assertEquals("x", properties.getProperty("missing", "x"));
+
+        // Values set on the properties win over the environment.
+        properties.setProperty("DB.URL", "jdbc:set");
+        assertEquals("jdbc:set", properties.getProperty("DB.URL"));
+        assertEquals("jdbc:file", defaults.getProperty("DB.URL"));
+
+        Set<String> names = properties.stringPropertyNames();
+        assertEquals(Set.of("DB.URL", "ONLY.ENV", "only.file"), names);
+    }
+
+    @Test
+    void testSharedEnvironment() {
+        Settings first = new Settings(new Properties());
+        Settings second = new Settings(new Properties());
+        EnvironmentProperties firstProps = (EnvironmentProperties) first.getProperties();
+        EnvironmentProperties secondProps = (EnvironmentProperties) second.getProperties();
+        assertSame(firstProps.getEnvironment(), secondProps.getEnvironment());
+        for (Map.Entry<String, String> entry : System.getenv().entrySet()) {
+            String key = entry.getKey().replace('_', '.');
+            assertTrue(firstProps.getEnvironment().containsKey(key));
+        }
+    }
+
+    @Test
+    void testMapViewsOnlyHoldSetValues() throws IOException {
+        Properties defaults = new Properties();
+        defaults.setProperty("only.file", "file");
+        EnvironmentProperties properties = new EnvironmentProperties(defaults, EnvironmentProperties.normalise(Map.of("ONLY_ENV", "env")));
+        properties.setProperty("only.set", "set");
+
+        assertEquals(Set.of("only.set"), properties.keySet());
+        assertFalse(properties.containsKey("ONLY.ENV"));
+        StringWriter stored = new StringWriter();
+        properties.store(stored, null);
+        assertTrue(stored.toString().contains("only.set=set"));
+        assertFalse(stored.toString().contains("ONLY.ENV"));
+    }
+
+    @Test
+    void testSerialisedWithResolvedValues() throws IOException, ClassNotFoundException {
+        Properties defaults = new Properties();
+        defaults.setProperty("only.file", "file");
+        EnvironmentProperties properties = new EnvironmentProperties(defaults, EnvironmentProperties.normalise(Map.of("ONLY_ENV", "env")));
+        properties.setProperty("only.set", "set");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(properties);
+        }
+        Object copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = in.readObject();
+        }
+        Properties restored = assertInstanceOf(Properties.class, copy);
+        assertEquals("env", restored.getProperty("ONLY.ENV"));
+        assertEquals("file", restored.getProperty("only.file"));
+        assertEquals("set", restored.getProperty("only.set"));
+    }
+}
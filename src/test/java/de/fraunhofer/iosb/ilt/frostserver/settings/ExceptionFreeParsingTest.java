@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.frostserver.settings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.fraunhofer.iosb.ilt.settings.CachedSettings;
+import de.fraunhofer.iosb.ilt.settings.CountingSettingsMetrics;
+import de.fraunhofer.iosb.ilt.settings.Settings;
+import de.fraunhofer.iosb.ilt.settings.exceptions.PropertyTypeException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ExceptionFreeParsingTest {
+
+    private static final String[] SAMPLES = {
+        "0", "1", "-1", "+5", "-0", "007", "2147483647", "-2147483648", "2147483648", "-2147483649",
+        "9223372036854775807", "-9223372036854775808", "9223372036854775808",
+        "1.5", " 1.5 ", "-.5", "5.", ".", "1e3", "1E-3", "1e", "1.5f", "2d", "NaN", "-Infinity", "Infinity ",
+        "0x1p3", "0x1.8p1", "0x10", "", " ", "-", "+", "abc", "1 2", "12a", "١٢", "1_000", "true"
+    };
+
+    private CountingSettingsMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new CountingSettingsMetrics();
+        Settings.setMetrics(metrics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Settings.setMetrics(null);
+    }
+
+    @Test
+    void testSameResultAsJdkParsers() {
+        Properties properties = new Properties();
+        for (int i = 0; i < SAMPLES.length; i++) {
+            properties.setProperty("v" + i, SAMPLES[i]);
+        }
+        Settings settings = new Settings(properties, "", false, false);
+        for (int i = 0; i < SAMPLES.length; i++) {
+            String name = "v" + i;
+            String sample = SAMPLES[i];
+            assertEquals(jdkInt(sample), settings.getInt(name, -42), () -> "int " + sample);
+            assertEquals(jdkLong(sample), settings.getLong(name, -42L), () -> "long " + sample);
+            assertEquals(jdkDouble(sample), settings.getDouble(name, -42.0), () -> "double " + sample);
+        }
+    }
+
+    @Test
+    void testMalformedValueUsesDefault() {
+        Properties properties = new Properties();
+        properties.setProperty("broken", "12a");
+        Settings settings = new Settings(properties, "", false, false);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(7, settings.getInt("broken", 7));
+            assertEquals(7L, settings.getLong("broken", 7L));
+            assertEquals(7.0, settings.getDouble("broken", 7.0));
+        }
+        assertEquals(30, metrics.getParseFailures());
+        assertEquals(30, metrics.getDefaultFallbacks());
+    }
+
+    @Test
+    void testMalformedValueUsesDefaultCached() {
+        Properties properties = new Properties();
+        properties.setProperty("broken", "12a");
+        CachedSettings settings = new CachedSettings(properties, "", false, false);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(7, settings.getInt("broken", 7));
+        }
+        assertEquals(1, metrics.getParseFailures());
+    }
+
+    @Test
+    void testSingleLookup() {
+        Properties properties = new Properties();
+        properties.setProperty("present", "5");
+        Settings settings = new Settings(properties, "", false, false);
+        assertEquals(5, settings.getInt("present", 7));
+        assertEquals(1, metrics.getLookups());
+        assertEquals(7, settings.getInt("missing", 7));
+        assertEquals(2, metrics.getLookups());
+        assertEquals(Integer.valueOf(5), settings.getAs("present", Integer.class, 7));
+        assertEquals(3, metrics.getLookups());
+    }
+
+    @Test
+    void testMalformedConvertedValueUsesDefault() {
+        Properties properties = new Properties();
+        properties.setProperty("broken", "12a");
+        properties.setProperty("brokenList", "1, x, 3");
+        properties.setProperty("brokenUnit", "5 parsecs");
+        Settings settings = new Settings(properties, "", false, false);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Integer.valueOf(7), settings.getAs("broken", Integer.class, 7));
+            assertEquals(List.of(7), settings.getList("brokenList", Integer.class, List.of(7)));
+            assertEquals(Duration.ofSeconds(7), settings.getAs("brokenUnit", Duration.class, Duration.ofSeconds(7)));
+        }
+        assertEquals(30, metrics.getParseFailures());
+        assertEquals(30, metrics.getDefaultFallbacks());
+        assertEquals(List.of(1, 2), settings.getList("missingList", Integer.class, List.of(1, 2)));
+    }
+
+    @Test
+    void testRepeatedExceptionIsStackless() {
+        Properties properties = new Properties();
+        properties.setProperty("broken", "x");
+        Settings settings = new Settings(properties, "", false, false);
+        PropertyTypeException first = assertThrows(PropertyTypeException.class, () -> settings.getInt("broken"));
+        assertNotEquals(0, first.getStackTrace().length);
+        PropertyTypeException second = assertThrows(PropertyTypeException.class, () -> settings.getInt("broken"));
+        assertEquals(0, second.getStackTrace().length);
+        assertEquals(first.getMessage(), second.getMessage());
+
+        settings.set("broken", "y");
+        PropertyTypeException changed = assertThrows(PropertyTypeException.class, () -> settings.getLong("broken"));
+        assertTrue(changed.getStackTrace().length > 0);
+    }
+
+    private static int jdkInt(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException ex) {
+            return -42;
+        }
+    }
+
+    private static long jdkLong(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException ex) {
+            return -42L;
+        }
+    }
+
+    private static double jdkDouble(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException ex) {
+            return -42.0;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.frostserver.settings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import de.fraunhofer.iosb.ilt.settings.CachedSettings;
+import de.fraunhofer.iosb.ilt.settings.FileSettings;
+import de.fraunhofer.iosb.ilt.settings.Settings;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileSettingsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static void write(Path file, String content) throws IOException {
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testReloadInvalidatesChangedKeys() throws IOException {
+        Path file = tempDir.resolve("test.properties");
+        write(file, "db.url=jdbc:one\ndb.pool=5\nname=first\n");
+        try (FileSettings settings = new FileSettings(file, "", false, false)) {
+            Settings db = settings.getSubSettings("db.");
+            CachedSettings cached = new CachedSettings(settings, "");
+            assertEquals("jdbc:one", db.get("url"));
+            assertEquals(5, db.getInt("pool"));
+            assertEquals("first", cached.get("name"));
+            // A local override in the cache, for a key that does not change.
+            cached.set("db.pool", 7);
+
+            final long version = settings.getVersion();
+            write(file, "db.url=jdbc:two\ndb.pool=5\nname=first\n");
+            settings.reload();
+            assertNotEquals(version, settings.getVersion());
+
+            assertEquals("jdbc:two", db.get("url"));
+            assertEquals(5, db.getInt("pool"));
+            assertEquals(7, cached.getInt("db.pool"));
+
+            // Reloading without changes does not change the version.
+            final long reloaded = settings.getVersion();
+            settings.reload();
+            assertEquals(reloaded, settings.getVersion());
+
+            write(file, "db.url=jdbc:two\ndb.pool=6\n");
+            settings.reload();
+            assertEquals(6, db.getInt("pool"));
+            assertEquals("gone", cached.get("name", "gone"));
+        }
+    }
+
+    @Test
+    void testWatch() throws IOException, InterruptedException {
+        Path file = tempDir.resolve("watched.properties");
+        write(file, "value=1\n");
+        try (FileSettings settings = new FileSettings(file, "", false, false)) {
+            settings.startWatching();
+            Settings cached = settings.getSubSettings("");
+            assertEquals(1, cached.getInt("value"));
+            Path next = tempDir.resolve("watched.properties.tmp");
+            write(next, "value=2\n");
+            Files.move(next, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            final long end = System.currentTimeMillis() + 30_000;
+            while (cached.getInt("value") != 2 && System.currentTimeMillis() < end) {
+                Thread.sleep(50);
+            }
+            assertEquals(2, cached.getInt("value"));
+        }
+    }
+}
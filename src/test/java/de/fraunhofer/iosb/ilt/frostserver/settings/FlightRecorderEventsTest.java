@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.frostserver.settings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.fraunhofer.iosb.ilt.settings.CachedSettings;
+import de.fraunhofer.iosb.ilt.settings.ConfigDefaults;
+import de.fraunhofer.iosb.ilt.settings.Settings;
+import de.fraunhofer.iosb.ilt.settings.annotation.DefaultValueInt;
+import de.fraunhofer.iosb.ilt.settings.exceptions.PropertyTypeException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+class FlightRecorderEventsTest {
+
+    private static final String PREFIX = "de.fraunhofer.iosb.ilt.settings.";
+
+    public static class JfrDefaults implements ConfigDefaults {
+
+        @DefaultValueInt(7)
+        public static final String TAG_THREADS = "threads";
+    }
+
+    private static List<RecordedEvent> record(Runnable action) throws IOException {
+        final Path file = Files.createTempFile("settings", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : new String[]{"Resolution", "CacheAccess", "DefaultFallback", "ParseFailure", "MetadataBuild"}) {
+                recording.enable(PREFIX + name).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(e -> e.getEventType().getName().equals(PREFIX + name))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void testEvents() throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("present", "1");
+        properties.setProperty("broken", "x");
+        Settings settings = new Settings(properties, "", false, false);
+
+        List<RecordedEvent> events = record(() -> {
+            settings.getInt("present", 0);
+            settings.getInt("missing", 5);
+            settings.getInt(JfrDefaults.TAG_THREADS, JfrDefaults.class);
+            assertThrows(PropertyTypeException.class, () -> settings.getInt("broken"));
+        });
+
+        List<RecordedEvent> resolutions = ofType(events, "Resolution");
+        assertTrue(resolutions.stream().anyMatch(e -> e.getString("key").equals("present") && e.getBoolean("found")));
+        assertTrue(resolutions.stream().anyMatch(e -> e.getString("key").equals("missing") && !e.getBoolean("found")));
+
+        List<RecordedEvent> defaults = ofType(events, "DefaultFallback");
+        assertTrue(defaults.stream().anyMatch(e -> e.getString("key").equals("missing")));
+        assertTrue(defaults.stream().anyMatch(e -> e.getString("key").equals("threads")));
+
+        List<RecordedEvent> failures = ofType(events, "ParseFailure");
+        assertEquals(1, failures.size());
+        assertEquals("broken", failures.get(0).getString("key"));
+        assertEquals("Integer", failures.get(0).getString("requestedType"));
+
+        List<RecordedEvent> builds = ofType(events, "MetadataBuild");
+        assertEquals(1, builds.size());
+        assertEquals(JfrDefaults.class.getName(), builds.get(0).getClass("target").getName());
+        assertEquals(1, builds.get(0).getInt("tagCount"));
+        assertTrue(builds.get(0).getBoolean("generated"));
+    }
+
+    @Test
+    void testCacheEvents() throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("present", "1");
+        CachedSettings settings = new CachedSettings(properties, "", false, false);
+
+        List<RecordedEvent> events = record(() -> {
+            settings.getInt("present", 0);
+            settings.getInt("present", 0);
+        });
+
+        List<RecordedEvent> accesses = ofType(events, "CacheAccess").stream()
+                .filter(e -> e.getString("valueType").equals("int"))
+                .collect(Collectors.toList());
+        assertFalse(accesses.get(0).getBoolean("hit"));
+        assertTrue(accesses.get(accesses.size() - 1).getBoolean("hit"));
+        assertEquals(1, accesses.stream().filter(e -> e.getBoolean("hit")).count());
+    }
+
+    @Test
+    void testSubSettingsCacheEvents() throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("sub.present", "1");
+        Settings settings = new Settings(properties, "", false, false);
+        Settings sub = settings.getSubSettings("sub.");
+
+        List<RecordedEvent> events = record(() -> {
+            sub.getInt("present", 0);
+            sub.getInt("present", 0);
+        });
+
+        List<RecordedEvent> accesses = ofType(events, "CacheAccess").stream()
+                .filter(e -> e.getString("valueType").equals("int"))
+                .collect(Collectors.toList());
+        assertEquals(2, accesses.size());
+        assertEquals("present", accesses.get(0).getString("name"));
+        assertFalse(accesses.get(0).getBoolean("hit"));
+        assertTrue(accesses.get(1).getBoolean("hit"));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.frostserver.settings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import de.fraunhofer.iosb.ilt.settings.Settings;
+import java.lang.management.ManagementFactory;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+
+class KeyResolutionTest {
+
+    private static final int ROUNDS = 100_000;
+
+    @Test
+    void testKeyNormalisation() {
+        Properties properties = new Properties();
+        properties.setProperty("db.user.name", "admin");
+        properties.setProperty("plain", "value");
+        Settings settings = new Settings(properties, "", false, false);
+        Settings sub = settings.getSubSettings("db.");
+        for (int i = 0; i < 2; i++) {
+            assertEquals("admin", settings.get("db_user_name"));
+            assertEquals("admin", sub.get("user_name"));
+            assertEquals("admin", sub.get("user.name"));
+            assertEquals("value", settings.get("plain"));
+            assertFalse(sub.containsName("plain"));
+        }
+        settings.set("db_user_id", 5);
+        assertEquals("5", properties.getProperty("db.user.id"));
+    }
+
+    @Test
+    void testCachedLookupDoesNotAllocate() {
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        final com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        Properties properties = new Properties();
+        properties.setProperty("service.root.url", "http://localhost");
+        Settings settings = new Settings(properties, "service.", false, false);
+
+        // Warm up, so the keys are cached and the code is compiled.
+        boolean found = true;
+        for (int i = 0; i < ROUNDS; i++) {
+            found &= settings.containsName("root_url");
+        }
+        final long threadId = Thread.currentThread().getId();
+        final long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ROUNDS; i++) {
+            found &= settings.containsName("root_url");
+        }
+        final long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+        assertTrue(found);
+        // Allow for some noise from the measurement itself, far below one
+        // byte per lookup.
+        assertTrue(allocated < 1024, "Cached lookups allocated " + allocated + " bytes.");
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.frostserver.settings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import de.fraunhofer.iosb.ilt.settings.LayeredSettings;
+import de.fraunhofer.iosb.ilt.settings.Settings;
+import de.fraunhofer.iosb.ilt.settings.SettingsLayer;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LayeredSettingsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static void write(Path file, String content) throws IOException {
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testLayerPriority() throws IOException {
+        Path file = tempDir.resolve("layered.properties");
+        write(file, "mqtt.qosLevel=1\nmqtt.topicName=file\n");
+        LayeredSettings settings = new LayeredSettings(List.of(
+                SettingsLayer.defaults(MockConfigProvider.class, "mqtt."),
+                SettingsLayer.file(file),
+                SettingsLayer.of("overrides", Map.of("mqtt.topicName", "override"))));
+        Settings mqtt = settings.getSubSettings("mqtt.");
+
+        assertEquals(1, mqtt.getInt(MockConfigProvider.TAG_QOS_LEVEL));
+        assertEquals("override", mqtt.get(MockConfigProvider.TAG_TOPIC_NAME));
+        assertEquals(50, mqtt.getInt(MockConfigProvider.TAG_MAX_IN_FLIGHT));
+
+        assertEquals("file:" + file, settings.getLayerOf("mqtt.qosLevel"));
+        assertEquals("overrides", settings.getLayerOf("mqtt.topicName"));
+        assertEquals("defaults:" + MockConfigProvider.class.getName(), settings.getLayerOf("mqtt.maxInFlight"));
+        assertNull(settings.getLayerOf("mqtt.unknown"));
+
+        settings.set("mqtt.qosLevel", 0);
+        assertEquals(0, mqtt.getInt(MockConfigProvider.TAG_QOS_LEVEL));
+        assertEquals("set", settings.getLayerOf("mqtt.qosLevel"));
+    }
+
+    @Test
+    void testIncrementalReload() throws IOException {
+        Path file = tempDir.resolve("reload.properties");
+        write(file, "a=1\nb=2\n");
+        LayeredSettings settings = new LayeredSettings(List.of(
+                SettingsLayer.file(file),
+                SettingsLayer.of("overrides", Map.of("b", "override"))));
+        Settings cached = settings.getSubSettings("");
+        assertEquals(1, cached.getInt("a"));
+        assertEquals("override", cached.get("b"));
+
+        // Only a changes effectively; b is still overridden.
+        long version = settings.getVersion();
+        write(file, "a=3\nb=4\n");
+        settings.reload("file:" + file);
+        assertEquals(version + 1, settings.getVersion());
+        assertEquals(3, cached.getInt("a"));
+        assertEquals("override", cached.get("b"));
+
+        // Removing a key from the only layer that has it removes the value.
+        write(file, "b=4\n");
+        settings.reloadAll();
+        assertFalse(cached.containsName("a"));
+        assertEquals(List.of("b"), settings.getNames());
+
+        // Reloading without changes does not change the version.
+        version = settings.getVersion();
+        settings.reloadAll();
+        assertEquals(version, settings.getVersion());
+
+        assertThrows(IllegalArgumentException.class, () -> settings.reload("unknown"));
+    }
+
+    @Test
+    void testRandomReloads() throws IOException {
+        Map<String, String> base = new HashMap<>();
+        Map<String, String> top = new HashMap<>();
+        LayeredSettings settings = new LayeredSettings(List.of(
+                layer("base", base),
+                layer("top", top)));
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            Map<String, String> target = random.nextBoolean() ? base : top;
+            for (int i = 0; i < 20; i++) {
+                String key = "key" + random.nextInt(300);
+                if (random.nextInt(3) == 0) {
+                    target.remove(key);
+                } else {
+                    target.put(key, "v" + round);
+                }
+            }
+            settings.reload(target == base ? "base" : "top");
+            int count = 0;
+            for (int k = 0; k < 300; k++) {
+                String key = "key" + k;
+                String expected = top.containsKey(key) ? top.get(key) : base.get(key);
+                assertEquals(expected, settings.get(key, (String) null), key);
+                if (expected != null) {
+                    count++;
+                }
+            }
+            assertEquals(count, settings.getNames().size());
+        }
+    }
+
+    private static SettingsLayer layer(String name, Map<String, String> values) {
+        return new SettingsLayer(name) {
+            @Override
+            public Map<String, String> load() {
+                return new HashMap<>(values);
+            }
+        };
+    }
+
+    @Test
+    void testFreeze() throws IOException {
+        LayeredSettings settings = new LayeredSettings(List.of(
+                SettingsLayer.of("base", Map.of("a", "1", "b", "2")),
+                SettingsLayer.of("top", Map.of("b", "3"))));
+        Settings frozen = settings.freeze();
+        assertEquals("1", frozen.get("a"));
+        assertEquals("3", frozen.get("b"));
+    }
+}
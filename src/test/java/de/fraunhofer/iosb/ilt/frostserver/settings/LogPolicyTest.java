@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.frostserver.settings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.fraunhofer.iosb.ilt.settings.LogPolicy;
+import de.fraunhofer.iosb.ilt.settings.Settings;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+
+class LogPolicyTest {
+
+    private static class PolicySettings extends Settings {
+
+        PolicySettings() {
+            super(new Properties(), "", false, false);
+        }
+
+        PolicySettings(Settings parent, String prefix) {
+            super(parent, prefix);
+        }
+
+        boolean logs(String key) {
+            return shouldLogValue(key);
+        }
+
+        @Override
+        public PolicySettings getSubSettings(String prefix) {
+            return new PolicySettings(this, prefix);
+        }
+    }
+
+    @Test
+    void testAlways() {
+        PolicySettings settings = new PolicySettings();
+        assertEquals(LogPolicy.ALWAYS, settings.getLogPolicy());
+        assertTrue(settings.logs("a"));
+        assertTrue(settings.logs("a"));
+    }
+
+    @Test
+    void testOnce() {
+        PolicySettings settings = new PolicySettings();
+        settings.setLogPolicy(LogPolicy.ONCE);
+        assertTrue(settings.logs("a"));
+        assertFalse(settings.logs("a"));
+        assertTrue(settings.logs("b"));
+
+        // Sub-settings inherit the policy, and share the logged keys.
+        PolicySettings sub = settings.getSubSettings("sub.");
+        assertEquals(LogPolicy.ONCE, sub.getLogPolicy());
+        assertFalse(sub.logs("a"));
+        assertTrue(sub.logs("sub.a"));
+        assertFalse(settings.logs("sub.a"));
+    }
+
+    @Test
+    void testStartup() {
+        PolicySettings settings = new PolicySettings();
+        settings.setLogPolicy(LogPolicy.STARTUP);
+        PolicySettings sub = settings.getSubSettings("sub.");
+        assertTrue(settings.logs("a"));
+        assertFalse(settings.logs("a"));
+        sub.endStartup();
+        assertFalse(settings.logs("b"));
+        assertFalse(sub.logs("sub.b"));
+    }
+
+    @Test
+    void testSampled() {
+        PolicySettings settings = new PolicySettings();
+        settings.setLogPolicy(LogPolicy.SAMPLED);
+        settings.setLogSampleRate(1);
+        assertTrue(settings.logs("a"));
+        assertTrue(settings.logs("a"));
+        assertThrows(IllegalArgumentException.class, () -> settings.setLogSampleRate(0));
+    }
+
+    @Test
+    void testNone() {
+        PolicySettings settings = new PolicySettings();
+        settings.setLogPolicy(LogPolicy.NONE);
+        assertFalse(settings.logs("a"));
+        assertThrows(IllegalArgumentException.class, () -> settings.setLogPolicy(null));
+    }
+
+    @Test
+    void testFreezeKeepsPolicy() {
+        Settings settings = new Settings(new Properties(), "", false, false);
+        settings.setLogPolicy(LogPolicy.ONCE);
+        settings.setLogSampleRate(7);
+        Settings frozen = settings.freeze();
+        assertEquals(LogPolicy.ONCE, frozen.getLogPolicy());
+        assertEquals(7, frozen.getLogSampleRate());
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.frostserver.settings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.fraunhofer.iosb.ilt.settings.BinarySnapshotWriter;
+import de.fraunhofer.iosb.ilt.settings.MappedSettings;
+import de.fraunhofer.iosb.ilt.settings.Settings;
+import de.fraunhofer.iosb.ilt.settings.SnapshotSettings;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedSettingsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path createSnapshot(int count) throws IOException {
+        Properties properties = new Properties();
+        for (int i = 0; i < count; i++) {
+            properties.setProperty("key" + i, "value" + i);
+        }
+        properties.setProperty("db.url", "jdbc:test");
+        properties.setProperty("größe", "groß ✓");
+        properties.setProperty("emoji.😀", "smile");
+        Path file = tempDir.resolve("settings.bin");
+        BinarySnapshotWriter.write(properties, file);
+        return file;
+    }
+
+    @Test
+    void testLookup() throws IOException {
+        MappedSettings settings = new MappedSettings(createSnapshot(1000));
+        assertEquals(1003, settings.getSnapshotSize());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("value" + i, settings.get("key" + i));
+        }
+        assertEquals("groß ✓", settings.get("größe"));
+        assertEquals("smile", settings.get("emoji.😀"));
+        assertFalse(settings.containsName("key1000"));
+        assertFalse(settings.containsName("grösse"));
+        assertNull(settings.get("missing", (String) null));
+
+        Settings db = settings.getSubSettings("db.");
+        assertEquals("jdbc:test", db.get("url"));
+    }
+
+    @Test
+    void testOverridesAndFreeze() throws IOException {
+        MappedSettings settings = new MappedSettings(createSnapshot(10));
+        settings.set("key1", "changed");
+        assertEquals("changed", settings.get("key1"));
+        assertEquals("value2", settings.get("key2"));
+
+        SnapshotSettings frozen = settings.freeze();
+        assertEquals("changed", frozen.get("key1"));
+        assertEquals("value2", frozen.get("key2"));
+        assertEquals("jdbc:test", frozen.get("db.url"));
+    }
+
+    @Test
+    void testInvalidFile() throws IOException {
+        Path file = tempDir.resolve("invalid.bin");
+        Files.writeString(file, "key=value\nmore=values\n");
+        assertThrows(IOException.class, () -> new MappedSettings(file));
+    }
+
+    @Test
+    void testCorruptEntries() throws IOException {
+        Path file = createSnapshot(10);
+        byte[] valid = Files.readAllBytes(file);
+        int slotCount = ByteBuffer.wrap(valid).getInt(12);
+        int firstEntry = 16 + slotCount * 8;
+
+        ByteBuffer offsetOutside = ByteBuffer.wrap(valid.clone());
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (offsetOutside.getInt(16 + slot * 8 + 4) != 0) {
+                offsetOutside.putInt(16 + slot * 8 + 4, valid.length + 100);
+                break;
+            }
+        }
+        assertCorrupt(offsetOutside.array(), "offset");
+
+        ByteBuffer keyTooLong = ByteBuffer.wrap(valid.clone());
+        keyTooLong.putInt(firstEntry, Integer.MAX_VALUE);
+        assertCorrupt(keyTooLong.array(), "key length");
+
+        ByteBuffer valueTooLong = ByteBuffer.wrap(valid.clone());
+        int keyLength = valueTooLong.getInt(firstEntry);
+        valueTooLong.putInt(firstEntry + 4 + keyLength, valid.length);
+        assertCorrupt(valueTooLong.array(), "value length");
+
+        byte[] truncated = new byte[valid.length - 3];
+        System.arraycopy(valid, 0, truncated, 0, truncated.length);
+        assertCorrupt(truncated, "out of bounds");
+    }
+
+    private void assertCorrupt(byte[] content, String message) throws IOException {
+        Path file = tempDir.resolve("corrupt.bin");
+        Files.write(file, content);
+        IOException ex = assertThrows(IOException.class, () -> new MappedSettings(file));
+        assertTrue(ex.getMessage().contains(message), ex.getMessage());
+    }
+
+    @Test
+    void testRewriteWhileMapped() throws IOException {
+        Path file = createSnapshot(10);
+        MappedSettings settings = new MappedSettings(file);
+        Properties properties = new Properties();
+        properties.setProperty("other", "value");
+        BinarySnapshotWriter.write(properties, file);
+        assertEquals("value1", settings.get("key1"));
+        assertEquals("value", new MappedSettings(file).get("other"));
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void testEmptySnapshot() throws IOException {
+        Path file = tempDir.resolve("empty.bin");
+        BinarySnapshotWriter.write(new Properties(), file);
+        MappedSettings settings = new MappedSettings(file);
+        assertEquals(0, settings.getSnapshotSize());
+        assertFalse(settings.containsName("any"));
+    }
+}
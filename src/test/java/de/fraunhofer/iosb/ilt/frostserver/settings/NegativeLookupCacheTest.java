@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.frostserver.settings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.fraunhofer.iosb.ilt.settings.CachedSettings;
+import de.fraunhofer.iosb.ilt.settings.ConcurrentCachedSettings;
+import de.fraunhofer.iosb.ilt.settings.CountingSettingsMetrics;
+import de.fraunhofer.iosb.ilt.settings.Settings;
+import java.util.Properties;
+import java.util.function.BiFunction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NegativeLookupCacheTest {
+
+    private CountingSettingsMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new CountingSettingsMetrics();
+        Settings.setMetrics(metrics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Settings.setMetrics(null);
+    }
+
+    private void testMissingNames(BiFunction<Settings, String, Settings> wrap) {
+        Properties properties = new Properties();
+        properties.setProperty("app.present", "1");
+        Settings base = new Settings(properties, "", false, false);
+        Settings cached = wrap.apply(base, "app.");
+
+        assertFalse(cached.containsName("optional"));
+        assertEquals(1, metrics.getLookups());
+        assertFalse(cached.containsName("optional"));
+        assertEquals(7L, cached.getLong("optional", 7L));
+        assertEquals(1.5, cached.getDouble("optional", 1.5));
+        assertTrue(cached.getBoolean("optional", true));
+        assertEquals(1, metrics.getLookups());
+
+        base.set("app.optional", "9");
+        assertTrue(cached.containsName("optional"));
+        assertEquals(9L, cached.getLong("optional", 7L));
+
+        base.set("app.other", "x");
+        assertTrue(cached.containsName("optional"));
+    }
+
+    @Test
+    void testCachedSettings() {
+        testMissingNames(CachedSettings::new);
+    }
+
+    @Test
+    void testConcurrentCachedSettings() {
+        testMissingNames(ConcurrentCachedSettings::new);
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.frostserver.settings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.fraunhofer.iosb.ilt.settings.LayeredSettings;
+import de.fraunhofer.iosb.ilt.settings.Provenance;
+import de.fraunhofer.iosb.ilt.settings.SettingsLayer;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProvenanceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testProvenance() throws IOException {
+        Path file = tempDir.resolve("provenance.properties");
+        Files.writeString(file, "# comment\n"
+                + "plugins.mqtt.qosLevel = 1\n"
+                + "\n"
+                + "plugins.mqtt.topicName=a very \\\n"
+                + "    long topic\n"
+                + "plugins.mqtt.escaped\\ key:value\n", StandardCharsets.UTF_8);
+        SettingsLayer fileLayer = SettingsLayer.file(file);
+        LayeredSettings settings = new LayeredSettings(List.of(
+                SettingsLayer.defaults(MockConfigProvider.class, "plugins.mqtt."),
+                fileLayer,
+                SettingsLayer.of("overrides", Map.of("plugins.mqtt.maxTop", "5"))));
+
+        Provenance qos = settings.getProvenance("plugins.mqtt.qosLevel");
+        assertEquals(fileLayer.getName(), qos.getSource());
+        assertEquals(1, qos.getSourceId());
+        assertEquals(2, qos.getLine());
+        assertEquals(0, qos.getVersion());
+
+        assertEquals("a very long topic", settings.get("plugins.mqtt.topicName"));
+        assertEquals(4, settings.getProvenance("plugins.mqtt.topicName").getLine());
+        assertEquals(6, settings.getProvenance("plugins.mqtt.escaped key").getLine());
+
+        Provenance maxInFlight = settings.getProvenance("plugins.mqtt.maxInFlight");
+        assertEquals("defaults:" + MockConfigProvider.class.getName(), maxInFlight.getSource());
+        assertEquals(0, maxInFlight.getLine());
+        assertEquals("overrides", settings.getProvenance("plugins.mqtt.maxTop").getSource());
+        assertNull(settings.getProvenance("plugins.mqtt.unknown"));
+
+        settings.set("plugins.mqtt.qosLevel", 0);
+        Provenance set = settings.getProvenance("plugins.mqtt.qosLevel");
+        assertEquals(LayeredSettings.SET_LAYER, set.getSource());
+        assertEquals(settings.getVersion(), set.getVersion());
+
+        // The key moves to another line, and a value moves to the file layer
+        // without changing.
+        Files.writeString(file, "\nplugins.mqtt.topicName=other\nplugins.mqtt.maxInFlight=50\n", StandardCharsets.UTF_8);
+        long version = settings.getVersion();
+        settings.reload(fileLayer.getName());
+        assertEquals(version + 1, settings.getVersion());
+        Provenance topic = settings.getProvenance("plugins.mqtt.topicName");
+        assertEquals(2, topic.getLine());
+        assertEquals(settings.getVersion(), topic.getVersion());
+        assertEquals(fileLayer.getName(), settings.getProvenance("plugins.mqtt.maxInFlight").getSource());
+        assertEquals(3, settings.getProvenance("plugins.mqtt.maxInFlight").getLine());
+    }
+
+    @Test
+    void testConcurrentSetVersions() throws IOException, InterruptedException {
+        LayeredSettings settings = new LayeredSettings(List.of(SettingsLayer.of("base", Map.of())));
+        List<Long> notified = new ArrayList<>();
+        settings.setListenerExecutor(Runnable::run);
+        settings.addPrefixListener("", event -> notified.add(event.getVersion()));
+        final int threadCount = 8;
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            final String key = "key" + t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 500; i++) {
+                    settings.set(key, i);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Set<Long> versions = new HashSet<>();
+        for (int t = 0; t < threadCount; t++) {
+            Provenance provenance = settings.getProvenance("key" + t);
+            assertEquals(LayeredSettings.SET_LAYER, provenance.getSource());
+            assertTrue(notified.contains(provenance.getVersion()));
+            versions.add(provenance.getVersion());
+        }
+        assertEquals(threadCount, versions.size());
+        assertTrue(versions.contains(settings.getVersion()));
+    }
+
+    @Test
+    void testDump() throws IOException {
+        LayeredSettings settings = new LayeredSettings(List.of(
+                SettingsLayer.of("base", Map.of("b", "1", "a", "x=y"))));
+        StringBuilder out = new StringBuilder();
+        settings.dump(out);
+        String dump = out.toString();
+        assertTrue(dump.startsWith("# a from base (version 0)"), dump);
+        assertTrue(dump.contains("# b from base (version 0)"), dump);
+
+        Properties reread = new Properties();
+        reread.load(new StringReader(dump));
+        assertEquals("x=y", reread.getProperty("a"));
+        assertEquals("1", reread.getProperty("b"));
+    }
+
+    @Test
+    void testDumpHidesSensitiveValues() throws IOException {
+        LayeredSettings settings = new LayeredSettings(List.of(
+                SettingsLayer.defaults(ConfigDefaultsTest.SensitiveConfigProvider.class, "db."),
+                SettingsLayer.of("file", Map.of("db.password", "secret", "db.username", "user"))));
+        StringBuilder out = new StringBuilder();
+        settings.dump(out);
+        Properties reread = new Properties();
+        reread.load(new StringReader(out.toString()));
+        assertEquals("*****", reread.getProperty("db.password"));
+        assertEquals("user", reread.getProperty("db.username"));
+
+        settings.setLogSensitiveData(true);
+        out.setLength(0);
+        settings.dump(out);
+        reread.load(new StringReader(out.toString()));
+        assertEquals("secret", reread.getProperty("db.password"));
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.frostserver.settings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import de.fraunhofer.iosb.ilt.settings.RecordBinding;
+import de.fraunhofer.iosb.ilt.settings.Settings;
+import de.fraunhofer.iosb.ilt.settings.exceptions.PropertyMissingException;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+
+class RecordBindingTest {
+
+    record MqttConfig(String mqttBroker, int qosLevel, boolean Enabled, long maxTop, double ratio) {
+    }
+
+    record Unsupported(Object value) {
+    }
+
+    record StringDefaultOnInt(int topicName) {
+    }
+
+    @Test
+    void testBind() {
+        Properties properties = new Properties();
+        properties.setProperty("bus.qosLevel", "1");
+        properties.setProperty("bus.ratio", "0.5");
+        Settings settings = new Settings(properties, "", false, false);
+        MqttConfig config = settings.getSubSettings("bus.").bind(MqttConfig.class, MockConfigProvider.class);
+        assertEquals(new MqttConfig("tcp://127.0.0.1:1884", 1, true, 10000, 0.5), config);
+    }
+
+    @Test
+    void testMissingAndUnsupported() {
+        Settings settings = new Settings(new Properties(), "", false, false);
+        assertThrows(PropertyMissingException.class, () -> settings.bind(MqttConfig.class, MockConfigProvider.class));
+        assertThrows(IllegalArgumentException.class, () -> settings.binding(Unsupported.class, null));
+    }
+
+    @Test
+    void testDefaultOfOtherType() {
+        // topicName only has a String default, so as an int it is required.
+        Properties properties = new Properties();
+        Settings settings = new Settings(properties, "", false, false);
+        assertThrows(PropertyMissingException.class, () -> settings.bind(StringDefaultOnInt.class, MockConfigProvider.class));
+        settings.set("topicName", 7);
+        assertEquals(new StringDefaultOnInt(7), settings.bind(StringDefaultOnInt.class, MockConfigProvider.class));
+    }
+
+    @Test
+    void testRebindOnChange() {
+        Properties properties = new Properties();
+        properties.setProperty("ratio", "0.5");
+        Settings settings = new Settings(properties, "", false, false);
+        RecordBinding<MqttConfig> binding = settings.binding(MqttConfig.class, MockConfigProvider.class);
+        MqttConfig first = binding.get();
+        assertSame(first, binding.get());
+
+        settings.set("qosLevel", 0);
+        MqttConfig second = binding.get();
+        assertNotSame(first, second);
+        assertEquals(0, second.qosLevel());
+        assertEquals(2, first.qosLevel());
+    }
+}
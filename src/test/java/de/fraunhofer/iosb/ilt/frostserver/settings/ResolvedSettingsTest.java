@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.frostserver.settings;
+
+import static de.fraunhofer.iosb.ilt.frostserver.settings.MockConfigProvider.TAG_CORS_ENABLE;
+import static de.fraunhofer.iosb.ilt.frostserver.settings.MockConfigProvider.TAG_ENABLED;
+import static de.fraunhofer.iosb.ilt.frostserver.settings.MockConfigProvider.TAG_MAX_TOP;
+import static de.fraunhofer.iosb.ilt.frostserver.settings.MockConfigProvider.TAG_MQTT_BROKER;
+import static de.fraunhofer.iosb.ilt.frostserver.settings.MockConfigProvider.TAG_QOS_LEVEL;
+import static de.fraunhofer.iosb.ilt.frostserver.settings.MockConfigProvider.TAG_TOPIC_NAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.fraunhofer.iosb.ilt.settings.ConfigUtils;
+import de.fraunhofer.iosb.ilt.settings.ResolvedSettings;
+import de.fraunhofer.iosb.ilt.settings.Settings;
+import de.fraunhofer.iosb.ilt.settings.exceptions.PropertyTypeException;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+
+class ResolvedSettingsTest {
+
+    @Test
+    void testResolveAll() {
+        Properties properties = new Properties();
+        properties.setProperty("bus." + TAG_MAX_TOP, "500");
+        properties.setProperty("bus." + TAG_TOPIC_NAME, "myTopic");
+        properties.setProperty("bus." + TAG_CORS_ENABLE, "true");
+        properties.setProperty("bus." + TAG_QOS_LEVEL, "notANumber");
+        Settings settings = new Settings(properties, "bus.", false, false);
+
+        ResolvedSettings resolved = settings.resolve(MockConfigProvider.class);
+        assertEquals(ConfigUtils.getConfigTags(MockConfigProvider.class).size(), resolved.size());
+        assertEquals(3, resolved.getSetCount());
+
+        assertEquals(500, resolved.getInt(TAG_MAX_TOP));
+        assertEquals("myTopic", resolved.get(TAG_TOPIC_NAME));
+        assertEquals("tcp://127.0.0.1:1884", resolved.get(TAG_MQTT_BROKER));
+        assertTrue(resolved.getBoolean(TAG_CORS_ENABLE));
+        assertTrue(resolved.getBoolean(TAG_ENABLED));
+        // Invalid values fall back to the default, like getInt(name, defaults).
+        assertEquals(2, resolved.getInt(TAG_QOS_LEVEL));
+        assertEquals("2", resolved.get(TAG_QOS_LEVEL));
+        assertFalse(resolved.isSet(resolved.ordinal(TAG_QOS_LEVEL)));
+
+        final int ordinal = resolved.ordinal(TAG_MAX_TOP);
+        assertEquals(TAG_MAX_TOP, resolved.getName(ordinal));
+        assertTrue(resolved.isSet(ordinal));
+        assertEquals(500L, resolved.getLong(ordinal));
+        assertFalse(resolved.isSet(resolved.ordinal(TAG_MQTT_BROKER)));
+
+        assertThrows(IllegalArgumentException.class, () -> resolved.ordinal("unknown"));
+        assertThrows(PropertyTypeException.class, () -> resolved.getInt(TAG_TOPIC_NAME));
+    }
+
+    @Test
+    void testOutOfRangeUsesDefault() {
+        Properties properties = new Properties();
+        properties.setProperty(TAG_MAX_TOP, "3000000000");
+        Settings settings = new Settings(properties, "", false, false);
+        ResolvedSettings resolved = settings.resolve(MockConfigProvider.class);
+        assertEquals(settings.getInt(TAG_MAX_TOP, MockConfigProvider.class), resolved.getInt(TAG_MAX_TOP));
+        assertEquals(3000000000L, resolved.getLong(TAG_MAX_TOP));
+    }
+
+    @Test
+    void testMatchesSingleLookups() {
+        Properties properties = new Properties();
+        properties.setProperty(TAG_MAX_TOP, "77");
+        Settings settings = new Settings(properties, "", false, false);
+        ResolvedSettings resolved = settings.resolve(MockConfigProvider.class);
+        for (int i = 0; i < resolved.size(); i++) {
+            assertEquals(settings.get(resolved.getName(i), MockConfigProvider.class), resolved.get(i));
+        }
+    }
+}
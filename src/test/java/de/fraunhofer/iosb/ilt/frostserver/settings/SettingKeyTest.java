@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.frostserver.settings;
+
+import static de.fraunhofer.iosb.ilt.frostserver.settings.MockConfigProvider.TAG_ENABLED;
+import static de.fraunhofer.iosb.ilt.frostserver.settings.MockConfigProvider.TAG_MAX_TOP;
+import static de.fraunhofer.iosb.ilt.frostserver.settings.MockConfigProvider.TAG_TOPIC_NAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.fraunhofer.iosb.ilt.settings.CachedSettings;
+import de.fraunhofer.iosb.ilt.settings.SettingKey;
+import de.fraunhofer.iosb.ilt.settings.Settings;
+import de.fraunhofer.iosb.ilt.settings.SnapshotSettings;
+import java.lang.ref.WeakReference;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+
+class SettingKeyTest {
+
+    private static final SettingKey<Integer> MAX_TOP = SettingKey.ofInt(MockConfigProvider.class, TAG_MAX_TOP);
+    private static final SettingKey<String> TOPIC_NAME = SettingKey.ofString(MockConfigProvider.class, TAG_TOPIC_NAME);
+    private static final SettingKey<Boolean> ENABLED = SettingKey.ofBoolean(MockConfigProvider.class, TAG_ENABLED);
+
+    @Test
+    void testResolvedOnCreation() {
+        assertEquals(TAG_MAX_TOP, MAX_TOP.getName());
+        assertEquals(Integer.class, MAX_TOP.getType());
+        assertEquals(10000, MAX_TOP.getDefaultValue());
+        assertFalse(MAX_TOP.isSensitive());
+        assertThrows(IllegalArgumentException.class, () -> SettingKey.ofInt(MockConfigProvider.class, TAG_TOPIC_NAME));
+        assertThrows(IllegalArgumentException.class, () -> SettingKey.ofString(MockConfigProvider.class, "unknown"));
+    }
+
+    @Test
+    void testDefaultsAndValues() {
+        Properties properties = new Properties();
+        properties.setProperty(TAG_TOPIC_NAME, "myTopic");
+        Settings settings = new Settings(properties, "", false, false);
+        assertEquals(10000, MAX_TOP.get(settings));
+        assertEquals("myTopic", TOPIC_NAME.get(settings));
+        assertEquals(true, ENABLED.get(settings));
+    }
+
+    @Test
+    void testSensitiveAndDoubleKeys() {
+        SettingKey<String> password = SettingKey.ofString(ConfigDefaultsTest.SensitiveConfigProvider.class, "password");
+        SettingKey<Double> ratio = SettingKey.ofDouble(ConfigDefaultsTest.SensitiveConfigProvider.class, "ratio");
+        assertTrue(password.isSensitive());
+        Settings settings = new Settings(new Properties(), "", false, false);
+        assertEquals("", password.get(settings));
+        assertEquals(0.5, ratio.get(settings));
+        settings.set("password", "secret");
+        settings.set("ratio", "0.75");
+        assertEquals("secret", password.get(settings));
+        assertEquals(0.75, ratio.get(settings));
+    }
+
+    @Test
+    void testInvalidatedOnVersionChange() {
+        Properties properties = new Properties();
+        properties.setProperty(TAG_MAX_TOP, "5");
+        Settings settings = new Settings(properties, "", false, false);
+        final Integer first = MAX_TOP.get(settings);
+        assertEquals(5, first);
+        assertSame(first, MAX_TOP.get(settings));
+
+        // Direct changes to the properties do not change the version.
+        properties.setProperty(TAG_MAX_TOP, "6");
+        assertEquals(5, MAX_TOP.get(settings));
+
+        final long version = settings.getVersion();
+        settings.set(TAG_MAX_TOP, 7);
+        assertEquals(version + 1, settings.getVersion());
+        assertEquals(7, MAX_TOP.get(settings));
+    }
+
+    @Test
+    void testSnapshotRefreshAndOtherSettings() {
+        Properties properties = new Properties();
+        properties.setProperty(TAG_MAX_TOP, "5");
+        SnapshotSettings snapshot = new SnapshotSettings(properties, "", false, false);
+        assertEquals(5, MAX_TOP.get(snapshot));
+        properties.setProperty(TAG_MAX_TOP, "6");
+        snapshot.refresh();
+        assertEquals(6, MAX_TOP.get(snapshot));
+
+        CachedSettings other = new CachedSettings(new Properties(), "", false, false);
+        assertEquals(10000, MAX_TOP.get(other));
+        other.set(TAG_MAX_TOP, 8);
+        assertEquals(8, MAX_TOP.get(other));
+        assertEquals(6, MAX_TOP.get(snapshot));
+    }
+
+    @Test
+    void testDoesNotKeepSettingsReachable() throws InterruptedException {
+        SettingKey<Integer> key = SettingKey.ofInt(MockConfigProvider.class, TAG_MAX_TOP);
+        Settings settings = new Settings(new Properties(), "", false, false);
+        assertEquals(10000, key.get(settings));
+        WeakReference<Settings> reference = new WeakReference<>(settings);
+        settings = null;
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(reference.get(), "Settings still reachable through the key");
+        assertEquals(10000, key.get(new Settings(new Properties(), "", false, false)));
+    }
+}
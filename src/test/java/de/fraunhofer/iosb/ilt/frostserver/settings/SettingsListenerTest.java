@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.frostserver.settings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.fraunhofer.iosb.ilt.settings.Settings;
+import de.fraunhofer.iosb.ilt.settings.SettingsChangeEvent;
+import de.fraunhofer.iosb.ilt.settings.SettingsListener;
+import de.fraunhofer.iosb.ilt.settings.SnapshotSettings;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SettingsListenerTest {
+
+    @Test
+    void testKeyAndPrefixSubscriptions() {
+        Settings settings = new Settings(new Properties(), "", false, false);
+        settings.setListenerExecutor(Runnable::run);
+        List<SettingsChangeEvent> keyEvents = new ArrayList<>();
+        List<SettingsChangeEvent> prefixEvents = new ArrayList<>();
+        List<SettingsChangeEvent> allEvents = new ArrayList<>();
+        settings.addListener("pool.size", keyEvents::add);
+        settings.getSubSettings("pool.").addPrefixListener("", prefixEvents::add);
+        settings.addPrefixListener("", allEvents::add);
+
+        settings.set("pool.size", 4);
+        settings.set("pool.timeout", 10);
+        settings.set("other", "x");
+
+        assertEquals(1, keyEvents.size());
+        assertEquals(Set.of("pool.size"), keyEvents.get(0).getKeys());
+        assertEquals(2, prefixEvents.size());
+        assertEquals(Set.of("pool.timeout"), prefixEvents.get(1).getKeys());
+        assertEquals(3, allEvents.size());
+        assertEquals(settings.getVersion(), allEvents.get(2).getVersion());
+    }
+
+    @Test
+    void testBatchedReload() {
+        Properties properties = new Properties();
+        properties.setProperty("pool.size", "1");
+        properties.setProperty("pool.timeout", "1");
+        SnapshotSettings settings = new SnapshotSettings(properties, "", false, false);
+        settings.setListenerExecutor(Runnable::run);
+        List<SettingsChangeEvent> events = new ArrayList<>();
+        settings.addPrefixListener("pool.", events::add);
+
+        properties.setProperty("pool.size", "2");
+        properties.setProperty("pool.timeout", "2");
+        properties.setProperty("unrelated", "2");
+        settings.refresh();
+        assertEquals(1, events.size());
+        assertEquals(Set.of("pool.size", "pool.timeout"), events.get(0).getKeys());
+    }
+
+    @Test
+    void testRemoveAndManyListeners() {
+        Settings settings = new Settings(new Properties(), "", false, false);
+        settings.setListenerExecutor(Runnable::run);
+        AtomicInteger count = new AtomicInteger();
+        for (int i = 0; i < 5000; i++) {
+            final int nr = i;
+            settings.addListener("key" + i, event -> count.addAndGet(nr));
+        }
+        List<SettingsChangeEvent> events = new ArrayList<>();
+        SettingsListener listener = events::add;
+        settings.addListener("key42", listener);
+        settings.set("key42", "changed");
+        assertEquals(42, count.get());
+        assertEquals(1, events.size());
+
+        settings.removeListener(listener);
+        settings.set("key42", "again");
+        assertEquals(84, count.get());
+        assertEquals(1, events.size());
+    }
+
+    @Test
+    void testRemoveRepeatedSubscriptions() {
+        Settings settings = new Settings(new Properties(), "", false, false);
+        settings.setListenerExecutor(Runnable::run);
+        List<SettingsChangeEvent> events = new ArrayList<>();
+        SettingsListener listener = events::add;
+        settings.addListener("key", listener);
+        settings.addListener("key", listener);
+        settings.addPrefixListener("k", listener);
+        settings.addPrefixListener("k", listener);
+        settings.set("key", "changed");
+        assertEquals(1, events.size());
+
+        settings.removeListener(listener);
+        settings.set("key", "again");
+        assertEquals(1, events.size());
+    }
+
+    @Test
+    void testVersionOrder() throws InterruptedException {
+        Settings settings = new Settings(new Properties(), "", false, false);
+        settings.setListenerExecutor(Runnable::run);
+        List<Long> versions = new ArrayList<>();
+        settings.addPrefixListener("", event -> versions.add(event.getVersion()));
+        final int threadCount = 8;
+        final int setCount = 2000;
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            final String key = "key" + t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < setCount; i++) {
+                    settings.set(key, i);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(threadCount * setCount, versions.size());
+        for (int i = 1; i < versions.size(); i++) {
+            assertTrue(versions.get(i - 1) < versions.get(i), "Listeners notified out of version order");
+        }
+    }
+
+    @Test
+    void testAsyncDelivery() throws InterruptedException {
+        Settings settings = new Settings(new Properties(), "", false, false);
+        CountDownLatch latch = new CountDownLatch(1);
+        List<String> threads = new ArrayList<>();
+        settings.addListener("value", event -> {
+            threads.add(Thread.currentThread().getName());
+            latch.countDown();
+        });
+        settings.set("value", 1);
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals("SettingsListeners", threads.get(0));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.frostserver.settings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import de.fraunhofer.iosb.ilt.settings.CachedSettings;
+import de.fraunhofer.iosb.ilt.settings.ConcurrentCachedSettings;
+import de.fraunhofer.iosb.ilt.settings.CountingSettingsMetrics;
+import de.fraunhofer.iosb.ilt.settings.Settings;
+import de.fraunhofer.iosb.ilt.settings.SettingsMetrics;
+import de.fraunhofer.iosb.ilt.settings.SettingsMetrics.ValueType;
+import de.fraunhofer.iosb.ilt.settings.exceptions.PropertyTypeException;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Properties;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SettingsMetricsTest {
+
+    private CountingSettingsMetrics metrics;
+
+    private static Properties createProperties() {
+        Properties properties = new Properties();
+        properties.setProperty("present", "1");
+        properties.setProperty("broken", "x");
+        return properties;
+    }
+
+    @BeforeEach
+    void setUp() {
+        metrics = new CountingSettingsMetrics();
+        Settings.setMetrics(metrics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Settings.setMetrics(null);
+        assertSame(SettingsMetrics.NONE, Settings.getMetrics());
+    }
+
+    @Test
+    void testLookupCounters() {
+        Settings settings = new Settings(createProperties(), "", false, false);
+        assertEquals(1, settings.getInt("present", 0));
+        assertEquals(5, settings.getInt("missing", 5));
+        assertThrows(PropertyTypeException.class, () -> settings.getInt("broken"));
+
+        assertEquals(1, metrics.getDefaultFallbacks());
+        assertEquals(1, metrics.getParseFailures());
+        assertEquals(1, metrics.getLookupMisses());
+        assertEquals("x", settings.get("missing", "x"));
+        assertEquals(2, metrics.getDefaultFallbacks());
+        assertEquals(metrics.getLookups(), Arrays.stream(metrics.getLookupLatencyHistogram()).sum());
+
+        metrics.reset();
+        assertEquals(0, metrics.getLookups());
+        assertEquals(0, Arrays.stream(metrics.getLookupLatencyHistogram()).sum());
+    }
+
+    @Test
+    void testCacheCounters() {
+        Settings cached = new CachedSettings(createProperties(), "", false, false);
+        cached.getLong("present");
+        cached.getLong("present");
+        assertEquals(1, metrics.getCacheMisses(ValueType.LONG));
+        assertEquals(1, metrics.getCacheHits(ValueType.LONG));
+
+        metrics.reset();
+        Settings concurrent = new ConcurrentCachedSettings(createProperties(), "", false, false);
+        concurrent.getDouble("present");
+        concurrent.getDouble("present");
+        concurrent.getDouble("present");
+        assertEquals(1, metrics.getCacheMisses(ValueType.DOUBLE));
+        assertEquals(2, metrics.getCacheHits(ValueType.DOUBLE));
+    }
+
+    @Test
+    void testMBean() throws JMException {
+        ObjectName name = metrics.registerMBean();
+        try {
+            new CachedSettings(createProperties(), "", false, false).getLong("present");
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            assertEquals(metrics.getLookups(), server.getAttribute(name, "Lookups"));
+            TabularData misses = (TabularData) server.getAttribute(name, "CacheMisses");
+            CompositeData row = misses.get(new Object[]{"LONG"});
+            assertEquals(1L, row.get("value"));
+        } finally {
+            metrics.unregisterMBean();
+        }
+    }
+}
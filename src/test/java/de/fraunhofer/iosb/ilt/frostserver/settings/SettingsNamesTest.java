@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.frostserver.settings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.fraunhofer.iosb.ilt.settings.Settings;
+import de.fraunhofer.iosb.ilt.settings.SnapshotSettings;
+import java.util.List;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+
+class SettingsNamesTest {
+
+    private static Properties createProperties() {
+        Properties properties = new Properties();
+        properties.setProperty("plugins.mqtt.bus.host", "localhost");
+        properties.setProperty("plugins.mqtt.bus.port", "1883");
+        properties.setProperty("plugins.mqtt.enable", "true");
+        properties.setProperty("plugins.mqttx", "other");
+        properties.setProperty("plugins.http.enable", "false");
+        properties.setProperty("root", "value");
+        for (int i = 0; i < 10_000; i++) {
+            properties.setProperty("plugins.many." + i, Integer.toString(i));
+        }
+        return properties;
+    }
+
+    @Test
+    void testNamesUnderPrefix() {
+        Settings settings = new Settings(createProperties(), "", false, false);
+        assertEquals(10_006, settings.countNames());
+
+        Settings mqtt = settings.getSubSettings("plugins.mqtt.");
+        assertEquals(List.of("bus.host", "bus.port", "enable"), mqtt.getNames());
+        assertEquals(3, mqtt.countNames());
+
+        Settings bus = mqtt.getSubSettings("bus.");
+        assertEquals(List.of("host", "port"), bus.getNames());
+        assertEquals(10_000, settings.getSubSettings("plugins.many.").countNames());
+        assertTrue(settings.getSubSettings("nothing.").getNames().isEmpty());
+    }
+
+    @Test
+    void testNamesFollowChanges() {
+        SnapshotSettings settings = new SnapshotSettings(createProperties(), "", false, false);
+        Settings bus = settings.getSubSettings("plugins.mqtt.bus.");
+        assertEquals(2, bus.countNames());
+        settings.set("plugins.mqtt.bus.user", "admin");
+        assertEquals(List.of("host", "port", "user"), bus.getNames());
+        settings.getProperties().remove("plugins.mqtt.bus.host");
+        settings.refresh();
+        assertEquals(List.of("port", "user"), bus.getNames());
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.frostserver.settings;
+
+import static de.fraunhofer.iosb.ilt.frostserver.settings.MockConfigProvider.TAG_MAX_TOP;
+import static de.fraunhofer.iosb.ilt.frostserver.settings.MockConfigProvider.TAG_SERVICE_ROOT_URL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.fraunhofer.iosb.ilt.settings.Settings;
+import de.fraunhofer.iosb.ilt.settings.SnapshotSettings;
+import de.fraunhofer.iosb.ilt.settings.exceptions.PropertyMissingException;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+
+class SnapshotSettingsTest {
+
+    @Test
+    void testSnapshotValues() {
+        Properties defaults = new Properties();
+        defaults.setProperty("property1", "default1");
+        defaults.setProperty("property2", "default2");
+        Properties properties = new Properties(defaults);
+        properties.setProperty("property1", "value1");
+        properties.setProperty("prefix1.property1", "value3");
+        properties.setProperty("prefix1.subprefix1.property1", "value7");
+        properties.setProperty(TAG_MAX_TOP, "123");
+        SnapshotSettings settings = new SnapshotSettings(properties, "", false, false);
+
+        assertEquals("value1", settings.get("property1"));
+        assertEquals("default2", settings.get("property2"));
+        assertEquals(123, settings.getInt(TAG_MAX_TOP));
+        assertTrue(settings.containsName("property1"));
+        assertFalse(settings.containsName("property3"));
+        assertThrows(PropertyMissingException.class, () -> settings.get("property3"));
+        assertEquals("myDefault", settings.get(TAG_SERVICE_ROOT_URL, "myDefault"));
+
+        Settings prefix1 = settings.getSubSettings("prefix1.");
+        Settings prefix11 = prefix1.getSubSettings("subprefix1.");
+        assertEquals("value3", prefix1.get("property1"));
+        assertEquals("value7", prefix11.get("property1"));
+    }
+
+    @Test
+    void testSnapshotUpdates() {
+        Properties properties = new Properties();
+        properties.setProperty("property1", "value1");
+        SnapshotSettings settings = new SnapshotSettings(properties, "", false, false);
+
+        properties.setProperty("property1", "changed");
+        properties.setProperty("property2", "added");
+        assertEquals("value1", settings.get("property1"));
+        assertFalse(settings.containsName("property2"));
+
+        settings.refresh();
+        assertEquals("changed", settings.get("property1"));
+        assertEquals("added", settings.get("property2"));
+
+        settings.set("property3", 3);
+        assertEquals(3, settings.getInt("property3"));
+        assertEquals("3", properties.getProperty("property3"));
+
+        Settings sub = settings.getSubSettings("sub.");
+        settings.set("sub.property4", true);
+        assertEquals(true, sub.getBoolean("property4"));
+    }
+
+    @Test
+    void testFreeze() {
+        Properties properties = new Properties();
+        properties.setProperty("prefix1.property1", "value1");
+        Settings base = new Settings(properties, "prefix1.", false, false);
+        SnapshotSettings frozen = base.freeze();
+        assertEquals("value1", frozen.get("property1"));
+        assertEquals("prefix1.", frozen.getPrefix());
+
+        frozen.set("property2", "value2");
+        assertEquals("value2", base.get("property2"));
+        assertEquals("value2", frozen.get("property2"));
+    }
+
+    @Test
+    void testManySets() {
+        Properties properties = new Properties();
+        SnapshotSettings settings = new SnapshotSettings(properties, "", false, false);
+        for (int i = 0; i < 5000; i++) {
+            settings.set("key" + (i % 3000), "value" + i);
+        }
+        for (int i = 0; i < 3000; i++) {
+            String expected = "value" + (i < 2000 ? 3000 + i : i);
+            assertEquals(expected, settings.get("key" + i));
+            assertEquals(expected, properties.getProperty("key" + i));
+        }
+        assertFalse(settings.containsName("key3000"));
+        assertEquals(3000, settings.getNames().size());
+    }
+
+    @Test
+    void testManyKeys() {
+        Properties properties = new Properties();
+        for (int i = 0; i < 1000; i++) {
+            properties.setProperty("key" + i, "value" + i);
+        }
+        SnapshotSettings settings = new SnapshotSettings(properties, "", false, false);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("value" + i, settings.get("key" + i));
+        }
+        assertFalse(settings.containsName("key1000"));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.frostserver.settings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.fraunhofer.iosb.ilt.settings.ConfigProvider;
+import de.fraunhofer.iosb.ilt.settings.LogPolicy;
+import de.fraunhofer.iosb.ilt.settings.Settings;
+import de.fraunhofer.iosb.ilt.settings.SnapshotSettings;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+
+class SubSettingsCacheTest {
+
+    private static class TestProvider extends ConfigProvider<TestProvider> {
+    }
+
+    @Test
+    void testSameInstance() {
+        Settings settings = new Settings(new Properties(), "", false, false);
+        Settings sub = settings.getSubSettings("a.");
+        assertSame(sub, settings.getSubSettings("a."));
+        assertSame(sub.getSubSettings("b."), settings.getSubSettings("a.").getSubSettings("b."));
+        assertEquals("a.b.", sub.getSubSettings("b.").getPrefix());
+
+        TestProvider provider = new TestProvider().setSettings(settings);
+        assertSame(sub, provider.getSubSettings("a."));
+    }
+
+    @Test
+    void testInvalidationCascades() {
+        Properties properties = new Properties();
+        properties.setProperty("a.b.value", "1");
+        SnapshotSettings settings = new SnapshotSettings(properties, "", false, false);
+        Settings deep = settings.getSubSettings("a.").getSubSettings("b.");
+        assertEquals(1, deep.getInt("value"));
+
+        settings.set("a.b.value", 2);
+        assertEquals(2, settings.getSubSettings("a.").getSubSettings("b.").getInt("value"));
+
+        properties.setProperty("a.b.value", "3");
+        settings.refresh();
+        assertEquals(3, deep.getInt("value"));
+    }
+
+    @Test
+    void testBounded() {
+        Settings settings = new Settings(new Properties(), "", false, false);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("p" + i + ".", settings.getSubSettings("p" + i + ".").getPrefix());
+        }
+        Settings sub = settings.getSubSettings("last.");
+        assertSame(sub, settings.getSubSettings("last."));
+    }
+
+    @Test
+    void testLeastRecentlyUsedEvicted() {
+        Settings settings = new Settings(new Properties(), "", false, false);
+        Settings used = settings.getSubSettings("used.");
+        for (int i = 0; i < 1000; i++) {
+            settings.getSubSettings("p" + i + ".");
+            assertSame(used, settings.getSubSettings("used."));
+        }
+    }
+
+    @Test
+    void testLoggingConfigFollowsParent() {
+        Settings settings = new Settings(new Properties(), "", false, false);
+        Settings sub = settings.getSubSettings("a.");
+        assertFalse(sub.getLogSensitiveData());
+
+        settings.setLogSensitiveData(true);
+        settings.setLogPolicy(LogPolicy.NONE);
+        settings.setLogSampleRate(5);
+        Settings changed = settings.getSubSettings("a.");
+        assertNotSame(sub, changed);
+        assertTrue(changed.getLogSensitiveData());
+        assertEquals(LogPolicy.NONE, changed.getLogPolicy());
+        assertEquals(5, changed.getLogSampleRate());
+        assertTrue(changed.getSubSettings("b.").getLogSensitiveData());
+    }
+}
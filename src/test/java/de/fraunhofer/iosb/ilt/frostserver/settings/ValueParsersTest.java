@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2025 Fraunhofer Institute of Optronics, System Technologies and
+ * Image Exploitation IOSB, Fraunhoferstr. 1, 76131 Karlsruhe, Germany.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.fraunhofer.iosb.ilt.frostserver.settings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.fraunhofer.iosb.ilt.settings.ValueParsers;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class ValueParsersTest {
+
+    private static final String[] SAMPLES = {
+        "0", "1", "-1", "+5", "-0", "007", "2147483647", "-2147483648", "2147483648", "-2147483649",
+        "9223372036854775807", "-9223372036854775808", "9223372036854775808", "-9223372036854775809",
+        "1.5", " 1.5 ", "\t2\n", "-.5", "5.", ".", "..5", "1.2.3", "1e3", "1E-3", "1e+22", "1e23", "1e", "1e+",
+        "1.5f", "2d", "3F", "4D", "1fd", "NaN", "-NaN", "+Infinity", "-Infinity", "Infinity ", "NaNf",
+        "0x1p3", "-0x1.8p1", "0x10", "0X1P-2", "", " ", "-", "+", "abc", "1 2", "12a", "١٢", "1_000", "true",
+        "0.1", "0.3", "123456789012345", "1234567890123456789012", "0.00000000000000000000000001",
+        "4.9e-324", "2e-324", "1.7976931348623157e308", "1.8e308", "1e400", "-1e-400", "0e999999999999",
+        "9007199254740993", "123.456e-7", "1e37", "12345e30", "1.00000000000000000000001"
+    };
+
+    @Test
+    void testCharSequenceSameAsJdk() {
+        for (String sample : SAMPLES) {
+            assertSame(sample, jdk(sample, Integer::parseInt), parsed(() -> ValueParsers.parseInt(sample)));
+            assertSame(sample, jdk(sample, Long::parseLong), parsed(() -> ValueParsers.parseLong(sample)));
+            assertSame(sample, jdk(sample, Double::parseDouble), parsed(() -> ValueParsers.parseDouble(sample)));
+            assertEquals(Boolean.parseBoolean(sample), ValueParsers.parseBoolean(sample), sample);
+        }
+    }
+
+    @Test
+    void testSliceSameAsJdk() {
+        for (String sample : SAMPLES) {
+            StringBuilder text = new StringBuilder("x=").append(sample).append(";9");
+            int end = 2 + sample.length();
+            assertSame(sample, jdk(sample, Integer::parseInt), parsed(() -> ValueParsers.parseInt(text, 2, end)));
+            assertSame(sample, jdk(sample, Long::parseLong), parsed(() -> ValueParsers.parseLong(text, 2, end)));
+            assertSame(sample, jdk(sample, Double::parseDouble), parsed(() -> ValueParsers.parseDouble(text, 2, end)));
+            assertEquals(Boolean.parseBoolean(sample), ValueParsers.parseBoolean(text, 2, end), sample);
+        }
+    }
+
+    @Test
+    void testByteBufferSameAsJdk() {
+        for (String sample : SAMPLES) {
+            if (!StandardCharsets.US_ASCII.newEncoder().canEncode(sample)) {
+                // Bytes are read as single-byte characters, only ASCII digits are valid.
+                ByteBuffer buffer = ByteBuffer.wrap(sample.getBytes(StandardCharsets.UTF_8));
+                assertThrows(NumberFormatException.class, () -> ValueParsers.parseInt(buffer, 0, buffer.limit()));
+                continue;
+            }
+            byte[] bytes = ("x=" + sample + ";9").getBytes(StandardCharsets.UTF_8);
+            int end = bytes.length - 2;
+            for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.wrap(bytes), ByteBuffer.allocateDirect(bytes.length).put(bytes).flip()}) {
+                assertSame(sample, jdk(sample, Integer::parseInt), parsed(() -> ValueParsers.parseInt(buffer, 2, end)));
+                assertSame(sample, jdk(sample, Long::parseLong), parsed(() -> ValueParsers.parseLong(buffer, 2, end)));
+                assertSame(sample, jdk(sample, Double::parseDouble), parsed(() -> ValueParsers.parseDouble(buffer, 2, end)));
+                assertEquals(Boolean.parseBoolean(sample), ValueParsers.parseBoolean(buffer, 2, end), sample);
+                assertEquals(0, buffer.position());
+            }
+        }
+    }
+
+    @Test
+    void testBooleans() {
+        assertTrue(ValueParsers.parseBoolean("TRUE"));
+        assertTrue(ValueParsers.parseBoolean("tRuE"));
+        assertFalse(ValueParsers.parseBoolean(" true"));
+        assertFalse(ValueParsers.parseBoolean("yes"));
+        assertFalse(ValueParsers.parseBoolean(null));
+    }
+
+    @Test
+    void testRandomDoubles() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            double value = Double.longBitsToDouble(random.nextLong());
+            String text = Double.toString(value);
+            assertSame(text, Double.parseDouble(text), ValueParsers.parseDouble(text));
+        }
+        for (int i = 0; i < 100_000; i++) {
+            // Short decimals, the fast path.
+            String text = random.nextInt(1_000_000) + "." + random.nextInt(1000) + "e" + (random.nextInt(40) - 20);
+            assertSame(text, Double.parseDouble(text), ValueParsers.parseDouble(text));
+        }
+    }
+
+    @Test
+    void testInvalidRange() {
+        assertThrows(IndexOutOfBoundsException.class, () -> ValueParsers.parseInt("123", 2, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> ValueParsers.parseLong(ByteBuffer.allocate(2), 0, 3));
+    }
+
+    private static void assertSame(String sample, Object expected, Object actual) {
+        if (expected instanceof Double && actual instanceof Double) {
+            assertEquals(Double.doubleToRawLongBits((Double) expected), Double.doubleToRawLongBits((Double) actual), () -> "'" + sample + "' " + expected + " != " + actual);
+        } else {
+            assertEquals(expected, actual, () -> "'" + sample + "'");
+        }
+    }
+
+    private static void assertSame(String sample, double expected, double actual) {
+        assertSame(sample, (Object) expected, (Object) actual);
+    }
+
+    private static Object jdk(String sample, Function<String, Object> parser) {
+        try {
+            return parser.apply(sample);
+        } catch (NumberFormatException ex) {
+            return NumberFormatException.class;
+        }
+    }
+
+    private static Object parsed(Parser parser) {
+        try {
+            return parser.parse();
+        } catch (NumberFormatException ex) {
+            return NumberFormatException.class;
+        }
+    }
+
+    private interface Parser {
+
+        Object parse();
+    }
+}